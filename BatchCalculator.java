@@ -0,0 +1,208 @@
+/**
+ * BatchCalculator runs a script of operations through the calculator
+ * without any menus or prompts.  Each line holds one operation and its
+ * operands, for example "add 3 4", "sqrt 16" or "factorial 10", and
+ * produces exactly one line of output.  "stat+ 4 8" adds numbers to
+ * running statistics without keeping them, and "stat mean" or any other
+ * statistic of StatsAccumulator.get gives the statistic so far, as does
+ * "stat median" or "stat p99", estimated by a QuantileSketch.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+public class BatchCalculator {
+
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final OperatorRegistry registry;
+    private final String[] tokens = new String[3];
+    private final StatsAccumulator statistics = new StatsAccumulator();
+    private final QuantileSketch quantiles = new QuantileSketch();
+
+    /**
+     * BatchCalculator is a constructor for a BatchCalculator object
+     *
+     * @param display : the Display whose math methods are used
+     */
+    public BatchCalculator(Display display) {
+        this(new OperatorRegistry(display));
+    }
+
+    /**
+     * BatchCalculator is a constructor for a BatchCalculator object
+     *
+     * @param registry : the operators the script may use
+     */
+    public BatchCalculator(OperatorRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * run evaluates every line of a script and writes one result per line.
+     * Blank lines and lines starting with '#' are skipped.  Output is
+     * buffered and only flushed once the whole batch has been written.
+     *
+     * @param in : the script to evaluate
+     * @param out : where the results are written
+     *
+     * @return the number of operations evaluated
+     */
+    public int run(BufferedReader in, Writer out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(out, OUTPUT_BUFFER_SIZE);
+        int count = 0;
+        String line;
+
+        while ((line = in.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            writer.write(evaluate(line));
+            writer.newLine();
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * evaluate calculates a single operation line
+     *
+     * @param line : an operator followed by its operands, e.g. "add 3 4"
+     *
+     * @return the result as text, or an error message
+     */
+    public String evaluate(String line) {
+        int n = split(line);
+        if (n == 0) {
+            return "Not a proper operator";
+        }
+        String command = tokens[0].toLowerCase();
+        if (command.equals("stat+") || command.equals("stat")) {
+            return statistics(command, n - 1);
+        }
+        Operator operator = registry.lookup(command);
+        if (operator == null) {
+            return "Not a proper operator";
+        }
+        int arity = operator.getArity();
+        if (n - 1 != arity) {
+            return arity == 1 ? "Error: expected 1 operand" : "Error: expected " + arity + " operands";
+        }
+        double x;
+        double y;
+
+        try {
+            x = Double.parseDouble(tokens[1]);
+            y = arity > 1 ? Double.parseDouble(tokens[2]) : 0;
+        } catch (NumberFormatException ex) {
+            return "Error: not a numerical value";
+        }
+        if (operator.check(x, y) != null) {
+            return "Error";
+        }
+        return Double.toString(operator.apply(x, y));
+    }
+
+    /**
+     * getStatistics is a getter for statistics
+     *
+     * @return the running statistics of the values added with "stat+"
+     */
+    public StatsAccumulator getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * getQuantiles is a getter for quantiles
+     *
+     * @return the quantile sketch of the values added with "stat+"
+     */
+    public QuantileSketch getQuantiles() {
+        return this.quantiles;
+    }
+
+    /**
+     * statistics adds values to the running statistics ("stat+ 4 8"),
+     * gives one of them ("stat mean", "stat p95"), all of them ("stat") or clears
+     * them ("stat clear")
+     *
+     * @return the count after adding, the statistic, or an error message
+     */
+    private String statistics(String command, int operands) {
+        if (command.equals("stat+")) {
+            if (operands == 0 || operands > 2) {
+                return operands == 0 ? "Error: expected 1 operand" : "Error: expected at most 2 operands";
+            }
+            double x;
+            double y;
+            try {
+                x = Double.parseDouble(tokens[1]);
+                y = operands > 1 ? Double.parseDouble(tokens[2]) : 0;
+            } catch (NumberFormatException ex) {
+                return "Error: not a numerical value";
+            }
+            statistics.add(x);
+            quantiles.add(x);
+            if (operands > 1) {
+                statistics.add(y);
+                quantiles.add(y);
+            }
+            return Long.toString(statistics.getCount());
+        }
+        if (operands == 0) {
+            return statistics.toString();
+        }
+        if (operands > 1) {
+            return "Error: expected 1 operand";
+        }
+        String name = tokens[1].toLowerCase();
+        if (name.equals("clear")) {
+            statistics.clear();
+            quantiles.clear();
+            return statistics.toString();
+        }
+        try {
+            return Double.toString(QuantileSketch.isQuantile(name) ? quantiles.get(name) : statistics.get(name));
+        } catch (IllegalArgumentException ex) {
+            return "Error: no statistic called " + name;
+        }
+    }
+
+    /**
+     * split breaks a line into at most three whitespace separated tokens
+     *
+     * @param line : a trimmed operation line
+     *
+     * @return the number of tokens found, or 4 if there were too many
+     */
+    private int split(String line) {
+        int n = 0;
+        int i = 0;
+        int length = line.length();
+
+        while (i < length) {
+            while (i < length && Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            if (n == tokens.length) {
+                return n + 1;
+            }
+            tokens[n++] = line.substring(start, i);
+        }
+        return n;
+    }
+}
@@ -0,0 +1,111 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+/**
+ * The test class BatchCalculatorTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class BatchCalculatorTest {
+
+    @Test
+    public void EvaluateBinaryTest(){
+
+        // Given
+        BatchCalculator batch = new BatchCalculator(new Display());
+
+        // When
+        String sum = batch.evaluate("add 3 4");
+        String quotient = batch.evaluate("/ 10 4");
+        String gcd = batch.evaluate("gcd 123 33");
+
+        // Then
+        Assert.assertEquals("7.0", sum);
+        Assert.assertEquals("2.5", quotient);
+        Assert.assertEquals("3.0", gcd);
+    }
+
+    @Test
+    public void EvaluateUnaryTest(){
+
+        // Given
+        BatchCalculator batch = new BatchCalculator(new Display());
+
+        // When
+        String root = batch.evaluate("sqrt 16");
+        String factorial = batch.evaluate("factorial 10");
+
+        // Then
+        Assert.assertEquals("4.0", root);
+        Assert.assertEquals("3628800.0", factorial);
+    }
+
+    @Test
+    public void EvaluateErrorTest(){
+
+        // Given
+        BatchCalculator batch = new BatchCalculator(new Display());
+
+        // When
+        String badOperator = batch.evaluate("frobnicate 1");
+        String badNumber = batch.evaluate("add one 2");
+        String divideByZero = batch.evaluate("divide 1 0");
+        String missingOperand = batch.evaluate("add 1");
+
+        // Then
+        Assert.assertEquals("Not a proper operator", badOperator);
+        Assert.assertEquals("Error: not a numerical value", badNumber);
+        Assert.assertEquals("Error", divideByZero);
+        Assert.assertEquals("Error: expected 2 operands", missingOperand);
+    }
+
+    @Test
+    public void StatisticsTest(){
+
+        // Given
+        BatchCalculator batch = new BatchCalculator(new Display());
+
+        // When
+        batch.evaluate("stat+ 1 2");
+        String count = batch.evaluate("stat+ 6");
+        String mean = batch.evaluate("stat mean");
+        String variance = batch.evaluate("STAT variance");
+        String max = batch.evaluate("stat max");
+        String median = batch.evaluate("stat median");
+        String p99 = batch.evaluate("stat p99");
+        String tooMany = batch.evaluate("stat+ 1 2 3");
+        String unknown = batch.evaluate("stat mode");
+        String summary = batch.evaluate("stat");
+
+        // Then
+        Assert.assertEquals("3", count);
+        Assert.assertEquals("3.0", mean);
+        Assert.assertEquals("7.0", variance);
+        Assert.assertEquals("6.0", max);
+        Assert.assertEquals("2.0", median);
+        Assert.assertEquals("6.0", p99);
+        Assert.assertEquals("Error: expected at most 2 operands", tooMany);
+        Assert.assertEquals("Error: no statistic called mode", unknown);
+        Assert.assertEquals("count 3, sum 9.0, mean 3.0, stddev 2.6457513110645907, min 1.0, max 6.0", summary);
+    }
+
+    @Test
+    public void RunTest() throws Exception {
+
+        // Given
+        BatchCalculator batch = new BatchCalculator(new Display());
+        String script = "add 3 4\n\n# a comment\nsqrt 16\n  ^2 3  \n";
+        StringWriter out = new StringWriter();
+
+        // When
+        int count = batch.run(new BufferedReader(new StringReader(script)), out);
+
+        // Then
+        Assert.assertEquals(3, count);
+        Assert.assertEquals("7.0\n4.0\n9.0\n", out.toString().replace("\r\n", "\n"));
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Benchmark is a small timing harness for the calculator's benchmark
+ * programs.  Each measurement is warmed up first so the JIT has compiled
+ * the code being timed, then the best of several timed rounds is kept.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class Benchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static volatile double sink;
+
+    // every measurement taken so far, by group and label
+    private static final Map<String, Double> results = new LinkedHashMap<>();
+    private static String group = "";
+
+    private Benchmark() {
+    }
+
+    /**
+     * consume keeps a result alive so the JIT cannot remove the work that
+     * produced it
+     *
+     * @param value : a result computed by the code being timed
+     */
+    public static void consume(double value) {
+        sink += value;
+    }
+
+    /**
+     * measure times a piece of code and prints the cost per operation
+     *
+     * @param label : name printed next to the measurement
+     * @param operations : how many operations one run of the body performs
+     * @param body : the code to time
+     *
+     * @return the best time per operation in nanoseconds
+     */
+    public static double measure(String label, long operations, Runnable body) {
+        return measure(label, operations, WARMUP_ROUNDS, MEASURED_ROUNDS, body);
+    }
+
+    /**
+     * measure times a piece of code with a chosen number of rounds, for
+     * bodies that are too slow to run the default number of times
+     *
+     * @param label : name printed next to the measurement
+     * @param operations : how many operations one run of the body performs
+     * @param warmupRounds : untimed runs before measuring
+     * @param measuredRounds : timed runs, of which the best is kept
+     * @param body : the code to time
+     *
+     * @return the best time per operation in nanoseconds
+     */
+    public static double measure(String label, long operations, int warmupRounds, int measuredRounds, Runnable body) {
+        for (int i = 0; i < warmupRounds; i++) {
+            body.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < measuredRounds; i++) {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double nanosPerOperation = (double) best / operations;
+        System.out.printf("%-40s %12.2f ns/op%n", label, nanosPerOperation);
+        results.put(group.isEmpty() ? label : group + "." + label, nanosPerOperation);
+        return nanosPerOperation;
+    }
+
+    /**
+     * setGroup sets the name that prefixes the labels of the following
+     * measurements in getResults
+     *
+     * @param name : usually the name of the benchmark class
+     */
+    public static void setGroup(String name) {
+        group = name;
+    }
+
+    /**
+     * getResults gives every measurement taken so far
+     *
+     * @return nanoseconds per operation, by group and label
+     */
+    public static Map<String, Double> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * BenchmarkSuite runs every benchmark program and can save the results or
+ * compare them with saved results to catch performance regressions.
+ *
+ * Run with: java BenchmarkSuite [--save results.tsv] [--compare baseline.tsv] [--tolerance 0.2]
+ *
+ * With --compare, any measurement more than the tolerance (20% by default)
+ * and more than 2 ns slower than the baseline is reported and the exit
+ * status is 1.  The 2 ns floor keeps timer noise on the cheapest
+ * operations from being reported.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BenchmarkSuite {
+
+    private static final double NOISE_NANOS = 2;
+
+    public static void main(String[] args) throws IOException {
+        String savePath = null;
+        String baselinePath = null;
+        double tolerance = 0.2;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--save" : savePath = args[i + 1]; break;
+                case "--compare" : baselinePath = args[i + 1]; break;
+                case "--tolerance" : tolerance = Double.parseDouble(args[i + 1]); break;
+                default : throw new IllegalArgumentException("Error.  Unknown option " + args[i]);
+            }
+        }
+
+        run("OperatorDispatchBenchmark", () -> OperatorDispatchBenchmark.main(new String[0]));
+        run("ExpressionCacheBenchmark", () -> ExpressionCacheBenchmark.main(new String[0]));
+        run("FactorialBenchmark", () -> FactorialBenchmark.main(new String[0]));
+        run("InputBenchmark", () -> InputBenchmark.main(new String[0]));
+        run("BinaryProtocolBenchmark", () -> {
+                try {
+                    BinaryProtocolBenchmark.main(new String[0]);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        run("MemoryBenchmark", () -> {
+                try {
+                    MemoryBenchmark.main(new String[0]);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        run("HistoryBenchmark", () -> {
+                try {
+                    HistoryBenchmark.main(new String[0]);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        run("TrigBenchmark", () -> TrigBenchmark.main(new String[0]));
+        run("FastMathBenchmark", () -> FastMathBenchmark.main(new String[0]));
+        run("BigDecimalBenchmark", () -> BigDecimalBenchmark.main(new String[0]));
+        run("IntegerPowerBenchmark", () -> IntegerPowerBenchmark.main(new String[0]));
+        run("ParallelEvaluatorBenchmark", () -> ParallelEvaluatorBenchmark.main(new String[0]));
+        run("StatsBenchmark", () -> StatsBenchmark.main(new String[0]));
+        run("CsvColumnBenchmark", () -> {
+                try {
+                    CsvColumnBenchmark.main(new String[0]);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        run("QuantileBenchmark", () -> QuantileBenchmark.main(new String[0]));
+
+        Map<String, Double> results = Benchmark.getResults();
+        if (savePath != null) {
+            List<String> lines = new ArrayList<>();
+            for (Map.Entry<String, Double> result : results.entrySet()) {
+                lines.add(result.getKey() + "\t" + result.getValue());
+            }
+            Files.write(Paths.get(savePath), lines, StandardCharsets.UTF_8);
+        }
+        if (baselinePath != null && compare(read(baselinePath), results, tolerance) > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void run(String name, Runnable benchmark) {
+        System.out.println("\n" + name);
+        Benchmark.setGroup(name);
+        benchmark.run();
+    }
+
+    private static Map<String, Double> read(String path) throws IOException {
+        Map<String, Double> baseline = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8)) {
+            int tab = line.lastIndexOf('\t');
+            if (tab > 0) {
+                baseline.put(line.substring(0, tab), Double.parseDouble(line.substring(tab + 1)));
+            }
+        }
+        return baseline;
+    }
+
+    /**
+     * compare prints how each measurement changed from the baseline
+     *
+     * @return the number of measurements that got slower than allowed
+     */
+    private static int compare(Map<String, Double> baseline, Map<String, Double> results, double tolerance) {
+        int regressions = 0;
+        System.out.println("\nCompared with baseline");
+        for (Map.Entry<String, Double> result : results.entrySet()) {
+            Double before = baseline.get(result.getKey());
+            if (before == null) {
+                continue;
+            }
+            double ratio = result.getValue() / before;
+            boolean regressed = ratio > 1 + tolerance && result.getValue() - before > NOISE_NANOS;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-60s %8.2fx%s%n", result.getKey(), ratio, regressed ? "  REGRESSION" : "");
+        }
+        System.out.println(regressions + " regression" + (regressions == 1 ? "" : "s"));
+        return regressions;
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * BigDecimalBenchmark times the arbitrary precision mode at 1000 digits.
+ * It compares BigDecimalCalculator's square root, Newton's method in
+ * fixed point with the precision doubled each step, against Newton's
+ * method on BigDecimal at full precision throughout and against
+ * BigDecimal.sqrt, and times the other functions and a plain addition.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.function.Supplier;
+
+public class BigDecimalBenchmark {
+
+    private static final int DIGITS = 1000;
+    private static final int REPEATS = 10;
+
+    public static void main(String[] args) {
+        BigDecimalCalculator calculator = new BigDecimalCalculator(DIGITS);
+        MathContext mathContext = calculator.getMathContext();
+        BigDecimal two = BigDecimal.valueOf(2);
+        BigDecimal three = BigDecimal.valueOf(3);
+        BigDecimal tenth = new BigDecimal("0.1");
+        BigDecimal fifth = new BigDecimal("0.2");
+
+        Benchmark.measure("add 0.1 + 0.2", 100_000, () -> {
+                for (int i = 0; i < 100_000; i++) {
+                    Benchmark.consume(calculator.add(tenth, fifth).scale());
+                }
+            });
+        measure("sqrt 2, BigDecimalCalculator", () -> calculator.squareRoot(two));
+        measure("sqrt 2, Newton on BigDecimal", () -> fullPrecisionSqrt(two, mathContext));
+        measure("sqrt 2, BigDecimal.sqrt", () -> two.sqrt(mathContext));
+        measure("cbrt 3", () -> calculator.cubicRoot(three));
+        measure("exp 1", () -> calculator.exp(BigDecimal.ONE));
+        measure("ln 3", () -> calculator.ln(three));
+        measure("sin 3", () -> calculator.sin(three));
+        measure("1.5 ^ 100.5", () -> calculator.exponent(new BigDecimal("1.5"), new BigDecimal("100.5")));
+        measure("pi, uncached", () -> new BigDecimalCalculator(DIGITS).pi());
+    }
+
+    private static void measure(String label, Supplier<BigDecimal> body) {
+        Benchmark.measure(label + ", " + DIGITS + " digits", REPEATS, 3, 5, () -> {
+                for (int i = 0; i < REPEATS; i++) {
+                    Benchmark.consume(body.get().scale());
+                }
+            });
+    }
+
+    /**
+     * fullPrecisionSqrt runs Newton's method for the square root with
+     * every step at the full precision
+     */
+    private static BigDecimal fullPrecisionSqrt(BigDecimal x, MathContext mathContext) {
+        BigDecimal two = BigDecimal.valueOf(2);
+        BigDecimal y = new BigDecimal(Math.sqrt(x.doubleValue()));
+        BigDecimal last = BigDecimal.ZERO;
+        while (y.compareTo(last) != 0) {
+            last = y;
+            y = y.add(x.divide(y, mathContext)).divide(two, mathContext);
+        }
+        return y;
+    }
+}
@@ -0,0 +1,715 @@
+/**
+ * BigDecimalCalculator does the calculator's math in decimal to any
+ * number of digits, so 0.1 + 0.2 is exactly 0.3 and large whole numbers
+ * keep every digit.  Results are rounded to its MathContext.
+ *
+ * Roots and logarithms use Newton's method starting from the double
+ * result, doubling the working precision with each step, since every
+ * step doubles the number of correct digits; only the last step runs at
+ * full precision.  exp and the trigonometric functions use their Taylor
+ * series after reducing the argument, and pi comes from the
+ * Gauss-Legendre iteration.  Constants are kept once computed.  These
+ * work in binary fixed point and only turn the result into a decimal at
+ * the end.
+ *
+ * A BigDecimalCalculator is not synchronized.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+public class BigDecimalCalculator {
+
+    // extra digits carried through a calculation and rounded off at the end
+    private static final int GUARD_DIGITS = 10;
+    // bits a double gives Newton's method to start from
+    private static final int DOUBLE_BITS = 50;
+    private static final double BITS_PER_DIGIT = 3.3219280948873626;
+
+    private static final BigDecimal MAX_WHOLE_EXPONENT = BigDecimal.valueOf(999999999);
+    // the largest power of ten a result is scaled by, well inside a BigDecimal's scale
+    private static final BigInteger MAX_POWER_OF_TEN = BigInteger.valueOf(999999999);
+    // log10 |y ln x| past which x^y is certainly out of range, e^(10^10) being 10^(4.3 * 10^9)
+    private static final double MAX_LOG10_POWER = 10;
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+    private static final BigDecimal FULL_TURN = BigDecimal.valueOf(360);
+    private static final BigDecimal HALF_TURN = BigDecimal.valueOf(180);
+    private static final BigDecimal RIGHT_ANGLE = BigDecimal.valueOf(90);
+
+    private final MathContext mathContext;
+    // pi and ln 10 in fixed point, once computed, with their bits after the point
+    private BigInteger pi;
+    private int piBits;
+    private BigInteger ln10;
+    private int ln10Bits;
+
+    /**
+     * BigDecimalCalculator is a constructor for a BigDecimalCalculator
+     * object
+     *
+     * @param mathContext : the precision and rounding of every result
+     */
+    public BigDecimalCalculator(MathContext mathContext) {
+        if (mathContext.getPrecision() == 0) {
+            throw new IllegalArgumentException("Error.  The precision must be at least 1 digit");
+        }
+        this.mathContext = mathContext;
+    }
+
+    /**
+     * BigDecimalCalculator is a constructor for a calculator rounding half
+     * even to a number of digits
+     *
+     * @param digits : the number of significant digits of every result
+     */
+    public BigDecimalCalculator(int digits) {
+        this(new MathContext(digits, RoundingMode.HALF_EVEN));
+    }
+
+    /**
+     * getMathContext is a getter for mathContext
+     *
+     * @return the precision and rounding of every result
+     */
+    public MathContext getMathContext() {
+        return this.mathContext;
+    }
+
+    /**
+     * apply calculates an operator of the OperatorRegistry by name
+     *
+     * @param name : the operator's name, e.g. "add" or "sqrt"
+     * @param x : the first operand
+     * @param y : the second operand, ignored by operators taking one operand
+     *
+     * @return the result
+     * @throws ArithmeticException if the operands are outside the operator's domain
+     * @throws IllegalArgumentException if the operator has no decimal version
+     */
+    public BigDecimal apply(String name, BigDecimal x, BigDecimal y) {
+        switch (name) {
+            case "add" : return add(x, y);
+            case "subtract" : return subtract(x, y);
+            case "multiply" : return multiply(x, y);
+            case "divide" : return divide(x, y);
+            case "mod" : return modulus(x, y);
+            case "exponent" : return exponent(x, y);
+            case "^2" : return multiply(x, x);
+            case "sqrt" : return squareRoot(x);
+            case "cbrt" : return cubicRoot(x);
+            case "inverse" : return divide(BigDecimal.ONE, x);
+            case "invertsign" : return x.negate(mathContext);
+            case "sin" : return sin(x);
+            case "cos" : return cos(x);
+            case "tan" : return tan(x);
+            case "sind" : return sinDegrees(x);
+            case "cosd" : return cosDegrees(x);
+            case "tand" : return tanDegrees(x);
+            default :
+                throw new IllegalArgumentException("Error.  " + name + " is not available in arbitrary precision");
+        }
+    }
+
+    /**
+     * add calculates the sum of two numbers
+     *
+     * @param x : a number
+     * @param y : a number
+     *
+     * @return x + y
+     */
+    public BigDecimal add(BigDecimal x, BigDecimal y) {
+        return x.add(y, mathContext);
+    }
+
+    /**
+     * subtract calculates the difference of two numbers
+     *
+     * @param x : a number
+     * @param y : a number
+     *
+     * @return x - y
+     */
+    public BigDecimal subtract(BigDecimal x, BigDecimal y) {
+        return x.subtract(y, mathContext);
+    }
+
+    /**
+     * multiply calculates the product of two numbers
+     *
+     * @param x : a number
+     * @param y : a number
+     *
+     * @return x * y
+     */
+    public BigDecimal multiply(BigDecimal x, BigDecimal y) {
+        return x.multiply(y, mathContext);
+    }
+
+    /**
+     * divide calculates the quotient of two numbers
+     *
+     * @param x : a number
+     * @param y : a number that is not 0
+     *
+     * @return x / y
+     * @throws ArithmeticException if y is 0
+     */
+    public BigDecimal divide(BigDecimal x, BigDecimal y) {
+        if (y.signum() == 0) {
+            throw new ArithmeticException("Error.  Cannot divide by 0.");
+        }
+        return x.divide(y, mathContext);
+    }
+
+    /**
+     * modulus calculates the remainder of dividing two numbers, with the
+     * sign of x like the % operator
+     *
+     * @param x : a number
+     * @param y : a number that is not 0
+     *
+     * @return x % y
+     * @throws ArithmeticException if y is 0
+     */
+    public BigDecimal modulus(BigDecimal x, BigDecimal y) {
+        if (y.signum() == 0) {
+            throw new ArithmeticException("Error.  Cannot divide by 0.");
+        }
+        return x.remainder(y).round(mathContext);
+    }
+
+
+    /**
+     * exponent calculates the value of a number raised to an exponent,
+     * with BigDecimal.pow for whole exponents, which is within 2 ulps, and
+     * as exp(y ln x) otherwise.  Powers too small for a BigDecimal are 0.
+     *
+     * @param x : a number
+     * @param y : a number that is the exponent value
+     *
+     * @return x raised to the power y
+     * @throws ArithmeticException if x is negative and y is not whole, x
+     *         is 0 and y is negative, or the power is too large
+     */
+    public BigDecimal exponent(BigDecimal x, BigDecimal y) {
+        if (isWhole(y) && y.abs().compareTo(MAX_WHOLE_EXPONENT) <= 0) {
+            if (x.signum() == 0 && y.signum() < 0) {
+                throw new ArithmeticException("Error.  Cannot divide by 0.");
+            }
+            return x.pow(y.intValueExact(), mathContext);
+        }
+        if (x.signum() <= 0) {
+            throw new ArithmeticException("Error.  " + x + " has no real power " + y);
+        }
+        if (x.compareTo(BigDecimal.ONE) == 0) {
+            return BigDecimal.ONE;
+        }
+        // checked first, since the power's digits would take forever to compute
+        if (log10OfPower(x, y) > MAX_LOG10_POWER) {
+            return outOfRange((x.compareTo(BigDecimal.ONE) > 0) == (y.signum() > 0));
+        }
+        // an error e in y ln x is a relative error e in the result, so
+        // y ln x needs as many bits after the point as the result has
+        int bits = bits(GUARD_DIGITS) + Math.max(0, (y.precision() - y.scale()) * 4);
+        BigInteger power = toFixed(y, bits).multiply(lnFixed(x, bits)).shiftRight(bits);
+        return exp(power, bits);
+    }
+
+    /**
+     * squareRoot calculates the square root of a number
+     *
+     * @param x : a number that is not negative
+     *
+     * @return the square root of x
+     * @throws ArithmeticException if x is negative
+     */
+    public BigDecimal squareRoot(BigDecimal x) {
+        return root(x, 2);
+    }
+
+    /**
+     * cubicRoot calculates the cubic root of a number
+     *
+     * @param x : a number
+     *
+     * @return the cubic root of x
+     */
+    public BigDecimal cubicRoot(BigDecimal x) {
+        return root(x, 3);
+    }
+
+    /**
+     * exp calculates e raised to a power
+     *
+     * @param x : the power
+     *
+     * @return e^x, or 0 if it is too small for a BigDecimal
+     * @throws ArithmeticException if e^x is too large for a BigDecimal
+     */
+    public BigDecimal exp(BigDecimal x) {
+        if (x.signum() != 0 && exponentOf(x) >= MAX_LOG10_POWER) {
+            return outOfRange(x.signum() > 0);
+        }
+        int bits = bits(GUARD_DIGITS) + Math.max(0, (int) ((x.precision() - x.scale()) * BITS_PER_DIGIT));
+        return exp(toFixed(x, bits), bits);
+    }
+
+    /**
+     * ln calculates the natural logarithm of a number
+     *
+     * @param x : a number greater than 0
+     *
+     * @return ln x
+     * @throws ArithmeticException if x is not greater than 0
+     */
+    public BigDecimal ln(BigDecimal x) {
+        // close to 1 the logarithm is small, so carry the digits it loses
+        int bits = bits(GUARD_DIGITS) + Math.max(0, (int) (-exponentOf(x.subtract(BigDecimal.ONE)) * BITS_PER_DIGIT));
+        return fromFixed(lnFixed(x, bits), bits);
+    }
+
+    /**
+     * pi gives pi to the calculator's precision
+     *
+     * @return pi
+     */
+    public BigDecimal pi() {
+        int bits = bits(GUARD_DIGITS);
+        return fromFixed(piFixed(bits), bits);
+    }
+
+    /**
+     * sin calculates the sine of an angle in radians
+     *
+     * @param x : the angle
+     *
+     * @return the sin of the angle
+     */
+    public BigDecimal sin(BigDecimal x) {
+        return sin(reduce(x));
+    }
+
+    /**
+     * cos calculates the cosine of an angle in radians
+     *
+     * @param x : the angle
+     *
+     * @return the cos of the angle
+     */
+    public BigDecimal cos(BigDecimal x) {
+        return cos(reduce(x));
+    }
+
+    /**
+     * tan calculates the tangent of an angle in radians
+     *
+     * @param x : the angle
+     *
+     * @return the tan of the angle
+     */
+    public BigDecimal tan(BigDecimal x) {
+        return tan(reduce(x), x);
+    }
+
+    /*
+     * The degree functions reduce the angle in decimal as DegreeMath does,
+     * which is exact: whole turns come off, then the nearest multiple of
+     * 90 degrees picks the quadrant, and only the angle left, from -45 to
+     * 45 degrees, is turned into radians.  Multiples of 90 degrees so give
+     * exactly 0, 1 or -1.
+     */
+
+    private BigDecimal sinDegrees(BigDecimal degrees) {
+        return sin(reduceDegrees(degrees, FULL_TURN));
+    }
+
+    private BigDecimal cosDegrees(BigDecimal degrees) {
+        return cos(reduceDegrees(degrees, FULL_TURN));
+    }
+
+    private BigDecimal tanDegrees(BigDecimal degrees) {
+        return tan(reduceDegrees(degrees, HALF_TURN), degrees);
+    }
+
+    /**
+     * sin(90 q + r) is sin r, cos r, -sin r or -cos r
+     */
+    private BigDecimal sin(Reduction angle) {
+        BigInteger value = (angle.quadrant & 1) == 0 ? sinFixed(angle.r, angle.bits) : cosFixed(angle.r, angle.bits);
+        return fromFixed((angle.quadrant & 2) == 0 ? value : value.negate(), angle.bits);
+    }
+
+    /**
+     * cos(90 q + r) is cos r, -sin r, -cos r or sin r
+     */
+    private BigDecimal cos(Reduction angle) {
+        BigInteger value = (angle.quadrant & 1) == 0 ? cosFixed(angle.r, angle.bits) : sinFixed(angle.r, angle.bits);
+        return fromFixed(((angle.quadrant + 1) & 2) == 0 ? value : value.negate(), angle.bits);
+    }
+
+    /**
+     * tan(90 q + r) is tan r, or -cot r for odd q
+     */
+    private BigDecimal tan(Reduction angle, BigDecimal x) {
+        // divided unrounded, so the quotient is rounded only once
+        BigDecimal sin = fromFixedExact(sinFixed(angle.r, angle.bits), angle.bits);
+        BigDecimal cos = fromFixedExact(cosFixed(angle.r, angle.bits), angle.bits);
+        if ((angle.quadrant & 1) == 0) {
+            return sin.divide(cos, mathContext);
+        }
+        if (angle.r.signum() == 0) {
+            throw new ArithmeticException("Error.  tan " + x + " is undefined");
+        }
+        return cos.divide(sin, mathContext).negate();
+    }
+
+    /**
+     * reduce takes the nearest multiple of pi / 2 off an angle in radians.
+     * The angle left, from -pi / 4 to pi / 4, is the size of a sine close
+     * to 0, so the angle is reduced again with more bits until it has the
+     * significant bits the result needs, plus those the multiple of pi / 2
+     * takes from it.
+     */
+    private Reduction reduce(BigDecimal x) {
+        int precision = bits(GUARD_DIGITS);
+        int bits = trigBits(x);
+        if (x.signum() == 0) {
+            return new Reduction(BigInteger.ZERO, 0, bits);
+        }
+        while (true) {
+            BigInteger halfPi = piFixed(bits).shiftRight(1);
+            BigInteger quarterPi = halfPi.shiftRight(1);
+            BigInteger[] turns = toFixed(x, bits).add(quarterPi).divideAndRemainder(halfPi);
+            BigInteger quadrant = turns[0];
+            BigInteger r = turns[1];
+            if (r.signum() < 0) {
+                quadrant = quadrant.subtract(BigInteger.ONE);
+                r = r.add(halfPi);
+            }
+            r = r.subtract(quarterPi);
+            int missing = precision + quadrant.bitLength() - r.bitLength();
+            if (missing <= 0) {
+                // only the quadrant's last two bits matter
+                return new Reduction(r, quadrant.intValue(), bits);
+            }
+            bits += missing + 32;
+        }
+    }
+
+    /**
+     * reduceDegrees takes whole periods and then the nearest multiple of
+     * 90 degrees off an angle in degrees, exactly, and turns what is left
+     * into radians, with as many more bits as it has zeros after the point
+     */
+    private Reduction reduceDegrees(BigDecimal degrees, BigDecimal period) {
+        BigDecimal r = degrees.remainder(period);
+        int quadrant = r.divide(RIGHT_ANGLE, 0, RoundingMode.HALF_EVEN).intValueExact();
+        BigDecimal d = r.subtract(RIGHT_ANGLE.multiply(BigDecimal.valueOf(quadrant)));
+        int bits = bits(GUARD_DIGITS);
+        if (d.signum() != 0) {
+            bits += (int) Math.ceil(Math.max(0, -exponentOf(d)) * BITS_PER_DIGIT);
+        }
+        BigInteger radians = toFixed(d, bits).multiply(piFixed(bits)).shiftRight(bits).divide(BigInteger.valueOf(180));
+        return new Reduction(radians, quadrant, bits);
+    }
+
+    /**
+     * Reduction is an angle less a whole number of right angles: r, from
+     * -pi / 4 to pi / 4 in fixed point, and the number of right angles
+     */
+    private static final class Reduction {
+
+        private final BigInteger r;
+        private final int quadrant;
+        private final int bits;
+
+        Reduction(BigInteger r, int quadrant, int bits) {
+            this.r = r;
+            this.quadrant = quadrant;
+            this.bits = bits;
+        }
+    }
+
+    /**
+     * root calculates the n-th root of x.  x is first scaled by a power of
+     * 10^n to between 1 and 10^n, so its double estimate is in range.
+     */
+    private BigDecimal root(BigDecimal x, int n) {
+        if (x.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        if (x.signum() < 0) {
+            if (n % 2 == 0) {
+                throw new ArithmeticException("Error.  " + x + " has no real square root");
+            }
+            return root(x.negate(), n).negate();
+        }
+        int shift = Math.floorDiv(exponentOf(x), n);
+        BigDecimal scaled = x.scaleByPowerOfTen(-shift * n);
+        int bits = bits(GUARD_DIGITS);
+        BigInteger y = rootFixed(toFixed(scaled, bits), n, bits);
+        return fromFixed(y, bits).scaleByPowerOfTen(shift).round(mathContext);
+    }
+
+    /**
+     * exp gives e^x rounded to the calculator's precision.  x is split into
+     * n ln 10 + r with r smaller than ln 10, so e^x is e^r * 10^n and the
+     * series only ever sums a small power; ln 10 carries 32 more bits for
+     * the error n multiplies.
+     */
+    private BigDecimal exp(BigInteger x, int bits) {
+        int work = bits + 32;
+        BigInteger[] split = x.shiftLeft(32).divideAndRemainder(ln10Fixed(work));
+        if (split[0].abs().compareTo(MAX_POWER_OF_TEN) > 0) {
+            return outOfRange(x.signum() > 0);
+        }
+        BigInteger r = split[1].shiftRight(32);
+        BigDecimal e = fromFixedExact(expFixed(r.abs(), bits), bits);
+        BigDecimal result = r.signum() < 0 ? BigDecimal.ONE.divide(e, mathContext) : e.round(mathContext);
+        return result.scaleByPowerOfTen(split[0].intValue());
+    }
+
+    /**
+     * outOfRange gives the result of a power beyond a BigDecimal's scale:
+     * an overflow if it is large, or 0 if it is small
+     */
+    private static BigDecimal outOfRange(boolean large) {
+        if (large) {
+            throw new ArithmeticException("Overflow");
+        }
+        return BigDecimal.ZERO;
+    }
+
+    /**
+     * log10OfPower estimates log10 |y ln x| from the leading digits of x
+     * and y, within a fraction of a digit, for x positive and not 1
+     */
+    private static double log10OfPower(BigDecimal x, BigDecimal y) {
+        BigDecimal difference = x.subtract(BigDecimal.ONE);
+        double log10OfLn;
+        if (difference.abs().compareTo(HALF) < 0) {
+            // close to 1, ln x is about x - 1
+            log10OfLn = log10(difference.abs());
+        } else {
+            int e = exponentOf(x);
+            log10OfLn = Math.log10(Math.abs(Math.log(x.scaleByPowerOfTen(-e).doubleValue()) + e * Math.log(10)));
+        }
+        return log10(y.abs()) + log10OfLn;
+    }
+
+    /**
+     * log10 gives the logarithm of a positive number of any size as a double
+     */
+    private static double log10(BigDecimal x) {
+        int e = exponentOf(x);
+        return e + Math.log10(x.scaleByPowerOfTen(-e).doubleValue());
+    }
+
+    /*
+     * The functions below work on fixed point numbers: a BigInteger n with
+     * a number of bits after the point stands for n / 2^bits.  Shifts then
+     * do the rounding that would otherwise take a division by a power of
+     * ten, which is what makes 1000 digits take milliseconds.
+     */
+
+    /**
+     * rootFixed finds the n-th root of x by Newton's method, y = ((n - 1) y
+     * + x / y^(n - 1)) / n, starting from the double estimate.  Each step
+     * doubles the correct bits, so each runs at twice the precision of the
+     * one before and only the last runs at full precision.
+     */
+    private static BigInteger rootFixed(BigInteger x, int n, int bits) {
+        double estimate = n == 2 ? Math.sqrt(toDouble(x, bits)) : Math.cbrt(toDouble(x, bits));
+        int precision = DOUBLE_BITS;
+        BigInteger y = toFixed(new BigDecimal(estimate), precision);
+        BigInteger below = BigInteger.valueOf(n - 1);
+        BigInteger degree = BigInteger.valueOf(n);
+        while (precision < bits) {
+            int next = Math.min(2 * precision, bits);
+            y = y.shiftLeft(next - precision);
+            precision = next;
+            BigInteger power = n == 2 ? y : y.multiply(y).shiftRight(precision);
+            BigInteger quotient = x.shiftRight(bits - precision).shiftLeft(precision).divide(power);
+            y = below.multiply(y).add(quotient).divide(degree);
+        }
+        return y;
+    }
+
+    /**
+     * expFixed sums the Taylor series of e^r for r = x / 2^k, small enough
+     * that few terms are needed, then squares the sum k times.  Every
+     * squaring doubles the relative error, so the work carries k more bits.
+     */
+    private static BigInteger expFixed(BigInteger x, int bits) {
+        int k = (int) Math.sqrt(bits) + Math.max(0, x.bitLength() - bits);
+        int work = bits + k + 8;
+        // x / 2^k with work bits after the point
+        BigInteger r = x.shiftLeft(8);
+        BigInteger one = BigInteger.ONE.shiftLeft(work);
+        BigInteger sum = one.add(r);
+        BigInteger term = r;
+        for (int i = 2; term.signum() != 0; i++) {
+            term = term.multiply(r).shiftRight(work).divide(BigInteger.valueOf(i));
+            sum = sum.add(term);
+        }
+        for (int i = 0; i < k; i++) {
+            sum = sum.multiply(sum).shiftRight(work);
+        }
+        return sum.shiftRight(work - bits);
+    }
+
+    /**
+     * lnFixed writes x as u * 10^e with u from 1 to 10, so ln x = ln u +
+     * e ln 10
+     */
+    private BigInteger lnFixed(BigDecimal x, int bits) {
+        if (x.signum() <= 0) {
+            throw new ArithmeticException("Error.  " + x + " has no logarithm");
+        }
+        int e = exponentOf(x);
+        BigInteger result = lnNewton(toFixed(x.scaleByPowerOfTen(-e), bits), bits);
+        if (e != 0) {
+            result = result.add(ln10Fixed(bits).multiply(BigInteger.valueOf(e)));
+        }
+        return result;
+    }
+
+    /**
+     * lnNewton finds y with e^y = u by Newton's method, y = y + 2 (u - e^y)
+     * / (u + e^y), doubling the precision with each step
+     */
+    private static BigInteger lnNewton(BigInteger u, int bits) {
+        int precision = DOUBLE_BITS;
+        BigInteger y = toFixed(new BigDecimal(Math.log(toDouble(u, bits))), precision);
+        while (precision < bits) {
+            int next = Math.min(2 * precision, bits);
+            y = y.shiftLeft(next - precision);
+            precision = next;
+            BigInteger v = u.shiftRight(bits - precision);
+            BigInteger e = expFixed(y, precision);
+            y = y.add(v.subtract(e).shiftLeft(precision + 1).divide(v.add(e)));
+        }
+        return y;
+    }
+
+    private BigInteger ln10Fixed(int bits) {
+        if (ln10Bits < bits) {
+            ln10 = lnNewton(BigInteger.TEN.shiftLeft(bits), bits);
+            ln10Bits = bits;
+        }
+        return ln10.shiftRight(ln10Bits - bits);
+    }
+
+    /**
+     * piFixed runs the Gauss-Legendre iteration, which doubles the correct
+     * digits of pi with each step
+     */
+    private BigInteger piFixed(int bits) {
+        if (piBits < bits) {
+            int work = bits + 32;
+            BigInteger one = BigInteger.ONE.shiftLeft(work);
+            BigInteger a = one;
+            BigInteger b = rootFixed(one.shiftRight(1), 2, work);
+            BigInteger t = one.shiftRight(2);
+            int p = 0;
+            while (a.subtract(b).bitLength() > 16) {
+                BigInteger next = a.add(b).shiftRight(1);
+                b = rootFixed(a.multiply(b).shiftRight(work), 2, work);
+                BigInteger d = a.subtract(next);
+                t = t.subtract(d.multiply(d).shiftRight(work - p));
+                a = next;
+                p++;
+            }
+            BigInteger sum = a.add(b);
+            pi = sum.multiply(sum).divide(t.shiftLeft(2)).shiftRight(32);
+            piBits = bits;
+        }
+        return pi.shiftRight(piBits - bits);
+    }
+
+    private static BigInteger sinFixed(BigInteger r, int bits) {
+        BigInteger r2 = r.multiply(r).shiftRight(bits).negate();
+        BigInteger term = r;
+        BigInteger sum = r;
+        for (long i = 2; term.signum() != 0; i += 2) {
+            term = term.multiply(r2).shiftRight(bits).divide(BigInteger.valueOf(i * (i + 1)));
+            sum = sum.add(term);
+        }
+        return sum;
+    }
+
+    private static BigInteger cosFixed(BigInteger r, int bits) {
+        BigInteger r2 = r.multiply(r).shiftRight(bits).negate();
+        BigInteger term = BigInteger.ONE.shiftLeft(bits);
+        BigInteger sum = term;
+        for (long i = 1; term.signum() != 0; i += 2) {
+            term = term.multiply(r2).shiftRight(bits).divide(BigInteger.valueOf(i * (i + 1)));
+            sum = sum.add(term);
+        }
+        return sum;
+    }
+
+    /**
+     * bits gives the bits after the point needed for the calculator's
+     * precision plus some extra digits
+     */
+    private int bits(int extraDigits) {
+        return (int) Math.ceil((mathContext.getPrecision() + extraDigits) * BITS_PER_DIGIT);
+    }
+
+    /**
+     * trigBits gives the bits needed to reduce an angle, which loses as
+     * many leading digits as the angle has before the point
+     */
+    private int trigBits(BigDecimal x) {
+        return bits(GUARD_DIGITS) + (int) (Math.max(0, exponentOf(x)) * BITS_PER_DIGIT);
+    }
+
+    private static BigInteger toFixed(BigDecimal x, int bits) {
+        return x.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(bits))).setScale(0, RoundingMode.HALF_EVEN)
+            .toBigIntegerExact();
+    }
+
+    /**
+     * fromFixed turns a fixed point number into a decimal rounded to the
+     * calculator's precision
+     */
+    private BigDecimal fromFixed(BigInteger x, int bits) {
+        return fromFixedExact(x, bits).round(mathContext);
+    }
+
+    /**
+     * fromFixedExact turns a fixed point number into the decimal with the
+     * same value, x * 5^bits / 10^bits
+     */
+    private static BigDecimal fromFixedExact(BigInteger x, int bits) {
+        return new BigDecimal(x.multiply(BigInteger.valueOf(5).pow(bits)), bits);
+    }
+
+    /**
+     * toDouble gives the nearest double to a fixed point number between
+     * about 2^-900 and 2^900
+     */
+    private static double toDouble(BigInteger x, int bits) {
+        int excess = Math.max(0, x.bitLength() - 64);
+        return Math.scalb(x.shiftRight(excess).doubleValue(), excess - bits);
+    }
+
+    /**
+     * exponentOf gives the power of ten of a number's leading digit, so
+     * 123.4 gives 2 and 0.05 gives -2
+     */
+    private static int exponentOf(BigDecimal x) {
+        return x.precision() - x.scale() - 1;
+    }
+
+    private static boolean isWhole(BigDecimal x) {
+        return x.signum() == 0 || x.stripTrailingZeros().scale() <= 0;
+    }
+}
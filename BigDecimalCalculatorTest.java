@@ -0,0 +1,211 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * The test class BigDecimalCalculatorTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class BigDecimalCalculatorTest {
+
+    // pi and e to 60 digits
+    private static final String PI = "3.14159265358979323846264338327950288419716939937510582097494";
+    private static final String E = "2.71828182845904523536028747135266249775724709369995957496697";
+
+    @Test
+    public void ArithmeticTest(){
+
+        // Given
+        BigDecimalCalculator calculator = new BigDecimalCalculator(40);
+
+        // When
+        BigDecimal sum = calculator.add(new BigDecimal("0.1"), new BigDecimal("0.2"));
+        BigDecimal product = calculator.multiply(new BigDecimal("123456789012345678901"), new BigDecimal("1000000000000000000000"));
+        BigDecimal quotient = calculator.divide(BigDecimal.ONE, new BigDecimal("3"));
+        BigDecimal remainder = calculator.modulus(new BigDecimal("-7.5"), new BigDecimal("2"));
+
+        // Then
+        Assert.assertEquals(new BigDecimal("0.3"), sum);
+        Assert.assertEquals(0, new BigDecimal("123456789012345678901E21").compareTo(product));
+        Assert.assertEquals(new BigDecimal("0." + "3".repeat(40)), quotient);
+        Assert.assertEquals(new BigDecimal("-1.5"), remainder);
+    }
+
+    @Test
+    public void ExponentTest(){
+
+        // Given
+        BigDecimalCalculator calculator = new BigDecimalCalculator(50);
+
+        // When
+        BigDecimal whole = calculator.exponent(new BigDecimal("2"), new BigDecimal("100"));
+        BigDecimal negative = calculator.exponent(new BigDecimal("2"), new BigDecimal("-2"));
+        BigDecimal half = calculator.exponent(new BigDecimal("2"), new BigDecimal("0.5"));
+
+        // Then
+        Assert.assertEquals(new BigDecimal("1267650600228229401496703205376"), whole);
+        Assert.assertEquals(new BigDecimal("0.25"), negative);
+        Assert.assertEquals(calculator.squareRoot(new BigDecimal("2")), half);
+    }
+
+    @Test
+    public void RootTest(){
+
+        // Given
+        BigDecimalCalculator calculator = new BigDecimalCalculator(1000);
+
+        // When
+        BigDecimal root = calculator.squareRoot(new BigDecimal("2"));
+        BigDecimal cube = calculator.cubicRoot(new BigDecimal("-27"));
+        BigDecimal tiny = calculator.squareRoot(new BigDecimal("1E-301"));
+
+        // Then
+        Assert.assertEquals(new BigDecimal("2").sqrt(calculator.getMathContext()), root);
+        Assert.assertEquals(0, new BigDecimal("-3").compareTo(cube));
+        Assert.assertEquals(new BigDecimal("1E-301").sqrt(calculator.getMathContext()), tiny);
+    }
+
+    @Test
+    public void TranscendentalTest(){
+
+        // Given
+        BigDecimalCalculator calculator = new BigDecimalCalculator(55);
+
+        // Then
+        Assert.assertEquals(new BigDecimal(PI).round(calculator.getMathContext()), calculator.pi());
+        Assert.assertEquals(new BigDecimal(E).round(calculator.getMathContext()), calculator.exp(BigDecimal.ONE));
+        Assert.assertEquals(new BigDecimal(E).round(calculator.getMathContext()), calculator.exp(calculator.ln(new BigDecimal(E))));
+        Assert.assertEquals(0, BigDecimal.ONE.compareTo(calculator.ln(new BigDecimal(E))
+                                                        .setScale(50, RoundingMode.HALF_EVEN)));
+        Assert.assertEquals(Math.sin(1), calculator.sin(BigDecimal.ONE).doubleValue(), 0);
+        Assert.assertEquals(Math.cos(3), calculator.cos(new BigDecimal(3)).doubleValue(), 0);
+        Assert.assertEquals(Math.sin(1e20), calculator.sin(new BigDecimal("1E20")).doubleValue(), 1e-16);
+        Assert.assertEquals(0, new BigDecimal("0.5").compareTo(calculator.apply("sind", new BigDecimal(390), null)));
+    }
+
+    @Test
+    public void DegreeTest(){
+
+        // Given
+        BigDecimalCalculator calculator = new BigDecimalCalculator(30);
+        BigDecimal half = new BigDecimal("0.5");
+
+        // When
+        BigDecimal sin180 = calculator.apply("sind", new BigDecimal(180), null);
+        BigDecimal cos90 = calculator.apply("cosd", new BigDecimal(90), null);
+        BigDecimal cos540 = calculator.apply("cosd", new BigDecimal(-540), null);
+        BigDecimal sin270 = calculator.apply("sind", new BigDecimal("270.0"), null);
+        BigDecimal tan45 = calculator.apply("tand", new BigDecimal(225), null);
+        BigDecimal sin30 = calculator.apply("sind", new BigDecimal(30), null);
+        BigDecimal cos1e20 = calculator.apply("cosd", new BigDecimal("1E20"), null);
+
+        // Then
+        Assert.assertEquals(0, BigDecimal.ZERO.compareTo(sin180));
+        Assert.assertEquals(0, BigDecimal.ZERO.compareTo(cos90));
+        Assert.assertEquals(0, BigDecimal.ONE.negate().compareTo(cos540));
+        Assert.assertEquals(0, BigDecimal.ONE.negate().compareTo(sin270));
+        Assert.assertEquals(0, BigDecimal.ONE.compareTo(tan45));
+        Assert.assertEquals(0, half.compareTo(sin30));
+        // 10^20 is 280 degrees past a whole number of turns
+        Assert.assertEquals(0, calculator.apply("cosd", new BigDecimal(280), null).compareTo(cos1e20));
+    }
+
+    @Test
+    public void SmallResultTest(){
+
+        // Given
+        BigDecimalCalculator calculator = new BigDecimalCalculator(34);
+        BigDecimalCalculator wide = new BigDecimalCalculator(68);
+        String[][] cases = {
+            {"sin", "1E-40"}, {"tan", "1E-45"}, {"sind", "1E-50"}, {"sin", PI.substring(0, 51)},
+            {"cos", "1.5707963267948966192313216916397514420985846996876"}, {"tan", PI.substring(0, 51)},
+            {"sin", "-710"}, {"cosd", "90.0000000000000000000000000000000000000001"},
+            {"tand", "-89.99999999999999999999999999"}};
+
+        for (String[] c : cases) {
+            // When
+            BigDecimal x = new BigDecimal(c[1]);
+            BigDecimal result = calculator.apply(c[0], x, null);
+
+            // Then
+            Assert.assertEquals(c[0] + " " + c[1], wide.apply(c[0], x, null).round(calculator.getMathContext()), result);
+        }
+        Assert.assertEquals(new BigDecimal("5.820974944592307816406286208998628E-51"),
+                            calculator.sin(new BigDecimal(PI.substring(0, 51))));
+    }
+
+    @Test
+    public void TanRoundingTest(){
+
+        // Given
+        BigDecimalCalculator calculator = new BigDecimalCalculator(50);
+        BigDecimalCalculator wide = new BigDecimalCalculator(100);
+
+        // When
+        BigDecimal tan30 = calculator.tan(new BigDecimal(30));
+        BigDecimal tan1e20 = calculator.tan(new BigDecimal("1E20"));
+
+        // Then
+        Assert.assertEquals(wide.tan(new BigDecimal(30)).round(calculator.getMathContext()), tan30);
+        Assert.assertEquals(wide.tan(new BigDecimal("1E20")).round(calculator.getMathContext()), tan1e20);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void Tan90Test(){
+
+        // Given
+        BigDecimalCalculator calculator = new BigDecimalCalculator(30);
+
+        // When
+        calculator.apply("tand", new BigDecimal(-270), null);
+    }
+
+    @Test(timeout = 10000)
+    public void HugePowerTest(){
+
+        // Given
+        BigDecimalCalculator calculator = new BigDecimalCalculator(30);
+
+        // When
+        BigDecimal tiny = calculator.exponent(new BigDecimal("0.5"), new BigDecimal("1E20"));
+        BigDecimal large = calculator.exponent(new BigDecimal("10"), new BigDecimal("123456789.5"));
+        BigDecimal near = calculator.exponent(new BigDecimal("1.000000001"), new BigDecimal("1E9"));
+
+        // Then
+        Assert.assertEquals(0, BigDecimal.ZERO.compareTo(tiny));
+        Assert.assertEquals(0, calculator.multiply(calculator.squareRoot(BigDecimal.TEN), new BigDecimal("1E123456789"))
+                            .compareTo(large));
+        Assert.assertEquals(calculator.exp(BigDecimal.ONE).doubleValue(), near.doubleValue(), 1e-8);
+        for (String exponent : new String[] {"1E10", "1E20", "12345678901.5"}) {
+            try {
+                calculator.exponent(new BigDecimal("2"), new BigDecimal(exponent));
+                Assert.fail("2 ^ " + exponent + " did not overflow");
+            } catch (ArithmeticException ex) {
+                Assert.assertEquals("Overflow", ex.getMessage());
+            }
+        }
+    }
+
+    @Test(timeout = 10000, expected = ArithmeticException.class)
+    public void ExpOverflowTest(){
+
+        // Given
+        BigDecimalCalculator calculator = new BigDecimalCalculator(30);
+
+        // When
+        calculator.exp(new BigDecimal("1E20"));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void DivideByZeroTest(){
+
+        // Given
+        BigDecimalCalculator calculator = new BigDecimalCalculator(10);
+
+        // When
+        calculator.divide(BigDecimal.ONE, BigDecimal.ZERO);
+    }
+}
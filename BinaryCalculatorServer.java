@@ -0,0 +1,183 @@
+/**
+ * BinaryCalculatorServer answers BinaryProtocol requests on a loopback
+ * port.  One thread serves every connection with a non-blocking
+ * Selector.  Each connection has one buffer for requests and one for
+ * replies, which are reused for its whole life, so answering a request
+ * creates no objects.  Requests are answered as soon as a whole frame
+ * has arrived, so clients can keep thousands of requests in flight; when
+ * a client stops reading its replies the server stops reading its
+ * requests until the replies have been sent.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+public class BinaryCalculatorServer implements Closeable {
+
+    /**
+     * The port used when none is given
+     */
+    public static final int DEFAULT_PORT = 7071;
+
+    private static final int BUFFER_SIZE = 1 << 17;
+
+    private final Operator[] operators = BinaryProtocol.operators(new OperatorRegistry(new Calculator()));
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * BinaryCalculatorServer is a constructor for a BinaryCalculatorServer
+     * object.  The server starts accepting connections straight away.
+     *
+     * @param port : the loopback port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be opened
+     */
+    public BinaryCalculatorServer(int port) throws IOException {
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 4096);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.thread = new Thread(this::run, "binary-calculator-server-" + getPort());
+        this.thread.start();
+    }
+
+    /**
+     * getPort gives the port the server listens on
+     *
+     * @return the port, useful when the server was opened on port 0
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * await blocks until the server is closed
+     */
+    public void await() throws InterruptedException {
+        thread.join();
+    }
+
+    /**
+     * close stops the server and closes every connection
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                for (SelectionKey key : selector.selectedKeys()) {
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    try {
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            serve(key);
+                        }
+                    } catch (IOException | IllegalArgumentException ex) {
+                        // the client went away or broke the protocol
+                        key.channel().close();
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException | ClosedSelectorException ex) {
+            System.err.println("Error.  Binary server stopped: " + ex.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                try {
+                    key.channel().close();
+                } catch (IOException ex) {
+                    // closing anyway
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException ex) {
+                // closing anyway
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        channel.register(selector, SelectionKey.OP_READ, new Connection());
+    }
+
+    /**
+     * serve reads what has arrived, then answers whole frames and writes
+     * replies until neither makes progress, since writing replies can make
+     * room to answer frames still waiting in the buffer
+     */
+    private void serve(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer in = connection.in;
+        ByteBuffer out = connection.out;
+
+        if (key.isReadable() && channel.read(in) < 0) {
+            channel.close();
+            return;
+        }
+        boolean progress = true;
+        while (progress) {
+            in.flip();
+            BinaryProtocol.answer(operators, in, out);
+            // frames of no requests count as progress too
+            boolean answered = in.position() > 0;
+            in.compact();
+
+            out.flip();
+            int written = channel.write(out);
+            out.compact();
+            progress = answered || written > 0;
+        }
+
+        // stop reading while the buffer is full, until replies drain; any
+        // frames left are then waiting on replies, so OP_WRITE is set
+        int interest = in.hasRemaining() ? SelectionKey.OP_READ : 0;
+        if (out.position() > 0) {
+            interest |= SelectionKey.OP_WRITE;
+        }
+        key.interestOps(interest);
+    }
+
+    /**
+     * Connection holds one connection's buffers
+     */
+    private static class Connection {
+        final ByteBuffer in = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * BinaryProtocol is the compact wire format of the BinaryCalculatorServer.
+ * Numbers travel as raw IEEE-754 doubles, so nothing is parsed or
+ * formatted, and many requests travel in one frame.  All values are big
+ * endian.  The trigonometric opcodes work in radians; the "...d"
+ * operators, such as "sind", work in degrees.
+ *
+ * A request frame is an int count followed by count requests of 17 bytes
+ * each: an opcode byte, then the operands x and y as doubles.  Operators
+ * taking one operand ignore y.  The reply frame holds the same count of
+ * 9 byte replies in the same order: a status byte, then the result.
+ * A client may send any number of frames before reading the replies.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class BinaryProtocol {
+
+    /**
+     * Sizes in bytes
+     */
+    public static final int HEADER_SIZE = 4;
+    public static final int REQUEST_SIZE = 17;
+    public static final int REPLY_SIZE = 9;
+
+    /**
+     * The most requests allowed in one frame
+     */
+    public static final int MAX_REQUESTS_PER_FRAME = 4096;
+
+    /**
+     * Reply status codes
+     */
+    public static final byte OK = 0;
+    public static final byte ERROR = 1;
+    public static final byte UNKNOWN_OPCODE = 2;
+
+    // opcode n is the operator named OPERATOR_NAMES[n - 1]; opcode 0 is unused
+    private static final String[] OPERATOR_NAMES = {
+        "add", "subtract", "multiply", "divide", "mod", "exponent", "^2",
+        "sin", "asin", "sinh", "cos", "acos", "cosh", "tan", "atan", "tanh",
+        "theta", "sqrt", "cbrt", "inverse", "invertsign", "factorial", "gcd", "lcm",
+        "sind", "asind", "cosd", "acosd", "tand", "atand"
+    };
+
+    private static final Map<String, Integer> OPCODES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < OPERATOR_NAMES.length; i++) {
+            OPCODES.put(OPERATOR_NAMES[i], i + 1);
+        }
+    }
+
+    private BinaryProtocol() {
+    }
+
+    /**
+     * opcode gives the opcode of an operator
+     *
+     * @param name : the operator's name, e.g. "add"
+     *
+     * @return the opcode
+     * @throws IllegalArgumentException if the operator has no opcode
+     */
+    public static byte opcode(String name) {
+        int opcode = opcodeOrZero(name);
+        if (opcode == 0) {
+            throw new IllegalArgumentException("Error.  No opcode for " + name);
+        }
+        return (byte) opcode;
+    }
+
+    /**
+     * opcodeOrZero gives the opcode of an operator without creating any
+     * objects
+     *
+     * @param name : the operator's name, e.g. "add"
+     *
+     * @return the opcode, or 0 if the operator has none
+     */
+    public static int opcodeOrZero(String name) {
+        Integer opcode = OPCODES.get(name);
+        return opcode == null ? 0 : opcode;
+    }
+
+    /**
+     * operators builds the table used to dispatch requests
+     *
+     * @param registry : where the operators are looked up
+     *
+     * @return the operator for every opcode, with null at index 0 and for
+     *         opcodes the registry does not have
+     */
+    public static Operator[] operators(OperatorRegistry registry) {
+        Operator[] operators = new Operator[OPERATOR_NAMES.length + 1];
+        for (int i = 0; i < OPERATOR_NAMES.length; i++) {
+            operators[i + 1] = registry.lookup(OPERATOR_NAMES[i]);
+        }
+        return operators;
+    }
+
+    /**
+     * putRequest adds one request to a frame being written
+     *
+     * @param frame : the buffer holding the frame
+     * @param opcode : the operator's opcode
+     * @param x : the first operand
+     * @param y : the second operand
+     */
+    public static void putRequest(ByteBuffer frame, byte opcode, double x, double y) {
+        frame.put(opcode).putDouble(x).putDouble(y);
+    }
+
+    /**
+     * answer reads whole request frames from in and writes their reply
+     * frames to out, stopping when in holds no complete frame or out has
+     * no room for the next reply frame.  No objects are created.
+     *
+     * @param operators : the table built by operators
+     * @param in : request bytes, ready to be read
+     * @param out : reply bytes, ready to be written
+     *
+     * @return the number of requests answered
+     * @throws IllegalArgumentException if a frame has a bad request count
+     */
+    public static int answer(Operator[] operators, ByteBuffer in, ByteBuffer out) {
+        int answered = 0;
+        while (in.remaining() >= HEADER_SIZE) {
+            int count = in.getInt(in.position());
+            if (count < 0 || count > MAX_REQUESTS_PER_FRAME) {
+                throw new IllegalArgumentException("Error.  Bad request count " + count);
+            }
+            if (in.remaining() < HEADER_SIZE + count * REQUEST_SIZE
+                || out.remaining() < HEADER_SIZE + count * REPLY_SIZE) {
+                break;
+            }
+            in.position(in.position() + HEADER_SIZE);
+            out.putInt(count);
+            for (int i = 0; i < count; i++) {
+                int opcode = in.get() & 0xFF;
+                double x = in.getDouble();
+                double y = in.getDouble();
+                Operator operator = opcode < operators.length ? operators[opcode] : null;
+                if (operator == null) {
+                    out.put(UNKNOWN_OPCODE).putDouble(Double.NaN);
+                } else if (operator.check(x, y) != null) {
+                    out.put(ERROR).putDouble(Double.NaN);
+                } else {
+                    out.put(OK).putDouble(operator.apply(x, y));
+                }
+            }
+            answered += count;
+        }
+        return answered;
+    }
+}
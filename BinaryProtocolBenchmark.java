@@ -0,0 +1,116 @@
+/**
+ * BinaryProtocolBenchmark compares the cost per request of the binary
+ * protocol with the text protocol of the CalculatorServer.  In both cases
+ * one connection is kept busy by a writer thread sending every request
+ * up front while the replies are read, so thousands of requests are in
+ * flight at once.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+public class BinaryProtocolBenchmark {
+
+    private static final int FRAMES = 200;
+    private static final int REQUESTS_PER_FRAME = 1024;
+    private static final int REQUESTS = FRAMES * REQUESTS_PER_FRAME;
+
+    private static final String[] NAMES = {"add", "multiply", "divide", "sqrt", "sin", "gcd"};
+    private static final String[] TEXT = {"+ 3 4", "* 2.5 4", "/ 9 3", "sqrt 16", "sin 1", "gcd 12 18"};
+
+    public static void main(String[] args) throws IOException {
+        try (BinaryCalculatorServer binary = new BinaryCalculatorServer(0);
+             CalculatorServer text = new CalculatorServer(0)) {
+            benchmarkBinary(binary.getPort());
+            benchmarkText(text.getPort());
+        }
+    }
+
+    private static void benchmarkBinary(int port) throws IOException {
+        ByteBuffer requests = ByteBuffer.allocateDirect(FRAMES * (BinaryProtocol.HEADER_SIZE + REQUESTS_PER_FRAME * BinaryProtocol.REQUEST_SIZE));
+        for (int f = 0; f < FRAMES; f++) {
+            requests.putInt(REQUESTS_PER_FRAME);
+            for (int i = 0; i < REQUESTS_PER_FRAME; i++) {
+                BinaryProtocol.putRequest(requests, BinaryProtocol.opcode(NAMES[i % NAMES.length]), i + 1, 3);
+            }
+        }
+        requests.flip();
+        ByteBuffer replies = ByteBuffer.allocateDirect(FRAMES * (BinaryProtocol.HEADER_SIZE + REQUESTS_PER_FRAME * BinaryProtocol.REPLY_SIZE));
+
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), port))) {
+            Benchmark.measure("binary protocol, pipelined", REQUESTS, () -> {
+                    Thread writer = new Thread(() -> {
+                            try {
+                                ByteBuffer frames = requests.duplicate();
+                                while (frames.hasRemaining()) {
+                                    channel.write(frames);
+                                }
+                            } catch (IOException ex) {
+                                throw new UncheckedIOException(ex);
+                            }
+                        });
+                    writer.start();
+                    try {
+                        replies.clear();
+                        while (replies.hasRemaining()) {
+                            channel.read(replies);
+                        }
+                        writer.join();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    Benchmark.consume(replies.getDouble(BinaryProtocol.HEADER_SIZE + 1));
+                });
+        }
+    }
+
+    private static void benchmarkText(int port) throws IOException {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < REQUESTS; i++) {
+            script.append(TEXT[i % TEXT.length]).append('\n');
+        }
+        String requests = script.toString();
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            Benchmark.measure("text protocol, pipelined", REQUESTS, () -> {
+                    Thread writer = new Thread(() -> {
+                            try {
+                                out.write(requests);
+                                out.flush();
+                            } catch (IOException ex) {
+                                throw new UncheckedIOException(ex);
+                            }
+                        });
+                    writer.start();
+                    try {
+                        for (int i = 0; i < REQUESTS; i++) {
+                            Benchmark.consume(in.readLine().length());
+                        }
+                        writer.join();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        }
+    }
+}
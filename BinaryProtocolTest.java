@@ -0,0 +1,149 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * The test class BinaryProtocolTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class BinaryProtocolTest {
+
+    private final Operator[] operators = BinaryProtocol.operators(new OperatorRegistry(new Calculator()));
+
+    @Test
+    public void AnswerTest(){
+
+        // Given
+        ByteBuffer in = ByteBuffer.allocate(256);
+        ByteBuffer out = ByteBuffer.allocate(256);
+        in.putInt(4);
+        BinaryProtocol.putRequest(in, BinaryProtocol.opcode("add"), 3, 4);
+        BinaryProtocol.putRequest(in, BinaryProtocol.opcode("sqrt"), 16, 0);
+        BinaryProtocol.putRequest(in, BinaryProtocol.opcode("divide"), 1, 0);
+        BinaryProtocol.putRequest(in, (byte) 99, 1, 2);
+        in.flip();
+
+        // When
+        int answered = BinaryProtocol.answer(operators, in, out);
+        out.flip();
+
+        // Then
+        Assert.assertEquals(4, answered);
+        Assert.assertEquals(4, out.getInt());
+        Assert.assertEquals(BinaryProtocol.OK, out.get());
+        Assert.assertEquals(7, out.getDouble(), 0);
+        Assert.assertEquals(BinaryProtocol.OK, out.get());
+        Assert.assertEquals(4, out.getDouble(), 0);
+        Assert.assertEquals(BinaryProtocol.ERROR, out.get());
+        Assert.assertTrue(Double.isNaN(out.getDouble()));
+        Assert.assertEquals(BinaryProtocol.UNKNOWN_OPCODE, out.get());
+        Assert.assertTrue(Double.isNaN(out.getDouble()));
+    }
+
+    @Test
+    public void PartialFrameTest(){
+
+        // Given
+        ByteBuffer in = ByteBuffer.allocate(256);
+        ByteBuffer out = ByteBuffer.allocate(256);
+        in.putInt(2);
+        BinaryProtocol.putRequest(in, BinaryProtocol.opcode("multiply"), 3, 4);
+        in.flip();
+
+        // When
+        int answered = BinaryProtocol.answer(operators, in, out);
+
+        // Then
+        Assert.assertEquals(0, answered);
+        Assert.assertEquals(0, in.position());
+        Assert.assertEquals(0, out.position());
+    }
+
+    @Test
+    public void ServerTest() throws Exception{
+
+        // Given
+        ByteBuffer requests = ByteBuffer.allocate(2 * (BinaryProtocol.HEADER_SIZE + 100 * BinaryProtocol.REQUEST_SIZE));
+        for (int f = 0; f < 2; f++) {
+            requests.putInt(100);
+            for (int i = 0; i < 100; i++) {
+                BinaryProtocol.putRequest(requests, BinaryProtocol.opcode("multiply"), 100 * f + i, 2);
+            }
+        }
+        requests.flip();
+        ByteBuffer replies = ByteBuffer.allocate(2 * (BinaryProtocol.HEADER_SIZE + 100 * BinaryProtocol.REPLY_SIZE));
+
+        // When
+        try (BinaryCalculatorServer server = new BinaryCalculatorServer(0);
+             SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()))) {
+            while (requests.hasRemaining()) {
+                channel.write(requests);
+            }
+            while (replies.hasRemaining() && channel.read(replies) >= 0) {
+            }
+        }
+        replies.flip();
+
+        // Then
+        for (int f = 0; f < 2; f++) {
+            Assert.assertEquals(100, replies.getInt());
+            for (int i = 0; i < 100; i++) {
+                Assert.assertEquals(BinaryProtocol.OK, replies.get());
+                Assert.assertEquals(2.0 * (100 * f + i), replies.getDouble(), 0);
+            }
+        }
+    }
+
+    @Test(timeout = 60000)
+    public void PipelinedServerTest() throws Exception{
+
+        // Given
+        int frames = 200;
+        int count = BinaryProtocol.MAX_REQUESTS_PER_FRAME;
+        ByteBuffer requests = ByteBuffer.allocate(frames * (BinaryProtocol.HEADER_SIZE + count * BinaryProtocol.REQUEST_SIZE));
+        for (int f = 0; f < frames; f++) {
+            requests.putInt(count);
+            for (int i = 0; i < count; i++) {
+                BinaryProtocol.putRequest(requests, BinaryProtocol.opcode("add"), i, f);
+            }
+        }
+        requests.flip();
+        ByteBuffer replies = ByteBuffer.allocate(frames * (BinaryProtocol.HEADER_SIZE + count * BinaryProtocol.REPLY_SIZE));
+
+        // When
+        try (BinaryCalculatorServer server = new BinaryCalculatorServer(0);
+             SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()))) {
+            // the server fills both of its buffers while nothing is read
+            Thread writer = new Thread(() -> {
+                    try {
+                        while (requests.hasRemaining()) {
+                            channel.write(requests);
+                        }
+                    } catch (java.io.IOException ex) {
+                        throw new java.io.UncheckedIOException(ex);
+                    }
+                });
+            writer.start();
+            Thread.sleep(1000);
+            while (replies.hasRemaining() && channel.read(replies) >= 0) {
+            }
+            writer.join();
+        }
+        replies.flip();
+
+        // Then
+        Assert.assertEquals(replies.capacity(), replies.limit());
+        for (int f = 0; f < frames; f++) {
+            Assert.assertEquals(count, replies.getInt());
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals(BinaryProtocol.OK, replies.get());
+                Assert.assertEquals(i + f, replies.getDouble(), 0);
+            }
+        }
+    }
+}
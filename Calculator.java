@@ -0,0 +1,1103 @@
+/**
+ * Calculator holds all of the calculator's mathematical functions.  It
+ * has no state, so one Calculator can be shared by any number of threads
+ * without locking.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+public class Calculator {
+
+    /** add calculates the sum of two numbers
+     * 
+     * @param x : a double to be added
+     * @param y : a double to be added
+     * 
+     * @return a double that is the sum of x and y
+     */
+    public double add(double x, double y){
+        return x + y;
+
+    }
+
+
+    /**
+     * subtract calculates the difference between two numbers
+     * 
+     * @param x : a number
+     * @param y : a number to subtract from x
+     * 
+     * @return the difference between x and y
+     */
+    public double subtract(double x, double y){
+        return x - y;
+    }
+
+    /**
+     * multiply calculates the product of two numbers
+     * 
+     * @param x : a number
+     * @param y : a number to multiply by x
+     * 
+     * @return the product of x and y
+     */
+    public double multiply(double x, double y){
+        return x * y;
+    } 
+
+    /**
+     * divide finds the quotient of two numbers
+     * 
+     * @param x : a number that is the dividend
+     * @param y : a number that is the divisor
+     * 
+     * @return the quotient of x and y
+     */
+    public double divide(double x, double y){
+        return x / y;
+    }
+
+    /**
+     * modulus calculates the remainder when two numbers are divided
+     * 
+     * @param x : a number that is the dividend
+     * @param y : a number that is the divisor
+     * 
+     * @return the remainder when x is divided by y
+     */
+    public double modulus(double x, double y){
+        return x % y;
+    }
+
+    /**
+     * exponent calculates the value of a number raised to an exponent.
+     * Whole numbers raised to whole powers are calculated exactly by
+     * repeated squaring and rounded once.
+     * 
+     * @param x : a number
+     * @param y : a number that is the exponent value
+     * 
+     * @return x raised to the power y
+     */
+    public double exponent(double x, double y){
+        if (y >= 0 && y == Math.rint(y) && x != 0 && isLong(x) && y <= Long.MAX_VALUE){
+            return IntegerMath.powAsDouble((long) x, (long) y);
+        }
+        return Math.pow(x, y);
+    }
+
+    /**
+     * square calculates a number times itself
+     * 
+     * @param x : a number
+     * 
+     * @return x^2
+     */
+    public double square(double x){
+        return x * x;
+    }
+
+    /**
+     * modPow calculates a whole number raised to a whole power, mod
+     * another, without ever calculating the power itself
+     * 
+     * @param base : a whole number
+     * @param exponent : a whole number; if it is negative, base must have
+     *                   an inverse mod modulus
+     * @param modulus : a whole number greater than 0
+     * 
+     * @return base^exponent mod modulus, or NaN if the operands are not
+     *         whole numbers that fit in a long, modulus is not positive or
+     *         base has no inverse
+     */
+    public double modPow(double base, double exponent, double modulus){
+        if (!isLong(base) || !isLong(exponent) || !isLong(modulus)){
+            return Double.NaN;
+        }
+        try{
+            return IntegerMath.modPow((long) base, (long) exponent, (long) modulus);
+        } catch(ArithmeticException ex) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * exactPow calculates a whole number raised to a whole power exactly
+     * 
+     * @param base : a number
+     * @param exponent : a number that is at least 0
+     * 
+     * @return base^exponent
+     * @throws ArithmeticException if exponent is negative
+     */
+    public BigInteger exactPow(long base, int exponent){
+        return IntegerMath.exactPow(base, exponent);
+    }
+
+    /**
+     * squareRoot calculates the square root of a numbre
+     * 
+     * @param x : a number
+     * 
+     * @return the square root of x
+     */
+    public double squareRoot(double x){
+        return Math.sqrt(x);
+    }
+
+    /**
+     * sin calculates the sine of a number
+     * 
+     * @param x : a number
+     * 
+     * @return the sin of x
+     */
+    public double sin(double x){
+        return Math.sin(x);
+    }
+
+    /**
+     * asin calculates the inverse sine of a number
+     * 
+     * @param x : a number
+     * 
+     * @return the inverse sin of x
+     */
+    public double asin(double x){
+        return Math.asin(x);
+    }
+
+    /**
+     * cos calculates the cosine of a number
+     * 
+     * @param x : a number
+     * 
+     * @return the cos of x
+     */
+    public double cos(double x){
+        return Math.cos(x);
+    }
+
+    /**
+     * cosh calculates the hyperbolic cosine of a number
+     * 
+     * @param x : a number
+     * 
+     * @return the hyberbolic cos of x
+     */
+    public double cosh(double x){
+        return Math.cosh(x);
+    }
+
+    /**
+     * sinh calculates the hyperbolic sine of a number
+     * 
+     * @param x : a number
+     * 
+     * @return the hyberbolic sin of x
+     */
+    public double sinh(double x){
+        return Math.sinh(x);
+    }
+
+    /**
+     * acos calculates the inverse cosine of a number
+     * 
+     * @param x : a number
+     * 
+     * @return the inverse cos of x
+     */
+    public double acos(double x){
+        return Math.acos(x);
+    }
+
+    /**
+     * tan calculates the tangent of a number
+     * 
+     * @param x : a number
+     * 
+     * @return the tan of x
+     */
+    public double tan(double x){
+        return Math.tan(x);
+    }
+
+    /**
+     * atan calculates the inverse tangent of a number
+     * 
+     * @param x : a number
+     * 
+     * @return the inverse tan of x
+     */
+    public double atan(double x){
+        return Math.atan(x);
+    }
+
+    /**
+     * tanh calculates the hyperbolic tangent of a number
+     * 
+     * @param x : a number
+     * 
+     * @return the tanh of x
+     */
+    public double tanh(double x){
+        return Math.tanh(x);
+    }
+
+    /**
+     * theta calculates the angle of a point (x, y)
+     * 
+     * @param x : a number that is the x coordinate
+     * @param y : a number that is the y coordinate
+     * 
+     * @return the angle theta between the x axis and (x, y)
+     */
+    public double theta(double x, double y){
+        return Math.atan2(y,x);
+    }
+
+    /**
+     * sinDegrees calculates the sine of an angle in degrees
+     * 
+     * @param x : an angle in degrees
+     * 
+     * @return the sin of x, exact for multiples of 30 and 45 degrees
+     */
+    public double sinDegrees(double x){
+        return DegreeMath.sin(x);
+    }
+
+    /**
+     * cosDegrees calculates the cosine of an angle in degrees
+     * 
+     * @param x : an angle in degrees
+     * 
+     * @return the cos of x, exact for multiples of 30 and 45 degrees
+     */
+    public double cosDegrees(double x){
+        return DegreeMath.cos(x);
+    }
+
+    /**
+     * tanDegrees calculates the tangent of an angle in degrees
+     * 
+     * @param x : an angle in degrees
+     * 
+     * @return the tan of x, or NaN for odd multiples of 90 degrees
+     */
+    public double tanDegrees(double x){
+        return DegreeMath.tan(x);
+    }
+
+    /**
+     * asinDegrees calculates the inverse sine of a number in degrees
+     * 
+     * @param x : a number
+     * 
+     * @return the inverse sin of x in degrees
+     */
+    public double asinDegrees(double x){
+        return DegreeMath.asin(x);
+    }
+
+    /**
+     * acosDegrees calculates the inverse cosine of a number in degrees
+     * 
+     * @param x : a number
+     * 
+     * @return the inverse cos of x in degrees
+     */
+    public double acosDegrees(double x){
+        return DegreeMath.acos(x);
+    }
+
+    /**
+     * atanDegrees calculates the inverse tangent of a number in degrees
+     * 
+     * @param x : a number
+     * 
+     * @return the inverse tan of x in degrees
+     */
+    public double atanDegrees(double x){
+        return DegreeMath.atan(x);
+    }
+
+    /**
+     * cubicRoot calculates the cubic root of a number
+     * 
+     * @param x : a number
+     * 
+     * @return the cubic root of x
+     */
+    public double cubicRoot(double x){
+        return Math.cbrt(x);
+    }
+
+    /**
+     * inverse calculates the inverse of a number 
+     *
+     * @param  x : number to calculate inverse of
+     * @return inverse of x
+     */
+    public double inverse(double x){
+        return 1 / x;
+    }
+
+    /**
+     * invertSign changes the sign of the input number
+     *
+     * @param  x : number to change sign of
+     * @return x with inverted sign
+     */
+    public double invertSign(double x){
+        return -x;
+    }
+
+    /**
+     * factorial calculates factorial of a number.  Only the whole part of
+     * x is used, and anything above 170 overflows to Infinity.
+     *
+     * @param  x : number to calculate factorial of
+     * @return factorial of x
+     */
+    public double factorial(double x){
+        if (!(x >= 2)){
+            return 1;
+        }
+        if (x >= IntegerMath.MAX_DOUBLE_FACTORIAL + 1){
+            return Double.POSITIVE_INFINITY;
+        }
+        return IntegerMath.factorialAsDouble((int) x);
+    }
+
+    /**
+     * exactFactorial calculates the exact factorial of a whole number
+     *
+     * @param  n : number to calculate factorial of, at least 0
+     * @return factorial of n
+     */
+    public BigInteger exactFactorial(int n){
+        return IntegerMath.factorial(n);
+    }
+
+    /**
+     * gcd calculates the greatest common divisor of two numbers.  Whole
+     * numbers are handled exactly, using long arithmetic when they fit and
+     * BigInteger when they do not.
+     *
+     * @param  x : one number for gcd calculation
+     * @param  y : other number for gcd calculation
+     * @return gcd of x an y
+     */
+    public double gcd(double x, double y){
+        if (isLong(x) && isLong(y)){
+            return IntegerMath.gcd((long) x, (long) y);
+        }
+        if (!Double.isFinite(x) || !Double.isFinite(y)){
+            return Double.NaN;
+        }
+        if (x == Math.rint(x) && y == Math.rint(y)){
+            return toBigInteger(x).gcd(toBigInteger(y)).doubleValue();
+        }
+        while (y != 0){
+            double r = x % y;
+            x = y;
+            y = r;
+        }
+        return Math.abs(x);
+    }
+
+    /**
+     * lcm calculates the least common multiple of two numbers
+     *
+     * @param  x : one number for lcm calculation
+     * @param  y : other number for lcm calculation
+     * @return lcm of x an y
+     */
+
+    public double lcm(double x, double y){
+        if (isLong(x) && isLong(y)){
+            try{
+                return IntegerMath.lcm((long) x, (long) y);
+            } catch(ArithmeticException ex) {
+                return IntegerMath.lcm(toBigInteger(x), toBigInteger(y)).doubleValue();
+            }
+        }
+        if (Double.isFinite(x) && Double.isFinite(y) && x == Math.rint(x) && y == Math.rint(y)){
+            return IntegerMath.lcm(toBigInteger(x), toBigInteger(y)).doubleValue();
+        }
+        return Math.abs(x * (y / gcd(x, y)));
+    }
+
+    /**
+     * gcd calculates the greatest common divisor of many whole numbers
+     *
+     * @param  values : numbers for gcd calculation
+     * @return gcd of all the values
+     */
+    public long gcd(long... values){
+        return IntegerMath.gcd(values);
+    }
+
+    /**
+     * lcm calculates the least common multiple of many whole numbers
+     *
+     * @param  values : numbers for lcm calculation
+     * @return lcm of all the values
+     * @throws ArithmeticException if the result does not fit in a long
+     */
+    public long lcm(long... values){
+        return IntegerMath.lcm(values);
+    }
+
+    /**
+     * isLong checks whether a double holds a whole number that fits in a long
+     */
+    private static boolean isLong(double x){
+        return x == Math.rint(x) && Math.abs(x) < 0x1p63;
+    }
+
+    private static BigInteger toBigInteger(double x){
+        return new BigDecimal(x).toBigIntegerExact();
+    }
+
+    // Bulk versions of the operations.  Each reads x (and y) and writes the
+    // results to out at the same positions, so buffers can be reused.
+
+    /**
+     * checkRange makes sure offset and length fit inside an array
+     */
+    private static void checkRange(double[] array, int offset, int length){
+        Objects.checkFromIndexSize(offset, length, array.length);
+    }
+
+    /**
+     * add calculates the sum of every pair of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the sums
+     */
+    public void add(double[] x, double[] y, double[] out){
+        add(x, y, out, 0, x.length);
+    }
+
+    /**
+     * add calculates the sum of a range of pairs of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the sums
+     * @param offset : index of the first pair
+     * @param length : number of pairs
+     */
+    public void add(double[] x, double[] y, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(y, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = x[i] + y[i];
+        }
+    }
+
+    /**
+     * subtract calculates the difference of every pair of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the differences
+     */
+    public void subtract(double[] x, double[] y, double[] out){
+        subtract(x, y, out, 0, x.length);
+    }
+
+    /**
+     * subtract calculates the difference of a range of pairs of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the differences
+     * @param offset : index of the first pair
+     * @param length : number of pairs
+     */
+    public void subtract(double[] x, double[] y, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(y, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = x[i] - y[i];
+        }
+    }
+
+    /**
+     * multiply calculates the product of every pair of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the products
+     */
+    public void multiply(double[] x, double[] y, double[] out){
+        multiply(x, y, out, 0, x.length);
+    }
+
+    /**
+     * multiply calculates the product of a range of pairs of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the products
+     * @param offset : index of the first pair
+     * @param length : number of pairs
+     */
+    public void multiply(double[] x, double[] y, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(y, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = x[i] * y[i];
+        }
+    }
+
+    /**
+     * divide calculates the quotient of every pair of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the quotients
+     */
+    public void divide(double[] x, double[] y, double[] out){
+        divide(x, y, out, 0, x.length);
+    }
+
+    /**
+     * divide calculates the quotient of a range of pairs of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the quotients
+     * @param offset : index of the first pair
+     * @param length : number of pairs
+     */
+    public void divide(double[] x, double[] y, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(y, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = x[i] / y[i];
+        }
+    }
+
+    /**
+     * modulus calculates the remainder of every pair of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the remainders
+     */
+    public void modulus(double[] x, double[] y, double[] out){
+        modulus(x, y, out, 0, x.length);
+    }
+
+    /**
+     * modulus calculates the remainder of a range of pairs of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the remainders
+     * @param offset : index of the first pair
+     * @param length : number of pairs
+     */
+    public void modulus(double[] x, double[] y, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(y, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = x[i] % y[i];
+        }
+    }
+
+    /**
+     * exponent calculates the power of every pair of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives x raised to the powers y
+     */
+    public void exponent(double[] x, double[] y, double[] out){
+        exponent(x, y, out, 0, x.length);
+    }
+
+    /**
+     * exponent calculates the power of a range of pairs of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives x raised to the powers y
+     * @param offset : index of the first pair
+     * @param length : number of pairs
+     */
+    public void exponent(double[] x, double[] y, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(y, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = exponent(x[i], y[i]);
+        }
+    }
+
+    /**
+     * theta calculates the angle of every pair of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the angles of the points (x, y)
+     */
+    public void theta(double[] x, double[] y, double[] out){
+        theta(x, y, out, 0, x.length);
+    }
+
+    /**
+     * theta calculates the angle of a range of pairs of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the angles of the points (x, y)
+     * @param offset : index of the first pair
+     * @param length : number of pairs
+     */
+    public void theta(double[] x, double[] y, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(y, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.atan2(y[i], x[i]);
+        }
+    }
+
+    /**
+     * gcd calculates the greatest common divisor of every pair of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the greatest common divisors
+     */
+    public void gcd(double[] x, double[] y, double[] out){
+        gcd(x, y, out, 0, x.length);
+    }
+
+    /**
+     * gcd calculates the greatest common divisor of a range of pairs of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the greatest common divisors
+     * @param offset : index of the first pair
+     * @param length : number of pairs
+     */
+    public void gcd(double[] x, double[] y, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(y, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = gcd(x[i], y[i]);
+        }
+    }
+
+    /**
+     * lcm calculates the least common multiple of every pair of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the least common multiples
+     */
+    public void lcm(double[] x, double[] y, double[] out){
+        lcm(x, y, out, 0, x.length);
+    }
+
+    /**
+     * lcm calculates the least common multiple of a range of pairs of numbers in two arrays
+     *
+     * @param x : the first numbers
+     * @param y : the second numbers
+     * @param out : array that receives the least common multiples
+     * @param offset : index of the first pair
+     * @param length : number of pairs
+     */
+    public void lcm(double[] x, double[] y, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(y, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = lcm(x[i], y[i]);
+        }
+    }
+
+    /**
+     * squareRoot calculates the square root of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void squareRoot(double[] x, double[] out){
+        squareRoot(x, out, 0, x.length);
+    }
+
+    /**
+     * squareRoot calculates the square root of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void squareRoot(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.sqrt(x[i]);
+        }
+    }
+
+    /**
+     * sin calculates the sine of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void sin(double[] x, double[] out){
+        sin(x, out, 0, x.length);
+    }
+
+    /**
+     * sin calculates the sine of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void sin(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.sin(x[i]);
+        }
+    }
+
+    /**
+     * asin calculates the inverse sine of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void asin(double[] x, double[] out){
+        asin(x, out, 0, x.length);
+    }
+
+    /**
+     * asin calculates the inverse sine of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void asin(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.asin(x[i]);
+        }
+    }
+
+    /**
+     * cos calculates the cosine of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void cos(double[] x, double[] out){
+        cos(x, out, 0, x.length);
+    }
+
+    /**
+     * cos calculates the cosine of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void cos(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.cos(x[i]);
+        }
+    }
+
+    /**
+     * cosh calculates the hyperbolic cosine of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void cosh(double[] x, double[] out){
+        cosh(x, out, 0, x.length);
+    }
+
+    /**
+     * cosh calculates the hyperbolic cosine of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void cosh(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.cosh(x[i]);
+        }
+    }
+
+    /**
+     * sinh calculates the hyperbolic sine of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void sinh(double[] x, double[] out){
+        sinh(x, out, 0, x.length);
+    }
+
+    /**
+     * sinh calculates the hyperbolic sine of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void sinh(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.sinh(x[i]);
+        }
+    }
+
+    /**
+     * acos calculates the inverse cosine of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void acos(double[] x, double[] out){
+        acos(x, out, 0, x.length);
+    }
+
+    /**
+     * acos calculates the inverse cosine of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void acos(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.acos(x[i]);
+        }
+    }
+
+    /**
+     * tan calculates the tangent of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void tan(double[] x, double[] out){
+        tan(x, out, 0, x.length);
+    }
+
+    /**
+     * tan calculates the tangent of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void tan(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.tan(x[i]);
+        }
+    }
+
+    /**
+     * atan calculates the inverse tangent of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void atan(double[] x, double[] out){
+        atan(x, out, 0, x.length);
+    }
+
+    /**
+     * atan calculates the inverse tangent of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void atan(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.atan(x[i]);
+        }
+    }
+
+    /**
+     * tanh calculates the hyperbolic tangent of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void tanh(double[] x, double[] out){
+        tanh(x, out, 0, x.length);
+    }
+
+    /**
+     * tanh calculates the hyperbolic tangent of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void tanh(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.tanh(x[i]);
+        }
+    }
+
+    /**
+     * cubicRoot calculates the cubic root of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void cubicRoot(double[] x, double[] out){
+        cubicRoot(x, out, 0, x.length);
+    }
+
+    /**
+     * cubicRoot calculates the cubic root of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void cubicRoot(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = Math.cbrt(x[i]);
+        }
+    }
+
+    /**
+     * inverse calculates the inverse of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void inverse(double[] x, double[] out){
+        inverse(x, out, 0, x.length);
+    }
+
+    /**
+     * inverse calculates the inverse of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void inverse(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = 1 / x[i];
+        }
+    }
+
+    /**
+     * invertSign calculates the sign inverted value of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void invertSign(double[] x, double[] out){
+        invertSign(x, out, 0, x.length);
+    }
+
+    /**
+     * invertSign calculates the sign inverted value of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void invertSign(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = -x[i];
+        }
+    }
+
+    /**
+     * factorial calculates the factorial of every number in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     */
+    public void factorial(double[] x, double[] out){
+        factorial(x, out, 0, x.length);
+    }
+
+    /**
+     * factorial calculates the factorial of a range of numbers in an array
+     *
+     * @param x : the numbers
+     * @param out : array that receives the results
+     * @param offset : index of the first number
+     * @param length : number of numbers
+     */
+    public void factorial(double[] x, double[] out, int offset, int length){
+        checkRange(x, offset, length);
+        checkRange(out, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++){
+            out[i] = factorial(x[i]);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * CalculatorServer lets other processes on the same machine use the
+ * calculator over TCP.  It only listens on the loopback address.  Each
+ * connection gets its own CalculatorSession and sends one command per
+ * line, as described in SessionInterpreter, receiving one reply line per
+ * command.  Sending "quit" closes the connection.
+ *
+ * Every connection runs on its own thread.  On a JDK with virtual
+ * threads these are virtual threads, so thousands of idle connections
+ * cost little; on older JDKs a cached pool of platform threads is used.
+ * All connections share one Calculator, OperatorRegistry and
+ * ExpressionCache.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class CalculatorServer implements Closeable {
+
+    /**
+     * The port used when none is given
+     */
+    public static final int DEFAULT_PORT = 7070;
+
+    private static final int BACKLOG = 4096;
+
+    private final Calculator calculator = new Calculator();
+    private final OperatorRegistry registry = new OperatorRegistry(calculator);
+    private final ExpressionCache formulas = new ExpressionCache(registry, 1024);
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+    private final Thread acceptor;
+
+    /**
+     * CalculatorServer is a constructor for a CalculatorServer object.  The
+     * server starts accepting connections straight away.
+     *
+     * @param port : the loopback port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be opened
+     */
+    public CalculatorServer(int port) throws IOException {
+        this.serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        this.executor = newThreadPerTaskExecutor();
+        this.acceptor = new Thread(this::accept, "calculator-server-" + getPort());
+        this.acceptor.start();
+    }
+
+    /**
+     * getPort gives the port the server listens on
+     *
+     * @return the port, useful when the server was opened on port 0
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * getConnectionCount gives the number of open connections
+     *
+     * @return the number of clients connected now
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * await blocks until the server is closed
+     */
+    public void await() throws InterruptedException {
+        acceptor.join();
+    }
+
+    /**
+     * close stops accepting connections and closes the open ones
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : connections) {
+            socket.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                executor.execute(() -> serve(socket));
+            } catch (IOException ex) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Error.  Cannot accept a connection: " + ex.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * serve answers the commands of one connection until it sends "quit"
+     * or disconnects.  Replies are flushed only once no more commands are
+     * waiting, so a client that sends many commands at once gets its
+     * replies in few packets.
+     */
+    private void serve(Socket socket) {
+        SessionInterpreter interpreter = new SessionInterpreter(registry, formulas, new CalculatorSession(calculator));
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null && !line.trim().equals("quit")) {
+                out.write(interpreter.evaluate(line));
+                out.write('\n');
+                if (!in.ready()) {
+                    out.flush();
+                }
+            }
+        } catch (SocketException ex) {
+            // the client went away or the server is closing
+        } catch (IOException ex) {
+            System.err.println("Error.  Connection failed: " + ex.getMessage());
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    /**
+     * newThreadPerTaskExecutor gives an executor that starts a virtual
+     * thread for every task when the JDK has them, and otherwise a cached
+     * pool of platform threads.  It is looked up by reflection so the
+     * calculator still builds and runs on older JDKs.
+     *
+     * @return an executor that runs every task at once on its own thread
+     */
+    public static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException ex) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
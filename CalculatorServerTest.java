@@ -0,0 +1,48 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The test class CalculatorServerTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class CalculatorServerTest {
+
+    @Test
+    public void SessionPerConnectionTest() throws Exception{
+
+        // Given
+        try (CalculatorServer server = new CalculatorServer(0);
+             Socket first = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+             Socket second = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            PrintWriter firstOut = new PrintWriter(first.getOutputStream(), true);
+            PrintWriter secondOut = new PrintWriter(second.getOutputStream(), true);
+            BufferedReader firstIn = new BufferedReader(new InputStreamReader(first.getInputStream(), StandardCharsets.UTF_8));
+            BufferedReader secondIn = new BufferedReader(new InputStreamReader(second.getInputStream(), StandardCharsets.UTF_8));
+
+            // When
+            firstOut.println("5");
+            secondOut.println("100");
+            firstOut.println("+ 3");
+            secondOut.println("sqrt");
+            firstIn.readLine();
+            secondIn.readLine();
+            String firstResult = firstIn.readLine();
+            String secondResult = secondIn.readLine();
+            firstOut.println("quit");
+            String closed = firstIn.readLine();
+
+            // Then
+            Assert.assertEquals("8.0", firstResult);
+            Assert.assertEquals("10.0", secondResult);
+            Assert.assertNull(closed);
+        }
+    }
+}
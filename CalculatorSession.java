@@ -0,0 +1,668 @@
+/**
+ * CalculatorSession holds one user's calculator state: the display, the
+ * memory, the display, units and math modes, the precision used when
+ * calculating in decimal to any number of digits, and running statistics.
+ * It does no console I/O, so the same session works behind the console,
+ * a batch run or a network connection.  A session is not synchronized; give each user or thread
+ * its own session and share one Calculator between them.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.math.BigDecimal;
+
+public class CalculatorSession {
+
+    private final Calculator calculator;
+    // The display and memory are kept as numbers and only turned into text
+    // when someone asks for it.  Text set directly, like "Error", is kept
+    // as is and only parsed if its numeric value is needed.
+    private double displayValue = 0;
+    private String displayText = "0";
+    private boolean displayParsed = true;
+    private int displayRadix = 10;
+    // The memory is register M0.  memoryText is only kept while M0 still
+    // holds memoryTextValue, since M0 can also be changed by number.
+    private final MemoryRegisters registers;
+    private String memoryText = "0";
+    private double memoryTextValue = 0;
+    private boolean memoryParsed = true;
+    private String currentDisplayMode = "decimal";
+    private String currentUnitsMode = "degrees";
+    private String currentMathMode = "precise";
+    // null while calculating in doubles
+    private BigDecimalCalculator decimal;
+    private HistoryTape history;
+    private final StatsAccumulator statistics = new StatsAccumulator();
+    private final QuantileSketch quantiles = new QuantileSketch();
+    private final LogHistogram histogram = new LogHistogram();
+
+    /**
+     * CalculatorSession is a constructor for a CalculatorSession object
+     * with its own Calculator
+     */
+    public CalculatorSession() {
+        this(new Calculator());
+    }
+
+    /**
+     * CalculatorSession is a constructor for a CalculatorSession object
+     *
+     * @param calculator : the math core, which may be shared with other sessions
+     */
+    public CalculatorSession(Calculator calculator) {
+        this(calculator, new MemoryRegisters());
+    }
+
+    /**
+     * CalculatorSession is a constructor for a CalculatorSession object
+     *
+     * @param calculator : the math core, which may be shared with other sessions
+     * @param registers : the session's memory registers, where M0 is the memory
+     */
+    public CalculatorSession(Calculator calculator, MemoryRegisters registers) {
+        this.calculator = calculator;
+        this.registers = registers;
+    }
+
+    /**
+     * getCalculator is a getter for calculator
+     *
+     * @return the session's math core
+     */
+    public Calculator getCalculator(){
+        return this.calculator;
+    }
+
+    /**
+     * getRegisters is a getter for registers
+     *
+     * @return the session's memory registers, where M0 is the memory
+     */
+    public MemoryRegisters getRegisters(){
+        return this.registers;
+    }
+
+    /**
+     * apply applies an operator and shows its result on the display, or
+     * shows "Error" if the operator rejects the operands.  The operation
+     * is recorded on the history tape, if the session has one.
+     *
+     * @param operator : the operator to apply
+     * @param x : the first operand
+     * @param y : the second operand, ignored by operators taking one operand
+     *
+     * @return null, or the operator's error message
+     */
+    public String apply(Operator operator, double x, double y){
+        String error = operator.check(x, y);
+        if (error != null){
+            changeDisplay("Error");
+            return error;
+        }
+        double result = operator.apply(x, y);
+        changeDisplay(result);
+        if (history != null){
+            history.record(operator, x, y, result);
+        }
+        return null;
+    }
+
+    /**
+     * apply applies an operator in decimal to the session's precision and
+     * shows the result on the display with every digit, or shows "Error"
+     * if the operator rejects the operands.  The operation is recorded on
+     * the history tape as doubles.
+     *
+     * @param operator : the operator to apply
+     * @param x : the first operand
+     * @param y : the second operand, ignored by operators taking one operand
+     *
+     * @return null, or an error message
+     * @throws IllegalStateException if the session has no precision set
+     */
+    public String apply(Operator operator, BigDecimal x, BigDecimal y){
+        if (decimal == null){
+            throw new IllegalStateException("Error.  No precision is set");
+        }
+        BigDecimal result;
+        try{
+            result = decimal.apply(operator.getName(), x, y);
+        } catch(ArithmeticException | IllegalArgumentException ex){
+            changeDisplay("Error");
+            return ex.getMessage();
+        }
+        changeDisplay(decimalText(result));
+        if (history != null){
+            history.record(operator, x.doubleValue(), y.doubleValue(), result.doubleValue());
+        }
+        return null;
+    }
+
+    /**
+     * setPrecision sets how many digits operators calculate to when applied
+     * to BigDecimal operands
+     *
+     * @param digits : the number of significant digits, or 0 to go back to doubles
+     */
+    public void setPrecision(int digits){
+        this.decimal = digits > 0 ? new BigDecimalCalculator(digits) : null;
+    }
+
+    /**
+     * getPrecision is a getter for the decimal precision
+     *
+     * @return the number of significant digits, or 0 when calculating in doubles
+     */
+    public int getPrecision(){
+        return decimal == null ? 0 : decimal.getMathContext().getPrecision();
+    }
+
+    /**
+     * getCurrentDecimal gets the number on the display with every digit
+     *
+     * @return the display's value
+     * @throws NumberFormatException if the display does not show a decimal number
+     */
+    public BigDecimal getCurrentDecimal(){
+        if (displayRadix != 10){
+            return BigDecimal.valueOf(getCurrentValue());
+        }
+        return new BigDecimal(getCurrentDisplay());
+    }
+
+    /**
+     * decimalText writes a result without trailing zeros, and without an
+     * exponent unless the number is very large or small
+     */
+    private String decimalText(BigDecimal value){
+        BigDecimal stripped = value.stripTrailingZeros();
+        int exponent = stripped.precision() - stripped.scale() - 1;
+        if (exponent >= -7 && exponent < Math.max(21, getPrecision())){
+            return stripped.toPlainString();
+        }
+        return stripped.toString();
+    }
+
+    /**
+     * setHistory sets the tape operations are recorded on
+     *
+     * @param history : the tape, or null to stop recording
+     */
+    public void setHistory(HistoryTape history){
+        this.history = history;
+    }
+
+    /**
+     * getHistory is a getter for history
+     *
+     * @return the session's history tape, or null if it has none
+     */
+    public HistoryTape getHistory(){
+        return this.history;
+    }
+
+    /**
+     * getStatistics is a getter for statistics
+     *
+     * @return the running statistics of the values added with stat+
+     */
+    public StatsAccumulator getStatistics(){
+        return this.statistics;
+    }
+
+    /**
+     * getQuantiles is a getter for quantiles
+     *
+     * @return the quantile sketch of the values added with stat+
+     */
+    public QuantileSketch getQuantiles(){
+        return this.quantiles;
+    }
+
+    /**
+     * getHistogram is a getter for histogram
+     *
+     * @return the histogram of the values added with stat+
+     */
+    public LogHistogram getHistogram(){
+        return this.histogram;
+    }
+
+    /**
+     * addToStatistics adds a value to the running statistics, the quantile
+     * sketch and the histogram
+     *
+     * @param x : the value
+     */
+    public void addToStatistics(double x){
+        statistics.add(x);
+        quantiles.add(x);
+        histogram.add(x);
+    }
+
+    /**
+     * clearStatistics forgets every value added to the statistics
+     */
+    public void clearStatistics(){
+        statistics.clear();
+        quantiles.clear();
+        histogram.clear();
+    }
+
+    /**
+     * getStatistic gives one statistic of the values added so far
+     *
+     * @param name : a statistic of StatsAccumulator.get, "median", or a
+     *               percentile such as "p95"
+     *
+     * @return the statistic; quantiles are estimated
+     * @throws IllegalArgumentException if there is no such statistic
+     */
+    public double getStatistic(String name){
+        return QuantileSketch.isQuantile(name) ? quantiles.get(name) : statistics.get(name);
+    }
+
+    /**
+     * getCurrentDisplay gets the currentDisplay variable
+     * 
+     * @return the session's currentDisplay
+     */
+    public String getCurrentDisplay(){
+        if (this.displayText == null){
+            this.displayText = render(displayValue, displayRadix);
+        }
+        return this.displayText;
+    }
+
+    /**
+     * getCurrentValue gets the number on the display
+     * 
+     * @return the session's value
+     * @throws NumberFormatException if the display holds text that is not a number
+     */
+    public double getCurrentValue(){
+        if (!this.displayParsed){
+            this.displayValue = Double.valueOf(displayText);
+            this.displayParsed = true;
+        }
+        return this.displayValue;
+    }
+
+    /**
+     * clearDisplay clears the display back to zero
+     */
+    public void clearDisplay(){
+        setDisplay(0, "0", 10);
+    }
+
+    /**
+     * changeDisplay changes the display from the current display
+     * 
+     * @param s : a String that will be the currentDisplay
+     */
+    public void changeDisplay(String s){
+        this.displayText = s;
+        this.displayParsed = false;
+        this.displayRadix = 10;
+    }
+
+    /**
+     * changeDisplay changes the display to a number
+     * 
+     * @param value : the number to display
+     */
+    public void changeDisplay(double value){
+        setDisplay(value, null, 10);
+    }
+
+    private void setDisplay(double value, String text, int radix){
+        this.displayValue = value;
+        this.displayText = text;
+        this.displayParsed = true;
+        this.displayRadix = radix;
+    }
+
+    /**
+     * render turns a number into display text, as a decimal double or as
+     * a whole number in base 2, 8 or 16
+     */
+    private static String render(double value, int radix){
+        switch(radix){
+            case 2 : return Integer.toBinaryString((int) value);
+            case 8 : return Integer.toOctalString((int) value);
+            case 16 : return Integer.toHexString((int) value);
+            default : return Double.toString(value);
+        }
+    }
+
+    /**
+     * switchDisplayMode() toggles currentDisplay value through binary, octal, 
+     * hexadecimal, and decimal
+     * 
+     * @return the name of the new mode, such as "Binary: ", to show before the display
+     */
+
+    public String switchDisplayMode(){
+        switch(currentDisplayMode){
+            case "decimal" : currentDisplayMode = "binary";
+            setDisplay((int)Math.round(displayedNumber()), null, 2);
+            return "Binary: ";
+
+            case "binary" : currentDisplayMode = "octal";
+            setDisplay((int)Math.round(displayedNumber()), null, 8);
+            return "Octal: ";
+
+            case "octal" : currentDisplayMode = "hexadecimal";
+            setDisplay((int)Math.round(displayedNumber()), null, 16);
+            return "Hexadecimal: ";
+
+            case "hexadecimal" : currentDisplayMode = "decimal";
+            return "Decimal: ";
+        }
+        return "";
+    }
+
+    /**
+     * displayedNumber reads the display's text as a decimal number, the
+     * way switchDisplayMode always has, even when it shows another base
+     */
+    private double displayedNumber(){
+        return displayRadix == 10 ? getCurrentValue() : Double.valueOf(getCurrentDisplay());
+    }
+
+    /**
+     * switchDisplayMode switches current Display to specified mode
+     * 
+     * @param mode : a String "binary", "octal", or "hex" that indicates which mode to switch to
+     * 
+     * @return the name of the new mode, or "" if mode is not known
+     */
+    public String switchDisplayMode(String mode){
+        switch(mode){
+            case "binary" : this.currentDisplayMode = "decimal";
+            return switchDisplayMode();
+
+            case "octal" : this.currentDisplayMode = "binary";
+            return switchDisplayMode();
+
+            case "hex" : this.currentDisplayMode = "octal";
+            return switchDisplayMode();
+        }
+        return "";
+    }
+
+    /**
+     * setCurrentDisplayMode is a setter for currentDisplayMode
+     * 
+     * @param mode : String "decimal", "octal", "binary", or "hex"
+     * 
+     */
+    public void setCurrentDisplayMode(String mode){
+        this.currentDisplayMode = mode;
+    }
+
+    /**
+     * setUnitsMode is a setter for currentUnitsMode
+     * 
+     * @param mode : String "radians" or "degrees"
+     */
+    public void setUnitsMode(String mode){
+        this.currentUnitsMode = mode;
+    }
+
+    /**
+     * setMemoryValue saves previous value, storing it in M0 when it is
+     * a number
+     * 
+     * @param s : a String that is the value to be saved as memoryValue
+     */
+    public void setMemoryValue(String s){
+        this.memoryText = s;
+        try {
+            this.memoryTextValue = Double.valueOf(s);
+            registers.store(0, memoryTextValue);
+            this.memoryParsed = true;
+        } catch (NumberFormatException e){
+            this.memoryParsed = false;
+        }
+    }
+
+    /**
+     * setMemoryValue saves a number as the memory value
+     * 
+     * @param value : the number to be saved as memoryValue
+     */
+    public void setMemoryValue(double value){
+        registers.store(0, value);
+        this.memoryText = null;
+        this.memoryParsed = true;
+    }
+
+    /**
+     * getMemoryValue gives back the value that was saved
+     * 
+     * @return the session's current memory value
+     */
+    public String getMemoryValue(){
+        if (!this.memoryParsed){
+            return this.memoryText;
+        }
+        double value = registers.recall(0);
+        if (this.memoryText == null || !sameNumber(value, memoryTextValue)){
+            this.memoryText = Double.toString(value);
+            this.memoryTextValue = value;
+        }
+        return this.memoryText;
+    }
+
+    /**
+     * recallMemory gives back the number that was saved
+     * 
+     * @return the session's current memory value as a number
+     * @throws NumberFormatException if the memory holds text that is not a number
+     */
+    public double recallMemory(){
+        if (!this.memoryParsed){
+            throw new NumberFormatException("Memory holds " + memoryText);
+        }
+        return registers.recall(0);
+    }
+
+    /**
+     * clearMemory resets the memory value to zero
+     */
+    public void clearMemory(){
+        registers.store(0, 0);
+        this.memoryText = "0";
+        this.memoryTextValue = 0;
+        this.memoryParsed = true;
+    }
+
+    /**
+     * saveDisplayToMemory copies the display into memory without turning
+     * it into text and back
+     */
+    public void saveDisplayToMemory(){
+        if (displayRadix != 10){
+            setMemoryValue(displayValue);
+            return;
+        }
+        if (!displayParsed){
+            setMemoryValue(displayText);
+            return;
+        }
+        registers.store(0, displayValue);
+        this.memoryTextValue = displayValue;
+        this.memoryText = displayText;
+        this.memoryParsed = true;
+    }
+
+    /**
+     * recallMemoryToDisplay copies the memory value onto the display
+     */
+    public void recallMemoryToDisplay(){
+        if (this.memoryParsed){
+            this.displayValue = registers.recall(0);
+            this.displayText = sameNumber(displayValue, memoryTextValue) ? memoryText : null;
+        }
+        else{
+            this.displayText = memoryText;
+        }
+        this.displayParsed = memoryParsed;
+        this.displayRadix = 10;
+    }
+
+    /**
+     * storeRegister saves the number on the display in a register,
+     * giving a new register name a register of its own
+     * 
+     * @param name : a register such as "M3", or a register name
+     * @throws NumberFormatException if the display is not a number
+     */
+    public void storeRegister(String name){
+        int index = registers.define(name);
+        if (index == 0){
+            saveDisplayToMemory();
+        }
+        else{
+            registers.store(index, getCurrentValue());
+        }
+    }
+
+    /**
+     * recallRegister copies a register onto the display
+     * 
+     * @param name : a register such as "M3", or a register name
+     * @throws IllegalArgumentException if there is no such register
+     */
+    public void recallRegister(String name){
+        int index = registerIndex(name);
+        if (index == 0){
+            recallMemoryToDisplay();
+        }
+        else{
+            changeDisplay(registers.recall(index));
+        }
+    }
+
+    /**
+     * accumulateRegister adds the number on the display to a register,
+     * like m+= on a pocket calculator, giving a new register name a
+     * register of its own
+     * 
+     * @param name : a register such as "M3", or a register name
+     * 
+     * @return the register's new value
+     * @throws NumberFormatException if the display or memory is not a number
+     */
+    public double accumulateRegister(String name){
+        int index = registers.define(name);
+        if (index == 0){
+            recallMemory();
+        }
+        return registers.accumulate(index, getCurrentValue());
+    }
+
+    /**
+     * getRegisterValue gives the value of a register
+     * 
+     * @param name : a register such as "M3", or a register name
+     * 
+     * @return the register's value
+     * @throws IllegalArgumentException if there is no such register
+     */
+    public double getRegisterValue(String name){
+        int index = registerIndex(name);
+        return index == 0 ? recallMemory() : registers.recall(index);
+    }
+
+    private int registerIndex(String name){
+        int index = registers.index(name);
+        if (index < 0){
+            throw new IllegalArgumentException("Error.  There is no register " + name);
+        }
+        return index;
+    }
+
+    private static boolean sameNumber(double a, double b){
+        return Double.doubleToRawLongBits(a) == Double.doubleToRawLongBits(b);
+    }
+
+    /**
+     * switchUnitsMode toggle display value between radians and degrees
+     * 
+     * @return the label of the new units, such as "\nRadian value: "
+     */
+    public String switchUnitsMode(){
+        double doubleValue = getCurrentValue();
+        switch(currentUnitsMode){
+            case "degrees" : this.setUnitsMode("radians");
+            changeDisplay(Math.toRadians(doubleValue));
+            return "\nRadian value: ";
+
+            case "radians" : this.setUnitsMode("degrees");
+            changeDisplay(Math.toDegrees(doubleValue));
+            return "\nDegree value: ";
+        }
+        return "";
+    }
+
+    /**
+     * switchUnitsMode set units mode to radians or degrees
+     * 
+     * @param mode : String "radians" or "degrees"
+     * 
+     * @return the label of the new units, or "" if mode is not known
+     */
+    public String switchUnitsMode(String mode){
+        switch(mode){
+            case "degrees" : this.setUnitsMode("radians");
+            return switchUnitsMode();
+
+            case "radians" : this.setUnitsMode("degrees");
+            return switchUnitsMode();
+        }
+        return "";
+    }
+
+    /**
+     * getUnitsMode is a getter for currentUnitsMode
+     * 
+     * @return the session's currentUnitsMode
+     */
+    public String getUnitsMode(){
+        return this.currentUnitsMode;
+    }
+
+    /**
+     * switchMathMode toggle math mode between precise and fast
+     * 
+     * @return the new math mode
+     */
+    public String switchMathMode(){
+        setMathMode(currentMathMode.equals("fast") ? "precise" : "fast");
+        return currentMathMode;
+    }
+
+    /**
+     * setMathMode is a setter for currentMathMode.  In "fast" mode the
+     * trigonometric, hyperbolic, exponent and cube root operators use the
+     * approximations in FastMath.
+     * 
+     * @param mode : String "precise" or "fast"
+     */
+    public void setMathMode(String mode){
+        this.currentMathMode = mode;
+    }
+
+    /**
+     * getMathMode is a getter for currentMathMode
+     * 
+     * @return the session's currentMathMode
+     */
+    public String getMathMode(){
+        return this.currentMathMode;
+    }
+}
@@ -0,0 +1,117 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The test class CalculatorSessionTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class CalculatorSessionTest {
+
+    @Test
+    public void ApplyTest(){
+
+        // Given
+        CalculatorSession session = new CalculatorSession();
+        OperatorRegistry registry = new OperatorRegistry(session.getCalculator());
+
+        // When
+        String added = session.apply(registry.lookup("+"), 2, 3);
+        String display = session.getCurrentDisplay();
+        String divided = session.apply(registry.lookup("/"), 2, 0);
+
+        // Then
+        Assert.assertNull(added);
+        Assert.assertEquals("5.0", display);
+        Assert.assertEquals("Error.  Cannot divide by 0.", divided);
+        Assert.assertEquals("Error", session.getCurrentDisplay());
+    }
+
+    @Test
+    public void SwitchDisplayModeTest(){
+
+        // Given
+        CalculatorSession session = new CalculatorSession();
+        session.changeDisplay(10);
+
+        // When
+        String binary = session.switchDisplayMode();
+        String binaryDisplay = session.getCurrentDisplay();
+        session.changeDisplay(10);
+        String hex = session.switchDisplayMode("hex");
+        String unknown = session.switchDisplayMode("roman");
+
+        // Then
+        Assert.assertEquals("Binary: ", binary);
+        Assert.assertEquals("1010", binaryDisplay);
+        Assert.assertEquals("Hexadecimal: ", hex);
+        Assert.assertEquals("a", session.getCurrentDisplay());
+        Assert.assertEquals("", unknown);
+    }
+
+    @Test
+    public void MemoryTest(){
+
+        // Given
+        CalculatorSession session = new CalculatorSession();
+        session.changeDisplay(42);
+
+        // When
+        session.saveDisplayToMemory();
+        session.clearDisplay();
+        session.recallMemoryToDisplay();
+
+        // Then
+        Assert.assertEquals("42.0", session.getMemoryValue());
+        Assert.assertEquals(42, session.getCurrentValue(), 0);
+    }
+
+    @Test
+    public void SharedCalculatorTest() throws Exception{
+
+        // Given
+        Calculator calculator = new Calculator();
+        OperatorRegistry registry = new OperatorRegistry(calculator);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Double>> totals = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            totals.add(pool.submit(() -> {
+                        CalculatorSession session = new CalculatorSession(calculator);
+                        Operator add = registry.lookup("+");
+                        for (int i = 1; i <= 10000; i++) {
+                            session.apply(add, session.getCurrentValue(), i);
+                        }
+                        return session.getCurrentValue();
+                    }));
+        }
+        pool.shutdown();
+
+        // Then
+        for (Future<Double> total : totals) {
+            Assert.assertEquals(50005000, total.get(), 0);
+        }
+    }
+
+    @Test
+    public void DisplayDelegatesTest(){
+
+        // Given
+        Display display = new Display();
+
+        // When
+        display.changeDisplay(7);
+        display.saveDisplayToMemory();
+
+        // Then
+        Assert.assertEquals("7.0", display.getSession().getCurrentDisplay());
+        Assert.assertEquals(7, display.getSession().recallMemory(), 0);
+    }
+}
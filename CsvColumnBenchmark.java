@@ -0,0 +1,93 @@
+/**
+ * CsvColumnBenchmark times calculating one column of a CSV file with
+ * the CsvColumnCalculator, next to a BufferedReader that splits each
+ * line into Strings and parses them with Double.parseDouble, and next
+ * to simply reading the file, which is as fast as it can go.
+ *
+ * Run with: java CsvColumnBenchmark
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class CsvColumnBenchmark {
+
+    private static final int LINES = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        Path input = Files.createTempFile("column", ".csv");
+        Path output = Files.createTempFile("column", ".out");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(input, StandardCharsets.UTF_8)) {
+                writer.write("id,name,value,weight\n");
+                for (int i = 0; i < LINES; i++) {
+                    writer.write(i + ",item" + i + "," + (i * 0.37) + "," + (i % 100) + "\n");
+                }
+            }
+            long bytes = Files.size(input);
+            OperatorRegistry registry = new OperatorRegistry(new Display());
+            CsvColumnCalculator calculator = new CsvColumnCalculator(registry.lookup("sqrt"), 0, 3);
+            Operator sqrt = registry.lookup("sqrt");
+
+            double read = Benchmark.measure("read the file", LINES, 2, 5, () -> {
+                    ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+                    long total = 0;
+                    try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+                        while (in.read(buffer) >= 0) {
+                            total += buffer.position();
+                            buffer.clear();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    Benchmark.consume(total);
+                });
+            double mapped = Benchmark.measure("CsvColumnCalculator, sqrt", LINES, 2, 5, () -> {
+                    try {
+                        Benchmark.consume(calculator.run(input, output));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            double split = Benchmark.measure("BufferedReader and split, sqrt", LINES, 2, 5, () -> {
+                    try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+                         BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            String[] fields = line.split(",");
+                            try {
+                                writer.write(Double.toString(sqrt.apply(Double.parseDouble(fields[2]), 0)));
+                            } catch (NumberFormatException | ArrayIndexOutOfBoundsException ex) {
+                                // no value on this line
+                            }
+                            writer.newLine();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+
+            printThroughput("read the file", bytes, read);
+            printThroughput("CsvColumnCalculator", bytes, mapped);
+            printThroughput("BufferedReader and split", bytes, split);
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+        }
+    }
+
+    private static void printThroughput(String label, long bytes, double nanosPerLine) {
+        System.out.printf("%-40s %12.0f MB/s%n", label, bytes / (nanosPerLine * LINES) * 1000);
+    }
+}
@@ -0,0 +1,304 @@
+/**
+ * CsvColumnCalculator applies an operator or a formula to one column of
+ * a CSV file and writes the results as a column of their own, one line
+ * for each line of the input.  The input is memory-mapped a chunk at a
+ * time and the fields are found and parsed from the mapped bytes, and
+ * the results are collected in a direct buffer and written to a
+ * channel, so the memory used is the same however large the file is.
+ *
+ * Fields may be quoted, but a quoted field may not hold a line break.
+ * A line whose field is missing or not a number, such as a header,
+ * gives an empty line, so line n of the output always belongs to line n
+ * of the input.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.DoubleUnaryOperator;
+
+public class CsvColumnCalculator {
+
+    /**
+     * The number of bytes of the input mapped at once unless another
+     * chunk size is set, which is also the longest line allowed
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 26;
+
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final int column;
+    private final DoubleUnaryOperator function;
+    private byte delimiter = ',';
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private long calculated;
+
+    // reused for every field and result, so no objects are created per line
+    private byte[] field = new byte[32];
+    private final StringBuilder text = new StringBuilder(32);
+    private final ByteBuffer output = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+
+    /**
+     * CsvColumnCalculator is a constructor for a calculator applying an
+     * operator to each value of a column
+     *
+     * @param operator : the operator to apply; values it does not allow,
+     *                   such as a division by 0, give NaN
+     * @param y : the second operand, ignored by operators taking one operand
+     * @param column : the column, counted from 1 as with cut -f
+     */
+    public CsvColumnCalculator(Operator operator, double y, int column) {
+        this(x -> operator.check(x, y) == null ? operator.apply(x, y) : Double.NaN, column);
+    }
+
+    /**
+     * CsvColumnCalculator is a constructor for a calculator evaluating a
+     * formula of x for each value of a column
+     *
+     * @param expression : a formula with at most one variable
+     * @param column : the column, counted from 1 as with cut -f
+     * @throws IllegalArgumentException if the formula has more than one variable
+     */
+    public CsvColumnCalculator(Expression expression, int column) {
+        this(formula(expression), column);
+    }
+
+    private CsvColumnCalculator(DoubleUnaryOperator function, int column) {
+        if (column < 1) {
+            throw new IllegalArgumentException("Error.  Columns are counted from 1");
+        }
+        this.function = function;
+        this.column = column;
+    }
+
+    /**
+     * forOperation builds a calculator from an operation as it is typed:
+     * an operator name, followed by the second operand if the operator
+     * takes two, such as "sqrt" or "exponent 2", or else a formula of x,
+     * such as "sqrt(x) / 2"
+     *
+     * @param registry : the operators that may be used
+     * @param operation : the operation
+     * @param column : the column, counted from 1
+     *
+     * @return the calculator
+     * @throws IllegalArgumentException if the operation is not valid,
+     *         including an unknown name or a missing operand
+     */
+    public static CsvColumnCalculator forOperation(OperatorRegistry registry, String operation, int column) {
+        String[] words = operation.trim().split("\\s+");
+        Operator operator = registry.lookup(words[0].toLowerCase());
+        if (operator != null && words.length == operator.getArity()) {
+            double y = words.length > 1 ? Double.parseDouble(words[1]) : 0;
+            return new CsvColumnCalculator(operator, y, column);
+        }
+        if (operator != null && words.length < operator.getArity()) {
+            throw new IllegalArgumentException("Error.  " + words[0] + " needs a second operand, as in \"" + words[0] + " 2\"");
+        }
+        // x is the only name allowed, so a misspelt operator is not taken for a variable
+        return new CsvColumnCalculator(new ExpressionParser(registry).parse(operation, "x"), column);
+    }
+
+    /**
+     * setDelimiter sets the character between fields
+     *
+     * @param delimiter : an ASCII character, ',' unless set
+     */
+    public void setDelimiter(char delimiter) {
+        if (delimiter > 127 || delimiter == '"' || delimiter == '\n') {
+            throw new IllegalArgumentException("Error.  Cannot split fields at " + delimiter);
+        }
+        this.delimiter = (byte) delimiter;
+    }
+
+    /**
+     * setChunkSize sets how many bytes of the input are mapped at once
+     *
+     * @param chunkSize : the chunk size, also the longest line allowed
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Error.  The chunk size must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * run calculates a column of a CSV file into another file
+     *
+     * @param input : the CSV file
+     * @param outputPath : the file the results are written to, replaced if it exists
+     *
+     * @return the number of values calculated
+     * @throws IOException if a file cannot be read or written, or a line is
+     *         longer than the chunk size
+     */
+    public long run(Path input, Path outputPath) throws IOException {
+        try (FileChannel out = FileChannel.open(outputPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return run(input, out);
+        }
+    }
+
+    /**
+     * run calculates a column of a CSV file
+     *
+     * @param input : the CSV file
+     * @param out : where the results are written, one per line
+     *
+     * @return the number of values calculated
+     * @throws IOException if the file cannot be read, the results cannot be
+     *         written, or a line is longer than the chunk size
+     */
+    public long run(Path input, WritableByteChannel out) throws IOException {
+        calculated = 0;
+        output.clear();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = in.size();
+            long start = 0;
+            while (start < size) {
+                int length = (int) Math.min(chunkSize, size - start);
+                MappedByteBuffer chunk = in.map(FileChannel.MapMode.READ_ONLY, start, length);
+                boolean last = start + length == size;
+                int lineStart = 0;
+                while (lineStart < length) {
+                    int lineEnd = calculateLine(chunk, lineStart, length, last, out);
+                    if (lineEnd < 0) {
+                        break;
+                    }
+                    lineStart = lineEnd + 1;
+                }
+                if (lineStart == 0) {
+                    throw new IOException("Error.  A line of " + input + " is longer than " + chunkSize + " bytes");
+                }
+                start += Math.min(lineStart, length);
+            }
+        }
+        flush(out);
+        return calculated;
+    }
+
+    /**
+     * calculateLine finds this calculator's field in the line starting at
+     * lineStart and writes its result line
+     *
+     * @return the index of the line's '\n', or of the end of the last
+     *         chunk, or -1 if the line does not end within the chunk
+     */
+    private int calculateLine(ByteBuffer chunk, int lineStart, int length, boolean last,
+                              WritableByteChannel out) throws IOException {
+        int fieldStart = column == 1 ? lineStart : -1;
+        int fieldEnd = -1;
+        int fieldNumber = 1;
+        boolean quoted = false;
+        int i = lineStart;
+        for (; i < length; i++) {
+            byte b = chunk.get(i);
+            if (b == '\n') {
+                break;
+            }
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == delimiter && !quoted && fieldNumber <= column) {
+                if (fieldNumber == column) {
+                    fieldEnd = i;
+                }
+                fieldNumber++;
+                if (fieldNumber == column) {
+                    fieldStart = i + 1;
+                }
+            }
+        }
+        if (i == length && !last) {
+            return -1;
+        }
+        if (fieldStart >= 0 && fieldEnd < 0) {
+            fieldEnd = i;
+        }
+        if (fieldStart < 0 || !writeResult(chunk, fieldStart, fieldEnd, out)) {
+            put((byte) '\n', out);
+        }
+        return i;
+    }
+
+    /**
+     * writeResult parses a field and writes the result line, unless the
+     * field is not a number
+     *
+     * @return whether a result was written
+     */
+    private boolean writeResult(ByteBuffer chunk, int start, int end, WritableByteChannel out) throws IOException {
+        while (start < end && isPadding(chunk.get(start))) {
+            start++;
+        }
+        while (end > start && (isPadding(chunk.get(end - 1)) || chunk.get(end - 1) == '\r')) {
+            end--;
+        }
+        int length = end - start;
+        if (length == 0) {
+            return false;
+        }
+        if (length > field.length) {
+            field = new byte[length];
+        }
+        chunk.get(start, field, 0, length);
+        double x;
+        try {
+            x = TokenReader.parseDouble(field, 0, length);
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+        text.setLength(0);
+        text.append(function.applyAsDouble(x));
+        if (output.remaining() <= text.length()) {
+            flush(out);
+        }
+        for (int i = 0; i < text.length(); i++) {
+            output.put((byte) text.charAt(i));
+        }
+        output.put((byte) '\n');
+        calculated++;
+        return true;
+    }
+
+    private void put(byte b, WritableByteChannel out) throws IOException {
+        if (!output.hasRemaining()) {
+            flush(out);
+        }
+        output.put(b);
+    }
+
+    private void flush(WritableByteChannel out) throws IOException {
+        output.flip();
+        while (output.hasRemaining()) {
+            out.write(output);
+        }
+        output.clear();
+    }
+
+    private static boolean isPadding(byte b) {
+        return b == ' ' || b == '\t' || b == '"';
+    }
+
+    /**
+     * formula turns a formula into a function of one value
+     */
+    private static DoubleUnaryOperator formula(Expression expression) {
+        int variables = expression.getVariables().length;
+        if (variables > 1) {
+            throw new IllegalArgumentException("Error.  Expected a formula of x but " + expression + " has " + variables + " variables");
+        }
+        double[] value = new double[1];
+        return x -> {
+            value[0] = x;
+            return expression.evaluate(value);
+        };
+    }
+}
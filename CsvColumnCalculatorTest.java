@@ -0,0 +1,157 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The test class CsvColumnCalculatorTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class CsvColumnCalculatorTest {
+
+    private static String calculate(CsvColumnCalculator calculator, String csv) throws Exception {
+        Path input = Files.createTempFile("column", ".csv");
+        Path output = Files.createTempFile("column", ".out");
+        try {
+            Files.write(input, csv.getBytes(StandardCharsets.UTF_8));
+            calculator.run(input, output);
+            return new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+        } finally {
+            Files.delete(input);
+            Files.delete(output);
+        }
+    }
+
+    @Test
+    public void OperatorTest() throws Exception{
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        CsvColumnCalculator calculator = new CsvColumnCalculator(registry.lookup("sqrt"), 0, 2);
+
+        // When
+        String results = calculate(calculator, "name,value,note\na,16,x\nb,2.25,y\n");
+
+        // Then
+        Assert.assertEquals("\n4.0\n1.5\n", results);
+    }
+
+    @Test
+    public void FirstAndLastColumnTest() throws Exception{
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        CsvColumnCalculator first = new CsvColumnCalculator(registry.lookup("^2"), 0, 1);
+        CsvColumnCalculator last = new CsvColumnCalculator(registry.lookup("^2"), 0, 3);
+
+        // When
+        String firsts = calculate(first, "1,2,3\r\n4,5,6");
+        String lasts = calculate(last, "1,2,3\r\n4,5,6");
+
+        // Then
+        Assert.assertEquals("1.0\n16.0\n", firsts);
+        Assert.assertEquals("9.0\n36.0\n", lasts);
+    }
+
+    @Test
+    public void MissingAndQuotedFieldsTest() throws Exception{
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        CsvColumnCalculator calculator = new CsvColumnCalculator(registry.lookup("+"), 1, 2);
+
+        // When
+        String results = calculate(calculator, "\"a,b\",\" 7 \"\nonly\n\nx,abc\ny, -1\n");
+
+        // Then
+        Assert.assertEquals("8.0\n\n\n\n0.0\n", results);
+    }
+
+    @Test
+    public void DivideByZeroTest() throws Exception{
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        CsvColumnCalculator calculator = new CsvColumnCalculator(registry.lookup("/"), 0, 1);
+
+        // When
+        String results = calculate(calculator, "1\n");
+
+        // Then
+        Assert.assertEquals("NaN\n", results);
+    }
+
+    @Test
+    public void ForOperationTest() throws Exception{
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        CsvColumnCalculator exponent = CsvColumnCalculator.forOperation(registry, "exponent 3", 1);
+        CsvColumnCalculator formula = CsvColumnCalculator.forOperation(registry, "sqrt(x^2 + 4^2)", 1);
+
+        // When
+        String cubes = calculate(exponent, "2\n3\n");
+        String lengths = calculate(formula, "3\n0\n");
+
+        // Then
+        Assert.assertEquals("8.0\n27.0\n", cubes);
+        Assert.assertEquals("5.0\n4.0\n", lengths);
+    }
+
+    @Test
+    public void BadOperationTest(){
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        int rejected = 0;
+
+        // When
+        for (String operation : new String[] {"exponent", "sqrtt", "sqrt(y)", "x + z"}) {
+            try {
+                CsvColumnCalculator.forOperation(registry, operation, 1);
+            } catch (IllegalArgumentException ex) {
+                rejected++;
+            }
+        }
+
+        // Then
+        Assert.assertEquals(4, rejected);
+    }
+
+    @Test
+    public void ChunkBoundaryTest() throws Exception{
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        CsvColumnCalculator calculator = new CsvColumnCalculator(registry.lookup("*"), 2, 2);
+        calculator.setChunkSize(16);
+        calculator.setDelimiter(';');
+        StringBuilder csv = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append(';').append(i * 0.5).append('\n');
+            expected.append(i * 1.0).append('\n');
+        }
+
+        // When
+        String results = calculate(calculator, csv.toString());
+
+        // Then
+        Assert.assertEquals(expected.toString(), results);
+    }
+
+    @Test(expected = java.io.IOException.class)
+    public void LongLineTest() throws Exception{
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        CsvColumnCalculator calculator = new CsvColumnCalculator(registry.lookup("sqrt"), 0, 1);
+        calculator.setChunkSize(4);
+
+        // When
+        calculate(calculator, "123456\n1\n");
+    }
+}
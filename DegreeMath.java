@@ -0,0 +1,242 @@
+/**
+ * DegreeMath holds trigonometric functions that work in degrees.  The
+ * angle is reduced in degrees first, which is exact, to a quadrant and
+ * an angle between -45 and 45 degrees, and only that small angle is
+ * turned into radians.  Math.sin(Math.toRadians(x)) instead rounds the
+ * whole angle to radians, so sin(180) comes out as 1.2e-16 rather than
+ * 0.  Multiples of 30, 45 and 90 degrees give exact results from a
+ * table.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+public final class DegreeMath {
+
+    // pi / 180 split in two, so d * (HI + LO) is nearly exact
+    private static final double RADIANS_PER_DEGREE_HI = 0.017453292519943295;
+    private static final double RADIANS_PER_DEGREE_LO = 2.9486522708701687e-19;
+
+    // below this angle the quadrant fits in an int
+    private static final double LARGE_ANGLE = 0x1p30;
+
+    // correctly rounded values of the table angles
+    private static final double SQRT_HALF = 0.7071067811865476;
+    private static final double SQRT3_HALF = 0.8660254037844386;
+    private static final double SQRT3 = 1.7320508075688772;
+    private static final double TAN_30 = 0.5773502691896257;
+
+    private DegreeMath() {
+    }
+
+    /**
+     * sin calculates the sine of an angle in degrees
+     *
+     * @param degrees : the angle
+     *
+     * @return the sin of the angle, exact for multiples of 30 and 45 degrees
+     */
+    public static double sin(double degrees) {
+        if (degrees == 0 || Double.isNaN(degrees) || Double.isInfinite(degrees)) {
+            return degrees == 0 ? degrees : Double.NaN;
+        }
+        double r = reduce(degrees, 360);
+        int quadrant = (int) Math.rint(r / 90);
+        double d = r - 90 * quadrant;
+        double value;
+        switch (quadrant & 3) {
+            case 0 : value = sinReduced(d); break;
+            case 1 : value = cosReduced(d); break;
+            case 2 : value = -sinReduced(d); break;
+            default : value = -cosReduced(d); break;
+        }
+        // adding 0.0 turns an exact -0.0, as from sin(180), into 0.0
+        return value + 0.0;
+    }
+
+    /**
+     * cos calculates the cosine of an angle in degrees
+     *
+     * @param degrees : the angle
+     *
+     * @return the cos of the angle, exact for multiples of 30 and 45 degrees
+     */
+    public static double cos(double degrees) {
+        if (Double.isNaN(degrees) || Double.isInfinite(degrees)) {
+            return Double.NaN;
+        }
+        double r = reduce(degrees, 360);
+        int quadrant = (int) Math.rint(r / 90);
+        double d = r - 90 * quadrant;
+        double value;
+        switch (quadrant & 3) {
+            case 0 : value = cosReduced(d); break;
+            case 1 : value = -sinReduced(d); break;
+            case 2 : value = -cosReduced(d); break;
+            default : value = sinReduced(d); break;
+        }
+        return value + 0.0;
+    }
+
+    /**
+     * tan calculates the tangent of an angle in degrees
+     *
+     * @param degrees : the angle
+     *
+     * @return the tan of the angle, exact for multiples of 30 and 45
+     *         degrees, or NaN for odd multiples of 90 degrees
+     */
+    public static double tan(double degrees) {
+        if (degrees == 0 || Double.isNaN(degrees) || Double.isInfinite(degrees)) {
+            return degrees == 0 ? degrees : Double.NaN;
+        }
+        double r = reduce(degrees, 180);
+        int quadrant = (int) Math.rint(r / 90);
+        double d = r - 90 * quadrant;
+        // tan(90 + d) = -cot(d)
+        double value = (quadrant & 1) == 0 ? tanReduced(d) : -cotReduced(d);
+        return value + 0.0;
+    }
+
+    /**
+     * asin calculates the inverse sine of a number in degrees
+     *
+     * @param x : a number from -1 to 1
+     *
+     * @return the angle from -90 to 90 degrees whose sin is x
+     */
+    public static double asin(double x) {
+        double magnitude = Math.abs(x);
+        double degrees;
+        if (magnitude == 1) {
+            degrees = 90;
+        } else if (magnitude == SQRT3_HALF) {
+            degrees = 60;
+        } else if (magnitude == SQRT_HALF) {
+            degrees = 45;
+        } else if (magnitude == 0.5) {
+            degrees = 30;
+        } else {
+            return Math.toDegrees(Math.asin(x));
+        }
+        return x < 0 ? -degrees : degrees;
+    }
+
+    /**
+     * acos calculates the inverse cosine of a number in degrees
+     *
+     * @param x : a number from -1 to 1
+     *
+     * @return the angle from 0 to 180 degrees whose cos is x
+     */
+    public static double acos(double x) {
+        double magnitude = Math.abs(x);
+        double degrees;
+        if (magnitude == 1) {
+            degrees = 0;
+        } else if (magnitude == SQRT3_HALF) {
+            degrees = 30;
+        } else if (magnitude == SQRT_HALF) {
+            degrees = 45;
+        } else if (magnitude == 0.5) {
+            degrees = 60;
+        } else if (magnitude == 0) {
+            return 90;
+        } else {
+            return Math.toDegrees(Math.acos(x));
+        }
+        return x < 0 ? 180 - degrees : degrees;
+    }
+
+    /**
+     * atan calculates the inverse tangent of a number in degrees
+     *
+     * @param x : a number
+     *
+     * @return the angle from -90 to 90 degrees whose tan is x
+     */
+    public static double atan(double x) {
+        double magnitude = Math.abs(x);
+        double degrees;
+        if (magnitude == Double.POSITIVE_INFINITY) {
+            degrees = 90;
+        } else if (magnitude == SQRT3) {
+            degrees = 60;
+        } else if (magnitude == 1) {
+            degrees = 45;
+        } else if (magnitude == TAN_30) {
+            degrees = 30;
+        } else {
+            return Math.toDegrees(Math.atan(x));
+        }
+        return x < 0 ? -degrees : degrees;
+    }
+
+    /**
+     * reduce takes whole turns off an angle.  Below 2^30 degrees it is
+     * left alone, since subtracting 90 * quadrant from it is exact anyway
+     * and the remainder is slow to compute.
+     */
+    private static double reduce(double degrees, double turn) {
+        return Math.abs(degrees) < LARGE_ANGLE ? degrees : degrees % turn;
+    }
+
+    /**
+     * toRadians turns an angle from -45 to 45 degrees into radians
+     */
+    private static double toRadians(double d) {
+        return d * RADIANS_PER_DEGREE_HI + d * RADIANS_PER_DEGREE_LO;
+    }
+
+    private static double sinReduced(double d) {
+        if (d == 0) {
+            return d;
+        }
+        if (d == 30 || d == -30) {
+            return d > 0 ? 0.5 : -0.5;
+        }
+        if (d == 45 || d == -45) {
+            return d > 0 ? SQRT_HALF : -SQRT_HALF;
+        }
+        return Math.sin(toRadians(d));
+    }
+
+    private static double cosReduced(double d) {
+        if (d == 0) {
+            return 1;
+        }
+        if (d == 30 || d == -30) {
+            return SQRT3_HALF;
+        }
+        if (d == 45 || d == -45) {
+            return SQRT_HALF;
+        }
+        return Math.cos(toRadians(d));
+    }
+
+    private static double tanReduced(double d) {
+        if (d == 0) {
+            return d;
+        }
+        if (d == 30 || d == -30) {
+            return d > 0 ? TAN_30 : -TAN_30;
+        }
+        if (d == 45 || d == -45) {
+            return d > 0 ? 1 : -1;
+        }
+        return Math.tan(toRadians(d));
+    }
+
+    private static double cotReduced(double d) {
+        if (d == 0) {
+            return Double.NaN;
+        }
+        if (d == 30 || d == -30) {
+            return d > 0 ? SQRT3 : -SQRT3;
+        }
+        if (d == 45 || d == -45) {
+            return d > 0 ? 1 : -1;
+        }
+        return 1 / Math.tan(toRadians(d));
+    }
+}
@@ -0,0 +1,76 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Random;
+
+/**
+ * The test class DegreeMathTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class DegreeMathTest {
+
+    @Test
+    public void ExactAnglesTest(){
+
+        // Then
+        Assert.assertEquals(0.0, DegreeMath.sin(180), 0);
+        Assert.assertEquals(0.0, DegreeMath.sin(-360), 0);
+        Assert.assertEquals(0.5, DegreeMath.sin(30), 0);
+        Assert.assertEquals(-0.5, DegreeMath.sin(210), 0);
+        Assert.assertEquals(0.5, DegreeMath.cos(60), 0);
+        Assert.assertEquals(0.0, DegreeMath.cos(90), 0);
+        Assert.assertEquals(-1.0, DegreeMath.cos(540), 0);
+        Assert.assertEquals(Math.sqrt(0.5), DegreeMath.sin(45), 0);
+        Assert.assertEquals(1.0, DegreeMath.tan(45), 0);
+        Assert.assertEquals(-1.0, DegreeMath.tan(135), 0);
+        Assert.assertEquals(Math.sqrt(3), DegreeMath.tan(60), 0);
+        Assert.assertTrue(Double.isNaN(DegreeMath.tan(90)));
+        Assert.assertEquals(30.0, DegreeMath.asin(0.5), 0);
+        Assert.assertEquals(120.0, DegreeMath.acos(-0.5), 0);
+        Assert.assertEquals(-45.0, DegreeMath.atan(-1), 0);
+    }
+
+    @Test
+    public void MatchesRadiansTest(){
+
+        // Given
+        Random random = new Random(18);
+
+        // Then
+        for (int i = 0; i < 10000; i++) {
+            double x = 1440 * random.nextDouble() - 720;
+            Assert.assertEquals(Math.sin(Math.toRadians(x)), DegreeMath.sin(x), 1e-14);
+            Assert.assertEquals(Math.cos(Math.toRadians(x)), DegreeMath.cos(x), 1e-14);
+        }
+    }
+
+    @Test
+    public void LargeAngleTest(){
+
+        // When
+        // 1e22 degrees is 280 degrees past a whole number of turns
+        double actual = DegreeMath.sin(1e22);
+
+        // Then
+        Assert.assertEquals(-Math.sin(Math.toRadians(80)), actual, 1e-15);
+        Assert.assertTrue(Double.isNaN(DegreeMath.sin(Double.POSITIVE_INFINITY)));
+    }
+
+    @Test
+    public void UnitsModeTest(){
+
+        // Given
+        CalculatorSession session = new CalculatorSession();
+        OperatorRegistry registry = new OperatorRegistry(session.getCalculator());
+
+        // When
+        Operator degrees = registry.lookup("sin", "degrees");
+        Operator radians = registry.lookup("sin", "radians");
+
+        // Then
+        Assert.assertEquals(1.0, degrees.apply(90, 0), 0);
+        Assert.assertEquals(Math.sin(90), radians.apply(90, 0), 0);
+        Assert.assertSame(registry.lookup("sin"), radians);
+    }
+}
@@ -1,8 +1,9 @@
 
 /**
- * Display contains the state of the calculator and its display
- * including user input and output.  Has methods for all calculator's
- * mathematical functions.
+ * Display is the calculator's console.  It reads user input, prints
+ * results and runs the interactive calculator, keeping the display and
+ * memory in a CalculatorSession.  The mathematical functions are
+ * inherited from Calculator.
  * 
  * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
  * @version 2/11/2019
@@ -11,17 +12,18 @@
 import java.io.InputStream; 
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.math.BigDecimal;
 import java.util.Scanner;
 import java.util.InputMismatchException;
 
-public class Display {
+public class Display extends Calculator {
 
     private final Scanner scanner; 
+    private final TokenReader reader;
     private final PrintStream out;
-    private String currentDisplay = "0";
-    private String memoryValue = "0";
-    private String currentDisplayMode = "decimal";
-    private String currentUnitsMode = "degrees";
+    private final StringBuilder line = new StringBuilder(80);
+    private byte[] lineBytes = new byte[80];
+    private final CalculatorSession session;
 
     /**
      * Display is a constructor for a Display object
@@ -37,7 +39,32 @@ public class Display {
      * @param outputStream : program outputStream
      */
     public Display(InputStream inputStream, OutputStream outputStream) {
-        this(new Scanner(inputStream), new PrintStream(outputStream));
+        this(new TokenReader(inputStream), new PrintStream(outputStream));
+    }
+
+    /**
+     * Display is a constructor for a Display object
+     * 
+     * @param reader : a TokenReader for user input
+     * @param printStream : a PrintStream for program output
+     */
+    public Display(TokenReader reader, PrintStream printStream) {
+        this(reader, printStream, new MemoryRegisters());
+    }
+
+    /**
+     * Display is a constructor for a Display object
+     * 
+     * @param reader : a TokenReader for user input
+     * @param printStream : a PrintStream for program output
+     * @param registers : the memory registers, such as MappedMemoryRegisters
+     *                    to keep them between runs
+     */
+    public Display(TokenReader reader, PrintStream printStream, MemoryRegisters registers) {
+        this.scanner = null;
+        this.reader = reader;
+        this.out = printStream;
+        this.session = new CalculatorSession(this, registers);
     }
 
     /**
@@ -48,7 +75,9 @@ public class Display {
      */
     public Display(Scanner scanner, PrintStream printStream) {
         this.scanner = scanner;
+        this.reader = null;
         this.out = printStream;
+        this.session = new CalculatorSession(this);
     }
 
     /**
@@ -68,15 +97,62 @@ public class Display {
         print(val + "\n", args); 
     }
 
+    /**
+     * printResult prints an operator's result line, preceded by a blank
+     * line.  The line is built in a reused buffer and written in one call,
+     * so no format strings, argument arrays or temporary strings are made.
+     *
+     * @param operator : the operator that was applied
+     * @param token : the text the user typed for the operator
+     * @param x : the first operand
+     * @param y : the second operand
+     * @param result : the result
+     */
+    public void printResult(Operator operator, String token, double x, double y, double result) {
+        line.setLength(0);
+        line.append('\n');
+        operator.appendResult(line, token, x, y, result).append('\n');
+        write(line);
+    }
+
+    /**
+     * write sends text to the PrintStream in one call, copying it through
+     * a reused byte buffer when it is plain ASCII
+     */
+    private void write(StringBuilder text) {
+        int length = text.length();
+        if (lineBytes.length < length) {
+            lineBytes = new byte[Math.max(length, 2 * lineBytes.length)];
+        }
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                out.print(text.toString());
+                return;
+            }
+            lineBytes[i] = (byte) c;
+        }
+        out.write(lineBytes, 0, length);
+    }
+
     /**
      * getScanner is a getter for scanner
      * 
-     * @return the display's scanner
+     * @return the display's scanner, or null if it reads through a TokenReader
      */
     public Scanner getScanner(){
         return this.scanner;
     }
 
+    /**
+     * getTokenReader is a getter for reader
+     * 
+     * @return the display's TokenReader, or null if it reads through a Scanner
+     */
+    public TokenReader getTokenReader(){
+        return this.reader;
+    }
+
     /**
      * getPrintStream is a getter for out
      * 
@@ -98,7 +174,7 @@ public class Display {
         Double d = new Double(0);
 
         try {
-            d = this.scanner.nextDouble();
+            d = this.reader != null ? this.reader.nextDouble() : this.scanner.nextDouble();
         } catch(InputMismatchException ex){
             println("Error: not a numerical value");
         }
@@ -113,7 +189,36 @@ public class Display {
     public String getStringInput(String prompt, Object... args) {
         println(prompt);
 
-        return this.scanner.next();
+        return this.reader != null ? this.reader.next() : this.scanner.next();
+    }
+
+    /**
+     * @param prompt : text to display to user
+     * @param args   : optional arguments to send for string formatting
+     * @return the next non-blank line the user enters, trimmed
+     */
+    public String getLineInput(String prompt, Object... args) {
+        println(prompt);
+        String line = nextLine();
+
+        // skip what is left of the line a previous token was read from
+        while (line.trim().isEmpty()) {
+            line = nextLine();
+        }
+        return line.trim();
+    }
+
+    private String nextLine() {
+        return this.reader != null ? this.reader.nextLine() : this.scanner.nextLine();
+    }
+
+    /**
+     * getSession is a getter for session
+     * 
+     * @return the session holding the display's state
+     */
+    public CalculatorSession getSession(){
+        return this.session;
     }
 
     /**
@@ -122,14 +227,24 @@ public class Display {
      * @return the display's currentDisplay
      */
     public String getCurrentDisplay(){
-        return this.currentDisplay;
+        return session.getCurrentDisplay();
+    }
+
+    /**
+     * getCurrentValue gets the number on the display
+     * 
+     * @return the display's value
+     * @throws NumberFormatException if the display holds text that is not a number
+     */
+    public double getCurrentValue(){
+        return session.getCurrentValue();
     }
 
     /**
      * clearDisplay clears the display back to zero
      */
     public void clearDisplay(){
-        this.currentDisplay = "0";
+        session.clearDisplay();
     }
 
     /**
@@ -138,51 +253,24 @@ public class Display {
      * @param s : a String that will be the currentDisplay
      */
     public void changeDisplay(String s){
-        this.currentDisplay = s;
+        session.changeDisplay(s);
     }
 
-    /** add calculates the sum of two numbers
-     * 
-     * @param x : a double to be added
-     * @param y : a double to be added
+    /**
+     * changeDisplay changes the display to a number
      * 
-     * @return a double that is the sum of x and y
+     * @param value : the number to display
      */
-    public double add(double x, double y){
-        return x + y;
-
+    public void changeDisplay(double value){
+        session.changeDisplay(value);
     }
 
     /**
      * switchDisplayMode() toggles currentDisplay value through binary, octal, 
-     * hexadecimal, and decimal
+     * hexadecimal, and decimal, printing the new mode's name
      */
-
     public void switchDisplayMode(){
-        switch(currentDisplayMode){
-            case "decimal" : currentDisplayMode = "binary";
-            Integer intValueBinary = (int)Math.round(Double.valueOf(currentDisplay));
-            currentDisplay = Integer.toBinaryString(intValueBinary);
-            print("Binary: ");
-            break;
-
-            case "binary" : currentDisplayMode = "octal";
-            Integer intValueOctal = (int)Math.round(Double.valueOf(currentDisplay));
-            currentDisplay = Integer.toOctalString(intValueOctal);
-            print("Octal: ");
-            break;
-
-            case "octal" : currentDisplayMode = "hexadecimal";
-            Integer intValueHex = (int)Math.round(Double.valueOf(currentDisplay));
-            currentDisplay = Integer.toHexString(intValueHex);
-            print("Hexadecimal: ");
-            break;
-
-            case "hexadecimal" : currentDisplayMode = "decimal";
-            print("Decimal: ");
-
-            break;
-        }
+        print(session.switchDisplayMode());
     }
 
     /**
@@ -191,19 +279,7 @@ public class Display {
      * @param mode : a String "binary", "octal", or "hex" that indicates which mode to switch to
      */
     public void switchDisplayMode(String mode){
-        switch(mode){
-            case "binary" : this.currentDisplayMode = "decimal";
-            this.switchDisplayMode();
-            break;
-
-            case "octal" : this.currentDisplayMode = "binary";
-            switchDisplayMode();
-            break;
-
-            case "hex" : this.currentDisplayMode = "octal";
-            switchDisplayMode();
-            break;
-        }
+        print(session.switchDisplayMode(mode));
     }
 
     /**
@@ -213,7 +289,7 @@ public class Display {
      * 
      */
     public void setCurrentDisplayMode(String mode){
-        this.currentDisplayMode = mode;
+        session.setCurrentDisplayMode(mode);
     }
 
     /**
@@ -222,7 +298,7 @@ public class Display {
      * @param mode : String "radians" or "degrees"
      */
     public void setUnitsMode(String mode){
-        this.currentUnitsMode = mode;
+        session.setUnitsMode(mode);
     }
 
     /**
@@ -231,622 +307,396 @@ public class Display {
      * @param s : a String that is the value to be saved as memoryValue
      */
     public void setMemoryValue(String s){
-        this.memoryValue = s;
+        session.setMemoryValue(s);
     }
 
     /**
-     * getMemoryValue gives back the value that was saved
+     * setMemoryValue saves a number as the memory value
      * 
-     * @return the Display's current memory value
+     * @param value : the number to be saved as memoryValue
      */
-    public String getMemoryValue(){
-        return this.memoryValue;
+    public void setMemoryValue(double value){
+        session.setMemoryValue(value);
     }
 
     /**
-     * switchUnitsMode toggle display value between radians and degrees
-     */
-    public void switchUnitsMode(){
-        Double doubleValue = Double.valueOf(currentDisplay);
-        switch(currentUnitsMode){
-            case "degrees" : this.setUnitsMode("radians");
-            Double doubleRadians = Math.toRadians(doubleValue);
-            currentDisplay = doubleRadians.toString();
-            print("\nRadian value: ");
-            break;
-
-            case "radians" : this.setUnitsMode("degrees");
-            Double doubleDegrees = doubleValue + Math.PI/180;
-            currentDisplay = doubleDegrees.toString();
-            print("\nDegree value: ");
-            break;
-        }
-
-    }
-
-    /**
-     * switchUnitsMode set units mode to radians or degrees
-     * 
-     * @param mode : String "radians" or "degrees"
-     */
-    public void switchUnitsMode(String mode){
-        switch(mode){
-            case "degrees" : this.setUnitsMode("radians");
-            this.switchUnitsMode();
-            break;
-
-            case "radians" : this.setUnitsMode("degrees");
-            this.switchUnitsMode();
-            break;
-
-        }
-
-    }
-
-    /**
-     * getUnitsMode is a getter for currentUnitsMode
-     * 
-     * @return the display's currentUnitsMode
-     */
-    public String getUnitsMode(){
-        return this.currentUnitsMode;
-    }
-    // This is all the operations
-
-    /**
-     * subtract calculates the difference between two numbers
-     * 
-     * @param x : a number
-     * @param y : a number to subtract from x
-     * 
-     * @return the difference between x and y
-     */
-    public double subtract(double x, double y){
-        return x - y;
-    }
-
-    /**
-     * multiply calculates the product of two numbers
-     * 
-     * @param x : a number
-     * @param y : a number to multiply by x
-     * 
-     * @return the product of x and y
-     */
-    public double multiply(double x, double y){
-        return x * y;
-    } 
-
-    /**
-     * divide finds the quotient of two numbers
-     * 
-     * @param x : a number that is the dividend
-     * @param y : a number that is the divisor
-     * 
-     * @return the quotient of x and y
-     */
-    public double divide(double x, double y){
-        return x / y;
-    }
-
-    /**
-     * modulus calculates the remainder when two numbers are divided
-     * 
-     * @param x : a number that is the dividend
-     * @param y : a number that is the divisor
-     * 
-     * @return the remainder when x is divided by y
-     */
-    public double modulus(double x, double y){
-        return x % y;
-    }
-
-    /**
-     * exponent calculates the value of a number raised to an exponent
-     * 
-     * @param x : a number
-     * @param y : a number that is the exponent value
+     * getMemoryValue gives back the value that was saved
      * 
-     * @return x raised to the power y
+     * @return the Display's current memory value
      */
-    public double exponent(double x, double y){
-        return Math.pow(x, y);
+    public String getMemoryValue(){
+        return session.getMemoryValue();
     }
 
     /**
-     * squareRoot calculates the square root of a numbre
+     * recallMemory gives back the number that was saved
      * 
-     * @param x : a number
-     * 
-     * @return the square root of x
+     * @return the Display's current memory value as a number
+     * @throws NumberFormatException if the memory holds text that is not a number
      */
-    public double squareRoot(double x){
-        return Math.sqrt(x);
+    public double recallMemory(){
+        return session.recallMemory();
     }
 
     /**
-     * sin calculates the sine of a number
-     * 
-     * @param x : a number
-     * 
-     * @return the sin of x
+     * clearMemory resets the memory value to zero
      */
-    public double sin(double x){
-        return Math.sin(x);
+    public void clearMemory(){
+        session.clearMemory();
     }
 
     /**
-     * asin calculates the inverse sine of a number
-     * 
-     * @param x : a number
-     * 
-     * @return the inverse sin of x
+     * saveDisplayToMemory copies the display into memory
      */
-    public double asin(double x){
-        return Math.asin(x);
+    public void saveDisplayToMemory(){
+        session.saveDisplayToMemory();
     }
 
     /**
-     * cos calculates the cosine of a number
-     * 
-     * @param x : a number
-     * 
-     * @return the cos of x
+     * recallMemoryToDisplay copies the memory value onto the display
      */
-    public double cos(double x){
-        return Math.cos(x);
+    public void recallMemoryToDisplay(){
+        session.recallMemoryToDisplay();
     }
 
     /**
-     * cosh calculates the hyperbolic cosine of a number
-     * 
-     * @param x : a number
-     * 
-     * @return the hyberbolic cos of x
+     * switchUnitsMode toggle display value between radians and degrees,
+     * printing the new units
      */
-    public double cosh(double x){
-        return Math.cosh(x);
+    public void switchUnitsMode(){
+        print(session.switchUnitsMode());
     }
 
     /**
-     * sinh calculates the hyperbolic sine of a number
-     * 
-     * @param x : a number
+     * switchUnitsMode set units mode to radians or degrees
      * 
-     * @return the hyberbolic sin of x
+     * @param mode : String "radians" or "degrees"
      */
-    public double sinh(double x){
-        return Math.sinh(x);
+    public void switchUnitsMode(String mode){
+        print(session.switchUnitsMode(mode));
     }
 
     /**
-     * acos calculates the inverse cosine of a number
-     * 
-     * @param x : a number
+     * getUnitsMode is a getter for currentUnitsMode
      * 
-     * @return the inverse cos of x
+     * @return the display's currentUnitsMode
      */
-    public double acos(double x){
-        return Math.acos(x);
+    public String getUnitsMode(){
+        return session.getUnitsMode();
     }
 
     /**
-     * tan calculates the tangent of a number
-     * 
-     * @param x : a number
-     * 
-     * @return the tan of x
+     * switchMathMode toggle math mode between precise and fast, printing
+     * the new mode
      */
-    public double tan(double x){
-        return Math.tan(x);
+    public void switchMathMode(){
+        println("Math mode: %s", session.switchMathMode());
     }
 
     /**
-     * atan calculates the inverse tangent of a number
-     * 
-     * @param x : a number
+     * getMathMode is a getter for currentMathMode
      * 
-     * @return the inverse tan of x
+     * @return the display's currentMathMode
      */
-    public double atan(double x){
-        return Math.atan(x);
+    public String getMathMode(){
+        return session.getMathMode();
     }
 
     /**
-     * tanh calculates the hyperbolic tangent of a number
+     * decimalOperand gives the number being calculated with every digit
+     * the user typed, which the display still shows if it was typed as
+     * the next number
      * 
-     * @param x : a number
+     * @param x : the number being calculated with
      * 
-     * @return the tanh of x
+     * @return x as a decimal
      */
-    public double tanh(double x){
-        return Math.tanh(x);
+    private BigDecimal decimalOperand(double x){
+        try{
+            BigDecimal shown = session.getCurrentDecimal();
+            if (shown.doubleValue() == x){
+                return shown;
+            }
+        } catch(NumberFormatException ex) {
+            // the display shows text such as "Error"
+        }
+        return BigDecimal.valueOf(x);
     }
 
     /**
-     * theta calculates the angle of a point (x, y)
+     * printHistory prints the latest operations on the history tape in the
+     * same form as when they were calculated
      * 
-     * @param x : a number that is the x coordinate
-     * @param y : a number that is the y coordinate
-     * 
-     * @return the angle theta between the x axis and (x, y)
+     * @param registry : the operators whose result formats are used
+     * @param n : how many operations to print
      */
-    public double theta(double x, double y){
-        return Math.atan2(y,x);
+    private void printHistory(OperatorRegistry registry, int n){
+        HistoryTape history = session.getHistory();
+        if (history == null || history.size() == 0){
+            println("\nNothing has been calculated yet.");
+            return;
+        }
+        Operator[] operators = BinaryProtocol.operators(registry);
+        println("");
+        history.forEachLast(n, (time, opcode, x, y, result) -> {
+            line.setLength(0);
+            if (opcode > 0 && opcode < operators.length && operators[opcode] != null){
+                operators[opcode].appendResult(line, operators[opcode].getName(), x, y, result);
+            }
+            else{
+                line.append(result);
+            }
+            write(line.append('\n'));
+        });
     }
 
     /**
-     * cubicRoot calculates the cubic root of a number
+     * registerCommand asks which memory register to use and stores the
+     * display in it ("sto"), recalls it onto the display ("rcl") or adds
+     * the display to it ("m+=")
      * 
-     * @param x : a number
-     * 
-     * @return the cubic root of x
-     */
-    public double cubicRoot(double x){
-        return Math.cbrt(x);
-    }
-
-    /**
-     * inverse calculates the inverse of a number 
-     *
-     * @param  x : number to calculate inverse of
-     * @return inverse of x
-     */
-    public double inverse(double x){
-        return 1 / x;
-    }
-
-    /**
-     * invertSign changes the sign of the input number
-     *
-     * @param  x : number to change sign of
-     * @return x with inverted sign
+     * @param command : "sto", "rcl" or "m+="
      */
-    public double invertSign(double x){
-        return -x;
-    }
+    private void registerCommand(String command){
+        String register = getStringInput("\nEnter a register, M0 to M9 or a name");
+        try{
+            switch(command){
+                case "sto" :
+                session.storeRegister(register);
+                println("\n%s has been saved to %s.", getCurrentDisplay(), register);
+                break;
 
-    /**
-     * factorial calculates factorial of a number
-     *
-     * @param  x : number to calculate factorial of
-     * @return factorial of x
-     */
-    public double factorial(double x){
-        double f = 1;
-        for (int i = 1; i <= x; i++){
-            f = f * i;
-        }
-        return f;
-    }
+                case "rcl" :
+                session.recallRegister(register);
+                println("\n%s", getCurrentDisplay());
+                break;
 
-    /**
-     * gcm calculates the greatest common divisor of two numbers
-     *
-     * @param  x : one number for gcd calculation
-     * @param  y : other number for gcd calculation
-     * @return gcd of x an y
-     */
-    public double gcd(double x, double y){
-        if (y == 0){
-            return x;
-        }
-        else{
-            return gcd(y, x % y);
+                default :
+                double total = session.accumulateRegister(register);
+                println("\n%s is now %s", register, Double.toString(total));
+            }
+        } catch(IllegalArgumentException ex) {
+            println("%s", ex.getMessage());
         }
     }
 
-    /**
-     * lcm calculates the least common multiple of two numbers
-     *
-     * @param  x : one number for lcm calculation
-     * @param  y : other number for lcm calculation
-     * @return lcm of x an y
-     */
-
-    public double lcm(double x, double y){
-        return x * (y / gcd(x, y));
-    }
-
     /**
      * SuperCalc runs the program
      */
     public void superCalc(){
         boolean run = true;
-        Display display = new Display();
+        Display display = this;
         display.println("TIME TO CALCULATE!\n");
+        OperatorRegistry registry = new OperatorRegistry(display);
+        ExpressionCache formulas = new ExpressionCache(registry, 256);
+        if (display.getSession().getHistory() == null){
+            display.getSession().setHistory(new HistoryTape());
+        }
         Double x = display.getDoubleInput("Enter a number");
 
         while (run){
             display.println("\n[+]  [-]  [*]  [/]  [%%]  [^2]  [^x]  [sqrt]  [cbrt]  [!]");
             display.println("[sin]  [cos]  [tan]  [sinh]  [cosh]  [tanh]  [asin]  [acos]  [atan]");
-            display.println("[changebase]  [binary]  [octal]  [hex]  [changeunits]  [radians]  [degrees]");
-            display.println("[theta]  [inverse]  [invertsign]  [gcd]  [lcm]\n");
+            display.println("[changebase]  [binary]  [octal]  [hex]  [changeunits]  [radians]  [degrees]  [changemath]");
+            display.println("[theta]  [inverse]  [invertsign]  [gcd]  [lcm]  [modpow]  [formula]  [sto]  [rcl]  [m+=]  [history]  [precision]");
+            display.println("[stat+]  [stat]  [histogram]\n");
             String s = display.getStringInput("Enter an operator: ").toLowerCase();
             Double result = 0.0;
 
-            switch(s){
-                case "+" : 
-                case "add" : 
-                case "sum" :
-                case "plus": 
-                double addY = display.getDoubleInput("\nEnter another number");
-                result = display.add(x, addY);
-                display.println("\n%s + %s = %s", String.format("%s", x), String.format("%s", addY), String.format("%s", result));
-                display.changeDisplay(result.toString());
-
-                break;
-
-                case "-": 
-                case "subtract": 
-                case "minus":
-                double subY = display.getDoubleInput("\nEnter another number");
-                result = display.subtract(x, subY);
-                display.println("\n%s - %s = %s", String.format("%s", x), String.format("%s", subY), String.format("%s", result));
-                display.changeDisplay(result.toString());
-
-                break;
+            Operator operator = registry.lookup(s, display.getUnitsMode(), display.getMathMode());
 
-                case "/":
-                case "divide":
-                case "divided by":
-                double divY = display.getDoubleInput("\nEnter another number");
-                if (divY == 0){
-                    display.changeDisplay("Error");
-                    display.println("Error.  Cannot divide by 0.");
+            if (operator != null){
+                double y = 0;
+                if (operator.getArity() == 2){
+                    y = display.getDoubleInput("\nEnter another number");
+                }
+                boolean decimal = display.getSession().getPrecision() > 0;
+                String error = decimal
+                    ? display.getSession().apply(operator, display.decimalOperand(x), BigDecimal.valueOf(y))
+                    : display.getSession().apply(operator, x, y);
+                if (error != null){
+                    display.println(error);
+                }
+                else if (decimal){
+                    display.println("\n%s", display.getCurrentDisplay());
                 }
                 else{
-                    result = display.divide(x, divY);
-                    display.println("\n%s / %s = %s", String.format("%s", x), String.format("%s", divY), String.format("%s", result));
-                    display.changeDisplay(result.toString());
+                    result = display.getCurrentValue();
+                    display.printResult(operator, s, x, y, result);
                 }
+            }
+            else{
+                switch(s){
+                    case "changebase" : 
+                    while(s.equals("changebase")){
+                        display.changeDisplay(x);
+                        display.switchDisplayMode();
+                        display.println(display.getCurrentDisplay() + "\n");
+                        s = display.getStringInput("Enter \"changebase\" to switch mode again or enter \"back\" to go back to calculator\n");
+                    }
+                    break;
 
-                break;
-
-                case "*" :
-                case "times":
-                case "multiply":
-                double multiY = display.getDoubleInput("\nEnter another number");
-                result = display.multiply(x, multiY);
-                display.println("\n%s * %s = %s", String.format("%s", x), String.format("%s", multiY), String.format("%s", result));
-                display.changeDisplay(result.toString());
-
-                break;
-
-                case "%" :
-                case "mod":
-                case "remainder":
-                double modY = display.getDoubleInput("\nEnter another number");
-                result = display.modulus(x, modY);
-                display.println("\n%s %% %s = %s", String.format("%s", x), String.format("%s", modY), String.format("%s", result));
-                display.changeDisplay(result.toString());
-
-                break;
-
-                case "^x" : 
-                case "^" :
-                double expoY = display.getDoubleInput("\nEnter another number");
-                result = display.exponent(x, expoY);
-                display.println("\n%s ^ %s = %s", String.format("%s", x), String.format("%s", expoY), String.format("%s", result));
-                display.changeDisplay(result.toString());
-
-                break;
-
-                case "^2" :
-                result = display.exponent(x, 2);
-                display.println("\n%s ^2 = %s", String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
-
-                break;
-
-                case "sin": 
-                result = display.sin(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    case "binary" : 
+                    display.changeDisplay(x);
+                    display.switchDisplayMode(s);
+                    display.println(display.getCurrentDisplay());
 
-                break;
+                    break;
 
-                case "asin": 
-                result = display.asin(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    case "octal" : 
+                    display.changeDisplay(x);
+                    display.switchDisplayMode(s);
+                    display.println(display.getCurrentDisplay());
 
-                break;
+                    break;
 
-                case "sinh": 
-                result = display.sinh(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    case "hex" : 
+                    display.changeDisplay(x);
+                    display.switchDisplayMode(s);
+                    display.println(display.getCurrentDisplay());
 
-                break;
+                    break;
 
-                case "cos": 
-                result = display.cos(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    case "m+" :
+                    display.changeDisplay(x);
+                    display.saveDisplayToMemory();
+                    display.println("%s has been saved to memory.", display.getMemoryValue()); 
 
-                break;
+                    break;
 
-                case "acos": 
-                result = display.acos(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    case "m-" :
+                    display.clearMemory();
+                    display.println("The memory value has been reset to %s", display.getMemoryValue()); 
 
-                break;
+                    break; 
 
-                case "cosh": 
-                result = display.cosh(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    case "mrc" :
+                    display.recallMemoryToDisplay();
+                    display.println(display.getCurrentDisplay());
 
-                break;
+                    break;
 
-                case "tan": 
-                result = display.tan(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    case "history" :
+                    display.printHistory(registry, 10);
 
-                break;
+                    break;
 
-                case "atan": 
-                result = display.atan(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    case "sto" :
+                    case "rcl" :
+                    case "m+=" :
+                    display.changeDisplay(x);
+                    display.registerCommand(s);
 
-                break;
+                    break;
 
-                case "tanh": 
-                result = display.tanh(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    case "changeunits" :
+                    while (s.equals("changeunits")){
+                        display.changeDisplay(x);
+                        display.switchUnitsMode();
+                        display.println(display.getCurrentDisplay() + "\n");
+                        s = display.getStringInput("Enter \"changeunits\" to switch mode again or enter \"back\" to go back.\n");
+                    }
+                    break;
 
-                break;
+                    case "degrees" :
+                    display.changeDisplay(x);
+                    display.switchUnitsMode(s);
+                    display.println(display.getCurrentDisplay());
 
-                case "theta":
-                double thetaY = display.getDoubleInput("\nEnter another number");
-                result = display.theta(thetaY, x);
-                display.println("\n%s theta %s = %s", String.format("%s", x), String.format("%s", thetaY), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    break;
 
-                break;
+                    case "radians" :
+                    display.changeDisplay(x);
+                    display.switchUnitsMode(s);
+                    display.println(display.getCurrentDisplay());
 
-                case "sqrt":
-                case "root":
-                case "square root":
-                result = display.squareRoot(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    break;
 
-                break;
+                    case "modpow" :
+                    double power = display.getDoubleInput("\nEnter the exponent");
+                    double modulus = display.getDoubleInput("\nEnter the modulus");
+                    result = display.modPow(x, power, modulus);
+                    if (result.isNaN()){
+                        display.println("Error.  modpow needs whole numbers and a positive modulus");
+                        display.changeDisplay("Error");
+                    }
+                    else{
+                        display.println("\n%s ^ %s mod %s = %s", x, power, modulus, result);
+                        display.changeDisplay(result);
+                    }
 
-                case "cbrt":
-                result = display.cubicRoot(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
+                    break;
 
-                break;
+                    case "stat+" :
+                    display.getSession().addToStatistics(x);
+                    display.println("\n%s has been added to the statistics, %d values.", x, display.getSession().getStatistics().getCount());
 
-                case "changebase" : 
-                while(s.equals("changebase")){
-                    display.changeDisplay("" + x);
-                    display.switchDisplayMode();
-                    display.println(display.getCurrentDisplay() + "\n");
-                    s = display.getStringInput("Enter \"changebase\" to switch mode again or enter \"back\" to go back to calculator\n");
-                }
-                break;
+                    break;
 
-                case "binary" : 
-                display.changeDisplay("" + x);
-                display.switchDisplayMode(s);
-                display.println(display.getCurrentDisplay());
+                    case "stat" :
+                    display.println("\n%s", display.getSession().getStatistics());
+                    String name = display.getStringInput("\nEnter a statistic to show (count, sum, mean, variance, stddev, pvariance, pstddev, min, max, median, p95, p99), \"clear\" or \"back\"").toLowerCase();
+                    if (name.equals("clear")){
+                        display.getSession().clearStatistics();
+                        display.println("The statistics have been cleared.");
+                    }
+                    else if (!name.equals("back")){
+                        try{
+                            display.changeDisplay(display.getSession().getStatistic(name));
+                            display.println("\n%s = %s", name, display.getCurrentDisplay());
+                        } catch(IllegalArgumentException ex) {
+                            display.println("%s", ex.getMessage());
+                        }
+                    }
 
-                break;
+                    break;
 
-                case "octal" : 
-                display.changeDisplay("" + x);
-                display.switchDisplayMode(s);
-                display.println(display.getCurrentDisplay());
+                    case "histogram" :
+                    LogHistogram histogram = display.getSession().getHistogram();
+                    display.println("\n%d values, in buckets 1%% wide:", histogram.getCount());
+                    histogram.forEachBucket((lower, upper, n) -> display.println("%12.6g to %12.6g  %d", lower, upper, n));
 
-                break;
+                    break;
 
-                case "hex" : 
-                display.changeDisplay("" + x);
-                display.switchDisplayMode(s);
-                display.println(display.getCurrentDisplay());
+                    case "changemath" :
+                    display.switchMathMode();
 
-                break;
+                    break;
 
-                case "m+" :
-                display.changeDisplay("" + x);
-                display.setMemoryValue(display.getCurrentDisplay());
-                display.println("%s has been saved to memory.", display.getMemoryValue()); 
+                    case "precision" :
+                    try{
+                        display.getSession().setPrecision(Integer.parseInt(
+                            display.getStringInput("\nEnter the number of digits, or 0 to calculate in doubles")));
+                    } catch(NumberFormatException ex) {
+                        display.println("Error.  Enter a whole number.");
+                    }
 
-                break;
+                    break;
 
-                case "m-" :
-                display.setMemoryValue("0");
-                display.println("The memory value has been reset to %s", display.getMemoryValue()); 
+                    case "formula" :
+                    String formula = display.getLineInput("\nEnter a formula, using x for " + x);
+                    try{
+                        result = formulas.getInUnits(formula, display.getSession().getUnitsMode(), "x").evaluate(x);
+                        display.println("\n%s = %s", formula, String.format("%s", result));
+                        display.changeDisplay(result);
+                    } catch(IllegalArgumentException ex) {
+                        display.changeDisplay("Error");
+                        display.println("%s", ex.getMessage());
+                    }
 
-                break; 
+                    break;
 
-                case "mrc" :
-                display.changeDisplay(display.getMemoryValue());
-                display.println(display.getCurrentDisplay());
+                    case "clear" :
+                    case "c" :
+                    display.clearDisplay();
+                    display.println("\n0.0");
 
-                break;
+                    break;
 
-                case "changeunits" :
-                while (s.equals("changeunits")){
-                    display.changeDisplay("" + x);
-                    display.switchUnitsMode();
-                    display.println(display.getCurrentDisplay() + "\n");
-                    s = display.getStringInput("Enter \"changeunits\" to switch mode again or enter \"back\" to go back.\n");
+                    default : 
+                    display.println("Not a proper operator");
+                    result = 0.0;
                 }
-                break;
-
-                case "degrees" :
-                display.changeDisplay("" + x);
-                display.switchUnitsMode(s);
-                display.println(display.getCurrentDisplay());
-
-                break;
-
-                case "radians" :
-                display.changeDisplay("" + x);
-                display.switchUnitsMode(s);
-                display.println(display.getCurrentDisplay());
-
-                break;
-
-                case "inverse" :
-                case "1/x" :
-                result = inverse(x);
-                display.println("\n1 / %s = %s", String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
-
-                break;
-
-                case "invertsign" :
-                result = invertSign(x);
-                display.println("\n%s %s = %s", s, String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
-
-                break;
-
-                case "factorial" :
-                case "!" :
-                result = factorial(x);
-                display.println("\n%s! = %s", String.format("%s", x), String.format("%s", result));
-                display.changeDisplay(result.toString());
-
-                break;
-
-                case "gcd":
-                double gcdY = display.getDoubleInput("\nEnter another number");
-                result = display.gcd(x, gcdY);
-                display.println("\ngcd(%s, %s) = %s", String.format("%s", x), String.format("%s", gcdY), String.format("%s", result));
-                display.changeDisplay(result.toString());
-
-                break;
-
-                case "lcm":
-                double lcmY = display.getDoubleInput("\nEnter another number");
-                result = display.lcm(x, lcmY);
-                display.println("\nlcm(%s, %s) = %s", String.format("%s", x), String.format("%s", lcmY), String.format("%s", result));
-                display.changeDisplay(result.toString());
-
-                break;
-
-                case "clear" :
-                case "c" :
-                display.clearDisplay();
-                display.println("\n0.0");
-
-                break;
-
-                default : 
-                display.println("Not a proper operator");
-                result = 0.0;
             }
 
             String m = display.getStringInput("\nEnter 'm+' to save the value.  Enter 'c' to clear");
@@ -856,16 +706,16 @@ public class Display {
                 if (display.getCurrentDisplay().equals("Infinity")){
                     // if user tries to save Infinity, prints error and sets display to 0
                     println("\nError.  Memory is not infinite...");
-                    display.changeDisplay("0");
+                    display.clearDisplay();
                 }
                 else{
-                    display.setMemoryValue(display.getCurrentDisplay());
+                    display.saveDisplayToMemory();
                     display.println("\n%s has been saved to memory.", display.getMemoryValue()); 
                 }
             }
             // if user enter c, sets display to 0
             else if (m.equals("c")){
-                display.changeDisplay("0");
+                display.clearDisplay();
             }
 
             String quit = display.getStringInput("\nEnter 'quit' to stop, 'mrc' to use a saved value, or enter another number.");
@@ -879,9 +729,9 @@ public class Display {
             if(run){
                 // if user enters mrc, display is set to memoryValue 
                 if(quit.equals("mrc")){
-                    x = Double.valueOf(display.getMemoryValue());
+                    x = display.recallMemory();
                     display.println("\n" + display.getMemoryValue());
-                    display.changeDisplay(display.getMemoryValue());
+                    display.recallMemoryToDisplay();
                 }
                 else{
                     // if user enters a number, display is changed to number
@@ -893,9 +743,9 @@ public class Display {
                         x = display.getDoubleInput("\nError.  Enter a numerical value.");
                     }
                 }
-                // resets mode to decimal and degrees
+                // resets mode to decimal; the units mode is kept so the
+                // trigonometric operators keep using it
                 display.setCurrentDisplayMode("decimal");
-                display.setUnitsMode("degrees");
             }
         }
 
@@ -1,9 +1,11 @@
 
 import org.junit.Assert;
 import org.junit.Test;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.math.BigInteger;
 import java.util.Scanner;
 
 /**
@@ -32,6 +34,24 @@ public class DisplayTest {
     }
 
 
+    @Test
+    public void PrintResultTest(){
+
+        // Given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Display display = new Display(new Scanner(""), new PrintStream(bytes));
+        OperatorRegistry registry = new OperatorRegistry(display);
+
+        // When
+        display.printResult(registry.lookup("+"), "+", 3, 4.5, 7.5);
+        display.printResult(registry.lookup("%"), "%", 7, 4, 3);
+        display.printResult(registry.lookup("sqrt"), "root", 16, 0, 4);
+        display.getPrintStream().flush();
+
+        // Then
+        Assert.assertEquals("\n3.0 + 4.5 = 7.5\n\n7.0 % 4.0 = 3.0\n\nroot 16.0 = 4.0\n", bytes.toString());
+    }
+
     @Test
     public void SinhTest(){
 
@@ -126,7 +146,7 @@ public class DisplayTest {
         // Then
         Assert.assertEquals(Math.toRadians(a), actual, .001);
         Assert.assertEquals("radians", d.getUnitsMode());
-        Assert.assertEquals(b + Math.PI/180, actual2, .001);
+        Assert.assertEquals(Math.toDegrees(b), actual2, .001);
         Assert.assertEquals("degrees", d2.getUnitsMode());
 
     }
@@ -233,6 +253,44 @@ public class DisplayTest {
     
     }
 
+    @Test 
+    public void ExactExponentTest(){
+        Display d = new Display();
+
+        //When 
+        double expA = d.exponent(3, 40);
+        double expB = d.exponent(7, 300);
+        double expC = d.exponent(2, 0.5);
+        double modA = d.modPow(4, 13, 497);
+        double modB = d.modPow(4, 1.5, 497);
+
+        // Then
+        Assert.assertEquals(BigInteger.valueOf(3).pow(40).doubleValue(), expA, 0);
+        Assert.assertEquals(BigInteger.valueOf(7).pow(300).doubleValue(), expB, 0);
+        Assert.assertEquals(Math.sqrt(2), expC, 0);
+        Assert.assertEquals(445, modA, 0);
+        Assert.assertTrue(Double.isNaN(modB));
+    }
+
+    @Test 
+    public void HugeExponentTest(){
+        Display d = new Display();
+
+        //When 
+        double expA = d.exponent(2, 0x1p62);
+        double expB = d.exponent(3, 0x1p62);
+        double expC = d.exponent(-2, 0x1p62);
+        double expD = d.exponent(2, 9.223372036854776E18);
+        double expE = d.exponent(-2, 0x1p62 + 1024);
+
+        // Then
+        Assert.assertEquals(Double.POSITIVE_INFINITY, expA, 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, expB, 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, expC, 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, expD, 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, expE, 0);
+    }
+
     @Test 
     public void SquareRootTest(){
         Display d = new Display();
@@ -259,6 +317,49 @@ public class DisplayTest {
     }
 
 
+    @Test
+    public void NumericDisplayTest(){
+        Display d = new Display();
+
+        //Given
+        d.changeDisplay(7.5);
+
+        //When
+        String text = d.getCurrentDisplay();
+        double value = d.getCurrentValue();
+        d.changeDisplay("12");
+        double parsed = d.getCurrentValue();
+
+        //Then
+        Assert.assertEquals("7.5", text);
+        Assert.assertEquals(7.5, value, 0);
+        Assert.assertEquals(12, parsed, 0);
+        Assert.assertEquals("12", d.getCurrentDisplay());
+    }
+
+    @Test
+    public void MemoryRoundTripTest(){
+        Display d = new Display();
+
+        //Given
+        d.changeDisplay(2.25);
+
+        //When
+        d.saveDisplayToMemory();
+        d.clearDisplay();
+        String cleared = d.getCurrentDisplay();
+        d.recallMemoryToDisplay();
+
+        //Then
+        Assert.assertEquals("0", cleared);
+        Assert.assertEquals("2.25", d.getMemoryValue());
+        Assert.assertEquals(2.25, d.recallMemory(), 0);
+        Assert.assertEquals("2.25", d.getCurrentDisplay());
+
+        d.clearMemory();
+        Assert.assertEquals("0", d.getMemoryValue());
+    }
+
     @Test
     public void SinTest(){
 
@@ -509,6 +610,44 @@ public class DisplayTest {
         
     }
     
+    @Test
+    public void FactorialRangeTest(){
+
+        // Given
+        Display d = new Display();
+
+        // When
+        double whole = d.factorial(5.7);
+        double negative = d.factorial(-3);
+        double largest = d.factorial(170);
+        double overflow = d.factorial(171);
+        double huge = d.factorial(1e10);
+
+        // Then
+        Assert.assertEquals(120, whole, .001);
+        Assert.assertEquals(1, negative, .001);
+        Assert.assertEquals(7.257415615307994E306, largest, 1E292);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, overflow, 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, huge, 0);
+    }
+
+    @Test
+    public void ExactFactorialTest(){
+
+        // Given
+        Display d = new Display();
+
+        // When
+        BigInteger small = d.exactFactorial(20);
+        BigInteger zero = d.exactFactorial(0);
+        BigInteger large = d.exactFactorial(25);
+
+        // Then
+        Assert.assertEquals(BigInteger.valueOf(2432902008176640000L), small);
+        Assert.assertEquals(BigInteger.ONE, zero);
+        Assert.assertEquals(new BigInteger("15511210043330985984000000"), large);
+    }
+
     @Test
     public void GCDTest(){
         
@@ -533,6 +672,25 @@ public class DisplayTest {
         
     }
     
+    @Test
+    public void GCDLargeTest(){
+
+        // Given
+        Display d = new Display();
+
+        // When
+        double beyondDoublePrecision = d.gcd(9007199254740993.0 * 4, 6);
+        double beyondLong = d.gcd(0x1p70, 0x1p65 * 3);
+        double fractional = d.gcd(1.5, 0.5);
+        long many = d.gcd(12, 18, 30);
+
+        // Then
+        Assert.assertEquals(2, beyondDoublePrecision, 0);
+        Assert.assertEquals(0x1p65, beyondLong, 0);
+        Assert.assertEquals(0.5, fractional, .001);
+        Assert.assertEquals(6, many);
+    }
+
     @Test
     public void LCMTest(){
         
@@ -556,6 +714,82 @@ public class DisplayTest {
         Assert.assertEquals(2279, expZ, .001);
     }
   
+
+    @Test
+    public void BulkAddTest(){
+
+        // Given
+        Display d = new Display();
+        double[] x = {1, 2, 3};
+        double[] y = {10, 20, 30};
+        double[] out = new double[3];
+
+        // When
+        d.add(x, y, out);
+
+        // Then
+        Assert.assertArrayEquals(new double[] {11, 22, 33}, out, .001);
+    }
+
+    @Test
+    public void BulkExponentTest(){
+
+        // Given
+        Display d = new Display();
+        double[] x = {3, 7, 2, -2, 1.5};
+        double[] y = {39, 300, 0.5, 0x1p62, 2};
+        double[] out = new double[5];
+
+        // When
+        d.exponent(x, y, out);
+
+        // Then
+        for (int i = 0; i < x.length; i++) {
+            Assert.assertEquals(d.exponent(x[i], y[i]), out[i], 0);
+        }
+        Assert.assertEquals(BigInteger.valueOf(3).pow(39).doubleValue(), out[0], 0);
+    }
+
+    @Test
+    public void BulkRangeTest(){
+
+        // Given
+        Display d = new Display();
+        double[] x = {4, 9, 16, 25};
+        double[] out = {-1, -1, -1, -1};
+
+        // When
+        d.squareRoot(x, out, 1, 2);
+
+        // Then
+        Assert.assertArrayEquals(new double[] {-1, 3, 4, -1}, out, .001);
+    }
+
+    @Test
+    public void BulkInPlaceTest(){
+
+        // Given
+        Display d = new Display();
+        double[] x = {0, 1, -2};
+
+        // When
+        d.invertSign(x, x);
+
+        // Then
+        Assert.assertArrayEquals(new double[] {0, -1, 2}, x, .001);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void BulkOutOfRangeTest(){
+
+        // Given
+        Display d = new Display();
+        double[] x = {1, 2, 3};
+        double[] y = {1, 2};
+
+        // When
+        d.theta(x, y, new double[3]);
+    }
 }
 
 
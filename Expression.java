@@ -0,0 +1,96 @@
+/**
+ * Expression is a compiled formula such as "sqrt(x^2 + y^2) / 3".  It is
+ * parsed once by an ExpressionParser and can then be evaluated over and
+ * over with different values for its variables.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.Arrays;
+
+public class Expression {
+
+    /**
+     * Node is one compiled piece of an expression
+     */
+    public interface Node {
+
+        /**
+         * @param variables : the value of each variable, by index
+         *
+         * @return the value of this piece of the expression
+         */
+        double evaluate(double[] variables);
+    }
+
+    private final String source;
+    private final String[] variables;
+    private final Node root;
+
+    /**
+     * Expression is a constructor for an Expression object
+     *
+     * @param source : the text the expression was compiled from
+     * @param variables : the variable names, in the order values are passed
+     * @param root : the compiled expression
+     */
+    public Expression(String source, String[] variables, Node root) {
+        this.source = source;
+        this.variables = variables;
+        this.root = root;
+    }
+
+    /**
+     * getSource is a getter for source
+     *
+     * @return the text the expression was compiled from
+     */
+    public String getSource() {
+        return this.source;
+    }
+
+    /**
+     * getVariables gives the names of the expression's variables
+     *
+     * @return the variable names, in the order evaluate expects their values
+     */
+    public String[] getVariables() {
+        return Arrays.copyOf(variables, variables.length);
+    }
+
+    /**
+     * variableIndex finds the position of a variable
+     *
+     * @param name : a variable name
+     *
+     * @return the index of the variable's value, or -1 if there is no such variable
+     */
+    public int variableIndex(String name) {
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * evaluate calculates the value of the expression
+     *
+     * @param values : a value for each variable, in the order of getVariables
+     *
+     * @return the value of the expression
+     */
+    public double evaluate(double... values) {
+        if (values.length < variables.length) {
+            throw new IllegalArgumentException("Error.  Expected " + variables.length + " values but got " + values.length);
+        }
+        return root.evaluate(values);
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,275 @@
+/**
+ * ExpressionCache keeps recently used compiled Expressions so formulas
+ * that are submitted again skip parsing entirely.  Formulas are looked
+ * up by a normalized form of their text, with extra whitespace removed
+ * and function aliases replaced by the operator's name, so "SQRT( x )"
+ * and "root(x)" share one entry.  Formulas looked up in degrees have
+ * their trigonometric functions replaced by the degree operators, so
+ * "sin(x)" in degrees is cached as "sind(x)".  When the cache is full
+ * the least recently used formula is evicted.  It is safe to share
+ * between threads.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ExpressionCache {
+
+    private final OperatorRegistry registry;
+    private final ExpressionParser parser;
+    private final int maxSize;
+    private final LinkedHashMap<String, Expression> expressions;
+    private final LinkedHashMap<String, String> keys;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * ExpressionCache is a constructor for an ExpressionCache object
+     *
+     * @param registry : the operators formulas may call
+     * @param maxSize : the most formulas kept at once
+     */
+    public ExpressionCache(OperatorRegistry registry, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Error.  Cache size must be at least 1");
+        }
+        this.registry = registry;
+        this.parser = new ExpressionParser(registry);
+        this.maxSize = maxSize;
+        this.expressions = new LinkedHashMap<String, Expression>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Expression> eldest) {
+                if (size() > ExpressionCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+        // remembers the key of recently seen raw text so hits skip normalize
+        this.keys = new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > 4 * ExpressionCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * get finds or compiles a formula, numbering its variables in the
+     * order they first appear
+     *
+     * @param source : the formula
+     *
+     * @return the compiled Expression
+     * @throws IllegalArgumentException if the formula is not valid
+     */
+    public Expression get(String source) {
+        return get(source, (String[]) null);
+    }
+
+    /**
+     * get finds or compiles a formula that may only use the given variables
+     *
+     * @param source : the formula
+     * @param variables : the allowed variable names, in the order evaluate expects them
+     *
+     * @return the compiled Expression
+     * @throws IllegalArgumentException if the formula is not valid
+     */
+    public Expression get(String source, String... variables) {
+        return getInUnits(source, "radians", variables);
+    }
+
+    /**
+     * getInUnits finds or compiles a formula whose trigonometric functions
+     * work in a units mode
+     *
+     * @param source : the formula
+     * @param unitsMode : "degrees" or "radians"
+     * @param variables : the allowed variable names, in the order evaluate
+     *                    expects them, or null to allow any
+     *
+     * @return the compiled Expression
+     * @throws IllegalArgumentException if the formula is not valid
+     */
+    public Expression getInUnits(String source, String unitsMode, String... variables) {
+        String text = "degrees".equals(unitsMode) ? "degrees\u0000" + source : source;
+        String raw = variables == null ? text : text + '\u0000' + String.join(",", variables);
+        String key;
+
+        synchronized (expressions) {
+            key = keys.get(raw);
+            if (key != null) {
+                Expression cached = expressions.get(key);
+                if (cached != null) {
+                    hits++;
+                    return cached;
+                }
+            }
+        }
+
+        String normalized = normalize(source, unitsMode);
+        key = variables == null ? normalized : normalized + '\u0000' + String.join(",", variables);
+        synchronized (expressions) {
+            keys.put(raw, key);
+            Expression cached = expressions.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        // parse outside the lock so one slow formula does not block hits
+        Expression compiled = variables == null ? parser.parse(normalized) : parser.parse(normalized, variables);
+        synchronized (expressions) {
+            Expression raced = expressions.putIfAbsent(key, compiled);
+            return raced != null ? raced : compiled;
+        }
+    }
+
+    /**
+     * normalize rewrites a formula into the form used as its cache key
+     *
+     * @param source : the formula
+     *
+     * @return the formula without extra whitespace and with function
+     *         names replaced by their operator's name
+     */
+    public String normalize(String source) {
+        return normalize(source, "radians");
+    }
+
+    /**
+     * normalize rewrites a formula into the form used as its cache key,
+     * naming the degree operators for trigonometric functions in degrees
+     *
+     * @param source : the formula
+     * @param unitsMode : "degrees" or "radians"
+     *
+     * @return the formula without extra whitespace and with function
+     *         names replaced by their operator's name in the units mode
+     */
+    public String normalize(String source, String unitsMode) {
+        StringBuilder key = new StringBuilder(source.length());
+        int length = source.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                // keep one space where removing it would join two words or numbers
+                if (key.length() > 0 && isWordChar(key.charAt(key.length() - 1))) {
+                    int next = skipWhitespace(source, i);
+                    if (next < length && isWordChar(source.charAt(next))) {
+                        key.append(' ');
+                    }
+                }
+                continue;
+            }
+            if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < length && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_')) {
+                    i++;
+                }
+                String name = source.substring(start, i);
+                int next = skipWhitespace(source, i);
+                if (next < length && source.charAt(next) == '(') {
+                    Operator operator = registry.lookup(name.toLowerCase(), unitsMode);
+                    name = operator != null ? operator.getName() : name;
+                } else if (name.equalsIgnoreCase("pi") || name.equalsIgnoreCase("e")) {
+                    name = name.toLowerCase();
+                }
+                key.append(name);
+                continue;
+            }
+            key.append(c);
+            i++;
+        }
+        return key.toString();
+    }
+
+    private static int skipWhitespace(String source, int i) {
+        while (i < source.length() && Character.isWhitespace(source.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.';
+    }
+
+    /**
+     * getMaxSize is a getter for maxSize
+     *
+     * @return the most formulas kept at once
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * size gives the number of formulas currently cached
+     *
+     * @return the number of cached formulas
+     */
+    public int size() {
+        synchronized (expressions) {
+            return expressions.size();
+        }
+    }
+
+    /**
+     * getHits gives the number of lookups that found a cached formula
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        synchronized (expressions) {
+            return this.hits;
+        }
+    }
+
+    /**
+     * getMisses gives the number of lookups that had to parse the formula
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        synchronized (expressions) {
+            return this.misses;
+        }
+    }
+
+    /**
+     * getEvictions gives the number of formulas dropped to make room
+     *
+     * @return the eviction count
+     */
+    public long getEvictions() {
+        synchronized (expressions) {
+            return this.evictions;
+        }
+    }
+
+    /**
+     * clear empties the cache and resets its counters
+     */
+    public void clear() {
+        synchronized (expressions) {
+            expressions.clear();
+            keys.clear();
+            hits = 0;
+            misses = 0;
+            evictions = 0;
+        }
+    }
+}
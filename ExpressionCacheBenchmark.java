@@ -0,0 +1,58 @@
+/**
+ * ExpressionCacheBenchmark measures how long it takes to get a compiled
+ * formula from the ExpressionCache compared to parsing it every time.
+ *
+ * Run with: java ExpressionCacheBenchmark
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class ExpressionCacheBenchmark {
+
+    private static final int OPERATIONS = 200_000;
+    private static final int FORMULAS = 300;
+
+    public static void main(String[] args) {
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        ExpressionParser parser = new ExpressionParser(registry);
+        ExpressionCache cache = new ExpressionCache(registry, 1024);
+        String[] sources = new String[FORMULAS];
+        for (int i = 0; i < FORMULAS; i++) {
+            sources[i] = "sqrt(x^2 + y^2) / " + (i + 1) + " + sin(x * " + i + ")";
+        }
+
+        Benchmark.measure("parse", OPERATIONS, () -> {
+                double sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += parser.parse(sources[i % FORMULAS]).getVariables().length;
+                }
+                Benchmark.consume(sum);
+            });
+
+        Benchmark.measure("cache hit", OPERATIONS, () -> {
+                double sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += cache.get(sources[i % FORMULAS]).getVariables().length;
+                }
+                Benchmark.consume(sum);
+            });
+
+        Benchmark.measure("cache hit, new string each time", OPERATIONS, () -> {
+                double sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += cache.get(new String(sources[i % FORMULAS])).getVariables().length;
+                }
+                Benchmark.consume(sum);
+            });
+
+        Benchmark.measure("cache hit and evaluate", OPERATIONS, () -> {
+                double sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += cache.get(sources[i % FORMULAS]).evaluate(3, 4);
+                }
+                Benchmark.consume(sum);
+            });
+
+        System.out.printf("hits %d, misses %d, evictions %d%n", cache.getHits(), cache.getMisses(), cache.getEvictions());
+    }
+}
@@ -0,0 +1,107 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The test class ExpressionCacheTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class ExpressionCacheTest {
+
+    @Test
+    public void NormalizeTest(){
+
+        // Given
+        ExpressionCache cache = new ExpressionCache(new OperatorRegistry(new Display()), 10);
+
+        // When
+        String spaced = cache.normalize("  SQRT( x ^ 2 )  + PI ");
+        String alias = cache.normalize("root(x^2)+pi");
+        String words = cache.normalize("1 2");
+
+        // Then
+        Assert.assertEquals("sqrt(x^2)+pi", spaced);
+        Assert.assertEquals("sqrt(x^2)+pi", alias);
+        Assert.assertEquals("1 2", words);
+    }
+
+    @Test
+    public void HitAndMissTest(){
+
+        // Given
+        ExpressionCache cache = new ExpressionCache(new OperatorRegistry(new Display()), 10);
+
+        // When
+        Expression first = cache.get("sqrt(x^2 + y^2)");
+        Expression second = cache.get("root( x^2+y^2 )");
+        double value = second.evaluate(3, 4);
+
+        // Then
+        Assert.assertSame(first, second);
+        Assert.assertEquals(5, value, .001);
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(1, cache.getMisses());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void UnitsAreSeparateEntriesTest(){
+
+        // Given
+        ExpressionCache cache = new ExpressionCache(new OperatorRegistry(new Display()), 10);
+
+        // When
+        Expression radians = cache.get("sin(x)", "x");
+        Expression degrees = cache.getInUnits("SIN( x )", "degrees", "x");
+
+        // Then
+        Assert.assertNotSame(radians, degrees);
+        Assert.assertSame(degrees, cache.getInUnits("sind(x)", "degrees", "x"));
+        Assert.assertEquals("sind(x)", cache.normalize("sin(x)", "degrees"));
+        Assert.assertEquals(Math.sin(90), radians.evaluate(90), 0);
+        Assert.assertEquals(1, degrees.evaluate(90), 0);
+    }
+
+    @Test
+    public void DeclaredVariablesAreSeparateEntriesTest(){
+
+        // Given
+        ExpressionCache cache = new ExpressionCache(new OperatorRegistry(new Display()), 10);
+
+        // When
+        Expression xy = cache.get("x - y", "x", "y");
+        Expression yx = cache.get("x - y", "y", "x");
+
+        // Then
+        Assert.assertNotSame(xy, yx);
+        Assert.assertEquals(-1, xy.evaluate(1, 2), .001);
+        Assert.assertEquals(1, yx.evaluate(1, 2), .001);
+    }
+
+    @Test
+    public void LeastRecentlyUsedEvictionTest(){
+
+        // Given
+        ExpressionCache cache = new ExpressionCache(new OperatorRegistry(new Display()), 2);
+        Expression a = cache.get("x + 1");
+        cache.get("x + 2");
+
+        // When
+        cache.get("x + 1");
+        cache.get("x + 3");
+        Expression stillCached = cache.get("x + 1");
+        cache.get("x + 2");
+
+        // Then
+        Assert.assertSame(a, stillCached);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(2, cache.getEvictions());
+        Assert.assertEquals(4, cache.getMisses());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void InvalidSizeTest(){
+        new ExpressionCache(new OperatorRegistry(new Display()), 0);
+    }
+}
@@ -0,0 +1,353 @@
+/**
+ * ExpressionParser compiles formulas into Expressions.  Formulas may use
+ * numbers, variables, the constants pi and e, parentheses, the infix
+ * operators + - * / % ^, a postfix ! for factorial and calls to any
+ * operator in the registry, for example sin(x), cbrt(x), gcd(x, y),
+ * lcm(x, y) or theta(y, x).  Trigonometric functions work in radians
+ * unless the parser is made for the units mode "degrees"; sind(x) and
+ * the other degree operators can be called by name in either mode.
+ *
+ * Precedence from lowest to highest is + -, then * / %, then unary minus,
+ * then ^ (which groups right to left), then !.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ExpressionParser {
+
+    private final OperatorRegistry registry;
+    private final String unitsMode;
+    private final Operator exponent;
+    private final Operator modulus;
+    private final Operator factorial;
+
+    private String source;
+    private int position;
+    private List<String> variables;
+    private boolean fixedVariables;
+
+    /**
+     * ExpressionParser is a constructor for a parser whose trigonometric
+     * functions work in radians
+     *
+     * @param registry : the operators formulas may call as functions
+     */
+    public ExpressionParser(OperatorRegistry registry) {
+        this(registry, "radians");
+    }
+
+    /**
+     * ExpressionParser is a constructor for an ExpressionParser object
+     *
+     * @param registry : the operators formulas may call as functions
+     * @param unitsMode : "degrees" or "radians", the units of sin(x) and
+     *                    the other trigonometric functions
+     */
+    public ExpressionParser(OperatorRegistry registry, String unitsMode) {
+        this.registry = registry;
+        this.unitsMode = unitsMode;
+        this.exponent = registry.lookup("exponent");
+        this.modulus = registry.lookup("mod");
+        this.factorial = registry.lookup("factorial");
+    }
+
+    /**
+     * parse compiles a formula, numbering its variables in the order they
+     * first appear
+     *
+     * @param text : the formula
+     *
+     * @return the compiled Expression
+     * @throws IllegalArgumentException if the formula is not valid
+     */
+    public Expression parse(String text) {
+        return compile(text, new ArrayList<>(), false);
+    }
+
+    /**
+     * parse compiles a formula that may only use the given variables
+     *
+     * @param text : the formula
+     * @param names : the allowed variable names, in the order evaluate expects them
+     *
+     * @return the compiled Expression
+     * @throws IllegalArgumentException if the formula is not valid
+     */
+    public Expression parse(String text, String... names) {
+        List<String> declared = new ArrayList<>();
+        for (String name : names) {
+            declared.add(name);
+        }
+        return compile(text, declared, true);
+    }
+
+    private synchronized Expression compile(String text, List<String> names, boolean fixed) {
+        this.source = text;
+        this.position = 0;
+        this.variables = names;
+        this.fixedVariables = fixed;
+
+        Expression.Node root = parseSum();
+        skipWhitespace();
+        if (position < source.length()) {
+            throw error("Unexpected '" + source.charAt(position) + "'");
+        }
+        return new Expression(text, variables.toArray(new String[0]), root);
+    }
+
+    // sum := product (('+' | '-') product)*
+    private Expression.Node parseSum() {
+        Expression.Node node = parseProduct();
+        while (true) {
+            if (accept('+')) {
+                node = add(node, parseProduct());
+            } else if (accept('-')) {
+                node = subtract(node, parseProduct());
+            } else {
+                return node;
+            }
+        }
+    }
+
+    // product := unary (('*' | '/' | '%') unary)*
+    private Expression.Node parseProduct() {
+        Expression.Node node = parseUnary();
+        while (true) {
+            if (accept('*')) {
+                node = multiply(node, parseUnary());
+            } else if (accept('/')) {
+                node = divide(node, parseUnary());
+            } else if (accept('%')) {
+                node = call(modulus, node, parseUnary());
+            } else {
+                return node;
+            }
+        }
+    }
+
+    // unary := ('-' | '+') unary | power
+    private Expression.Node parseUnary() {
+        if (accept('-')) {
+            return negate(parseUnary());
+        }
+        if (accept('+')) {
+            return parseUnary();
+        }
+        return parsePower();
+    }
+
+    // power := postfix ('^' unary)?
+    private Expression.Node parsePower() {
+        Expression.Node node = parsePostfix();
+        if (accept('^')) {
+            node = call(exponent, node, parseUnary());
+        }
+        return node;
+    }
+
+    // postfix := primary '!'*
+    private Expression.Node parsePostfix() {
+        Expression.Node node = parsePrimary();
+        while (accept('!')) {
+            node = call(factorial, node, null);
+        }
+        return node;
+    }
+
+    // primary := number | name | name '(' arguments ')' | '(' sum ')'
+    private Expression.Node parsePrimary() {
+        skipWhitespace();
+        if (position == source.length()) {
+            throw error("Unexpected end of formula");
+        }
+        char c = source.charAt(position);
+
+        if (accept('(')) {
+            Expression.Node node = parseSum();
+            expect(')');
+            return node;
+        }
+        if (Character.isDigit(c) || c == '.') {
+            return constant(parseNumber());
+        }
+        if (Character.isLetter(c) || c == '_') {
+            String name = parseName();
+            if (accept('(')) {
+                return parseCall(name);
+            }
+            return nameReference(name);
+        }
+        throw error("Unexpected '" + c + "'");
+    }
+
+    private Expression.Node parseCall(String name) {
+        Operator operator = registry.lookup(name.toLowerCase(), unitsMode);
+        if (operator == null) {
+            throw error("Unknown function " + name);
+        }
+        List<Expression.Node> arguments = new ArrayList<>();
+        if (!accept(')')) {
+            do {
+                arguments.add(parseSum());
+            } while (accept(','));
+            expect(')');
+        }
+        if (arguments.size() != operator.getArity()) {
+            throw error(name + " takes " + operator.getArity() + " argument" + (operator.getArity() == 1 ? "" : "s"));
+        }
+        return call(operator, arguments.get(0), arguments.size() > 1 ? arguments.get(1) : null);
+    }
+
+    private Expression.Node nameReference(String name) {
+        switch (name.toLowerCase()) {
+            case "pi" : return constant(Math.PI);
+            case "e" : return constant(Math.E);
+        }
+        int index = variables.indexOf(name);
+        if (index < 0) {
+            if (fixedVariables) {
+                throw error("Unknown variable " + name);
+            }
+            index = variables.size();
+            variables.add(name);
+        }
+        final int slot = index;
+        return v -> v[slot];
+    }
+
+    private double parseNumber() {
+        int start = position;
+        while (position < source.length() && (Character.isDigit(source.charAt(position)) || source.charAt(position) == '.')) {
+            position++;
+        }
+        // an exponent only counts when digits follow, so "2e" is 2 times e
+        if (position < source.length() && (source.charAt(position) == 'e' || source.charAt(position) == 'E')) {
+            int mark = position++;
+            if (position < source.length() && (source.charAt(position) == '+' || source.charAt(position) == '-')) {
+                position++;
+            }
+            if (position < source.length() && Character.isDigit(source.charAt(position))) {
+                while (position < source.length() && Character.isDigit(source.charAt(position))) {
+                    position++;
+                }
+            } else {
+                position = mark;
+            }
+        }
+        try {
+            return Double.parseDouble(source.substring(start, position));
+        } catch (NumberFormatException ex) {
+            position = start;
+            throw error("Not a numerical value");
+        }
+    }
+
+    private String parseName() {
+        int start = position;
+        while (position < source.length() && (Character.isLetterOrDigit(source.charAt(position)) || source.charAt(position) == '_')) {
+            position++;
+        }
+        return source.substring(start, position);
+    }
+
+    private void skipWhitespace() {
+        while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+            position++;
+        }
+    }
+
+    private boolean accept(char c) {
+        skipWhitespace();
+        if (position < source.length() && source.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        if (!accept(c)) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Error.  " + message + " at position " + (position + 1) + " of \"" + source + "\"");
+    }
+
+    // Node builders.  Operations on constants are folded while compiling.
+
+    private static final class Constant implements Expression.Node {
+        private final double value;
+
+        Constant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double evaluate(double[] variables) {
+            return value;
+        }
+    }
+
+    private static Expression.Node constant(double value) {
+        return new Constant(value);
+    }
+
+    private static boolean isConstant(Expression.Node a, Expression.Node b) {
+        return a instanceof Constant && (b == null || b instanceof Constant);
+    }
+
+    private static double valueOf(Expression.Node node) {
+        return node == null ? 0 : ((Constant) node).value;
+    }
+
+    private static Expression.Node add(Expression.Node a, Expression.Node b) {
+        if (isConstant(a, b)) {
+            return constant(valueOf(a) + valueOf(b));
+        }
+        return v -> a.evaluate(v) + b.evaluate(v);
+    }
+
+    private static Expression.Node subtract(Expression.Node a, Expression.Node b) {
+        if (isConstant(a, b)) {
+            return constant(valueOf(a) - valueOf(b));
+        }
+        return v -> a.evaluate(v) - b.evaluate(v);
+    }
+
+    private static Expression.Node multiply(Expression.Node a, Expression.Node b) {
+        if (isConstant(a, b)) {
+            return constant(valueOf(a) * valueOf(b));
+        }
+        return v -> a.evaluate(v) * b.evaluate(v);
+    }
+
+    private static Expression.Node divide(Expression.Node a, Expression.Node b) {
+        if (isConstant(a, b)) {
+            return constant(valueOf(a) / valueOf(b));
+        }
+        return v -> a.evaluate(v) / b.evaluate(v);
+    }
+
+    private static Expression.Node negate(Expression.Node a) {
+        if (isConstant(a, null)) {
+            return constant(-valueOf(a));
+        }
+        return v -> -a.evaluate(v);
+    }
+
+    private static Expression.Node call(Operator operator, Expression.Node a, Expression.Node b) {
+        if (isConstant(a, b)) {
+            return constant(operator.apply(valueOf(a), valueOf(b)));
+        }
+        if (b == null) {
+            return v -> operator.apply(a.evaluate(v), 0);
+        }
+        return v -> operator.apply(a.evaluate(v), b.evaluate(v));
+    }
+}
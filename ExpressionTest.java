@@ -0,0 +1,130 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The test class ExpressionTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class ExpressionTest {
+
+    private final ExpressionParser parser = new ExpressionParser(new OperatorRegistry(new Display()));
+
+    @Test
+    public void PrecedenceTest(){
+
+        // Given
+        Expression e = parser.parse("1 + 2 * 3 ^ 2 - 8 / 4");
+
+        // When
+        double value = e.evaluate();
+
+        // Then
+        Assert.assertEquals(17, value, .001);
+    }
+
+    @Test
+    public void PowerAndUnaryMinusTest(){
+
+        // Given
+        Expression rightToLeft = parser.parse("2 ^ 3 ^ 2");
+        Expression negated = parser.parse("-2 ^ 2");
+        Expression negativeExponent = parser.parse("2 ^ -1");
+
+        // Then
+        Assert.assertEquals(512, rightToLeft.evaluate(), .001);
+        Assert.assertEquals(-4, negated.evaluate(), .001);
+        Assert.assertEquals(.5, negativeExponent.evaluate(), .001);
+    }
+
+    @Test
+    public void VariablesTest(){
+
+        // Given
+        Expression e = parser.parse("sqrt(x^2 + y^2) / 3");
+
+        // When
+        double first = e.evaluate(3, 4);
+        double second = e.evaluate(6, 8);
+
+        // Then
+        Assert.assertArrayEquals(new Object[] {"x", "y"}, e.getVariables());
+        Assert.assertEquals(5.0 / 3, first, .001);
+        Assert.assertEquals(10.0 / 3, second, .001);
+    }
+
+    @Test
+    public void DeclaredVariablesTest(){
+
+        // Given
+        Expression e = parser.parse("y - x", "x", "y");
+
+        // When
+        double value = e.evaluate(1, 10);
+
+        // Then
+        Assert.assertEquals(9, value, .001);
+        Assert.assertEquals(1, e.variableIndex("y"));
+    }
+
+    @Test
+    public void FunctionsTest(){
+
+        // Given
+        Display d = new Display();
+
+        // When
+        double sine = parser.parse("sin(pi / 2)").evaluate();
+        double cubeRoot = parser.parse("cbrt(27)").evaluate();
+        double gcd = parser.parse("gcd(123, 33)").evaluate();
+        double lcm = parser.parse("lcm(43, 53)").evaluate();
+        double theta = parser.parse("theta(1, 0)").evaluate();
+        double factorial = parser.parse("3! + 10 % 4").evaluate();
+
+        // Then
+        Assert.assertEquals(1, sine, .001);
+        Assert.assertEquals(3, cubeRoot, .001);
+        Assert.assertEquals(3, gcd, .001);
+        Assert.assertEquals(2279, lcm, .001);
+        Assert.assertEquals(d.theta(0, 1), theta, .001);
+        Assert.assertEquals(8, factorial, .001);
+    }
+
+    @Test
+    public void UnitsTest(){
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        Expression radians = parser.parse("sin(x)");
+        Expression degrees = new ExpressionParser(registry, "degrees").parse("sin(x) + cosd(x)");
+
+        // When
+        double inRadians = radians.evaluate(90);
+        double inDegrees = degrees.evaluate(90);
+
+        // Then
+        Assert.assertEquals(Math.sin(90), inRadians, 0);
+        Assert.assertEquals(1, inDegrees, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void UnknownFunctionTest(){
+        parser.parse("frobnicate(1)");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void WrongArgumentCountTest(){
+        parser.parse("gcd(1)");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void UnbalancedParenthesesTest(){
+        parser.parse("(1 + 2");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void UndeclaredVariableTest(){
+        parser.parse("x + y", "x");
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * FactorialBenchmark compares the factorial loop Display used to have
+ * with the lookup table, and a plain BigInteger loop with the exact
+ * IntegerMath.factorial for n up to 100,000.
+ *
+ * Run with: java FactorialBenchmark
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.math.BigInteger;
+
+public class FactorialBenchmark {
+
+    private static final int OPERATIONS = 1_000_000;
+
+    public static void main(String[] args) {
+        Display display = new Display();
+
+        Benchmark.measure("double loop, n = 0..170", OPERATIONS, () -> {
+                double sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += loopFactorial(i % 171);
+                }
+                Benchmark.consume(sum);
+            });
+        Benchmark.measure("table, n = 0..170", OPERATIONS, () -> {
+                double sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += display.factorial(i % 171);
+                }
+                Benchmark.consume(sum);
+            });
+        Benchmark.measure("double loop, n = 1e8", 1, 1, 3, () -> Benchmark.consume(loopFactorial(1e8)));
+        Benchmark.measure("table, n = 1e8", 1, () -> Benchmark.consume(display.factorial(1e8)));
+
+        for (int n : new int[] {1_000, 10_000, 100_000}) {
+            int rounds = n < 100_000 ? 5 : 1;
+            Benchmark.measure("BigInteger loop, n = " + n, 1, rounds, rounds, () -> Benchmark.consume(loopExact(n).bitLength()));
+            Benchmark.measure("IntegerMath.factorial, n = " + n, 1, rounds, rounds, () -> Benchmark.consume(IntegerMath.factorial(n).bitLength()));
+        }
+    }
+
+    /**
+     * loopFactorial is the factorial Display used before the lookup table
+     */
+    private static double loopFactorial(double x) {
+        double f = 1;
+        for (int i = 1; i <= x; i++) {
+            f = f * i;
+        }
+        return f;
+    }
+
+    private static BigInteger loopExact(int n) {
+        BigInteger f = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            f = f.multiply(BigInteger.valueOf(i));
+        }
+        return f;
+    }
+}
@@ -0,0 +1,291 @@
+/**
+ * FastMath holds quicker approximations of the trigonometric, hyperbolic,
+ * exponential and root functions, for bulk work such as Monte Carlo runs
+ * or plotting where speed matters more than the last bit.  They are used
+ * by the "fast" math mode of a CalculatorSession.
+ *
+ * The trigonometric functions and exp look the answer up in a small table
+ * and correct it with a short polynomial, with no branches on the way.
+ * The largest errors found by FastMathBenchmark over its sample ranges are
+ * documented on each function; arguments outside the documented range,
+ * NaN and infinities fall back to Math.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+public final class FastMath {
+
+    /**
+     * The largest |x| the trigonometric functions reduce themselves
+     */
+    public static final double MAX_TRIG_ARGUMENT = 1e6;
+
+    // sin and cos of i / 64 for i from -TRIG_OFFSET to TRIG_OFFSET
+    private static final int STEPS_PER_RADIAN = 64;
+    private static final int TRIG_OFFSET = 202;
+    private static final double[] SIN = new double[2 * TRIG_OFFSET + 1];
+    private static final double[] COS = new double[2 * TRIG_OFFSET + 1];
+
+    // 2 pi split in two; the high part has 33 bits, so n * TWO_PI_HI is exact
+    private static final double TWO_PI_HI = 4 * 1.57079632673412561417e+00;
+    private static final double TWO_PI_LO = 4 * 6.07710050650619224932e-11;
+    private static final double INV_TWO_PI = 1 / (2 * Math.PI);
+
+    // 2^(j / 64) for j from 0 to 63
+    private static final double[] TWO_POW = new double[64];
+
+    // ln 2 / 64 split in two; the high part has 32 bits
+    private static final double LN2_HI = 6.93147180369123816490e-01;
+    private static final double LN2_LO = 1.90821492927058770002e-10;
+    private static final double INV_LN2_64 = 64 / Math.log(2);
+
+    // 1 / c and -log(1 / c) for the centres c of 128 steps from 1 to 2
+    private static final double[] INV = new double[128];
+    private static final double[] LOG = new double[128];
+
+    private static final long MANTISSA = 0x000fffffffffffffL;
+    private static final long ONE = 0x3ff0000000000000L;
+
+    static {
+        for (int i = 0; i < SIN.length; i++) {
+            double x = (double) (i - TRIG_OFFSET) / STEPS_PER_RADIAN;
+            SIN[i] = Math.sin(x);
+            COS[i] = Math.cos(x);
+        }
+        for (int j = 0; j < TWO_POW.length; j++) {
+            TWO_POW[j] = Math.pow(2, j / 64.0);
+        }
+        for (int i = 0; i < INV.length; i++) {
+            INV[i] = 1 / (1 + (i + 0.5) / 128);
+            LOG[i] = -Math.log(INV[i]);
+        }
+    }
+
+    private FastMath() {
+    }
+
+    /**
+     * sin calculates the sine of an angle in radians, within 1e-15 of
+     * Math.sin for |x| up to MAX_TRIG_ARGUMENT
+     *
+     * @param x : the angle
+     *
+     * @return the sin of the angle
+     */
+    public static double sin(double x) {
+        if (!(Math.abs(x) <= MAX_TRIG_ARGUMENT)) {
+            return Math.sin(x);
+        }
+        double n = Math.rint(x * INV_TWO_PI);
+        double r = (x - n * TWO_PI_HI) - n * TWO_PI_LO;
+        double k = Math.rint(r * STEPS_PER_RADIAN);
+        double b = r - k / STEPS_PER_RADIAN;
+        int i = (int) k + TRIG_OFFSET;
+        return SIN[i] * cosSmall(b) + COS[i] * sinSmall(b);
+    }
+
+    /**
+     * cos calculates the cosine of an angle in radians, within 1e-15 of
+     * Math.cos for |x| up to MAX_TRIG_ARGUMENT
+     *
+     * @param x : the angle
+     *
+     * @return the cos of the angle
+     */
+    public static double cos(double x) {
+        if (!(Math.abs(x) <= MAX_TRIG_ARGUMENT)) {
+            return Math.cos(x);
+        }
+        double n = Math.rint(x * INV_TWO_PI);
+        double r = (x - n * TWO_PI_HI) - n * TWO_PI_LO;
+        double k = Math.rint(r * STEPS_PER_RADIAN);
+        double b = r - k / STEPS_PER_RADIAN;
+        int i = (int) k + TRIG_OFFSET;
+        return COS[i] * cosSmall(b) - SIN[i] * sinSmall(b);
+    }
+
+    /**
+     * tan calculates the tangent of an angle in radians, as sin / cos, so
+     * within 1e-15 / cos(x)^2 of Math.tan for |x| up to MAX_TRIG_ARGUMENT
+     *
+     * @param x : the angle
+     *
+     * @return the tan of the angle
+     */
+    public static double tan(double x) {
+        if (!(Math.abs(x) <= MAX_TRIG_ARGUMENT)) {
+            return Math.tan(x);
+        }
+        double n = Math.rint(x * INV_TWO_PI);
+        double r = (x - n * TWO_PI_HI) - n * TWO_PI_LO;
+        double k = Math.rint(r * STEPS_PER_RADIAN);
+        double b = r - k / STEPS_PER_RADIAN;
+        int i = (int) k + TRIG_OFFSET;
+        double s = sinSmall(b);
+        double c = cosSmall(b);
+        return (SIN[i] * c + COS[i] * s) / (COS[i] * c - SIN[i] * s);
+    }
+
+    /**
+     * exp calculates e raised to a power, within 2 ulps of Math.exp
+     *
+     * @param x : the power
+     *
+     * @return e^x
+     */
+    public static double exp(double x) {
+        if (!(Math.abs(x) <= 708)) {
+            return Math.exp(x);
+        }
+        double k = Math.rint(x * INV_LN2_64);
+        double r = (x - k * (LN2_HI / 64)) - k * (LN2_LO / 64);
+        int n = (int) k;
+        double scale = Double.longBitsToDouble((long) ((n >> 6) + 1023) << 52);
+        double p = 1 + r * (1 + r * (1.0 / 2 + r * (1.0 / 6 + r * (1.0 / 24 + r * (1.0 / 120)))));
+        return TWO_POW[n & 63] * p * scale;
+    }
+
+    /**
+     * log calculates the natural logarithm of a number, within
+     * 4e-16 * (1 + |ln x|) of Math.log, so relatively less accurate close
+     * to 1
+     *
+     * @param x : a number
+     *
+     * @return ln x
+     */
+    public static double log(double x) {
+        if (!(x >= Double.MIN_NORMAL && x < Double.POSITIVE_INFINITY)) {
+            return Math.log(x);
+        }
+        long bits = Double.doubleToRawLongBits(x);
+        int e = (int) (bits >>> 52) - 1023;
+        int i = (int) (bits >>> 45) & 127;
+        double z = Double.longBitsToDouble(bits & MANTISSA | ONE) * INV[i] - 1;
+        double p = z * (1 + z * (-1.0 / 2 + z * (1.0 / 3 + z * (-1.0 / 4 + z * (1.0 / 5 + z * (-1.0 / 6))))));
+        return e * LN2_HI + LOG[i] + (e * LN2_LO + p);
+    }
+
+    /**
+     * pow calculates a number raised to a power as exp(y ln x), within a
+     * relative error of 1e-15 * (1 + |y ln x|) of Math.pow
+     *
+     * @param x : a number
+     * @param y : the power
+     *
+     * @return x^y
+     */
+    public static double pow(double x, double y) {
+        if (x > 0 && x < Double.POSITIVE_INFINITY && Math.abs(y) < Double.POSITIVE_INFINITY) {
+            return exp(y * log(x));
+        }
+        if (x < 0 && x > Double.NEGATIVE_INFINITY && y == Math.rint(y) && Math.abs(y) < 0x1p53) {
+            double result = exp(y * log(-x));
+            return (y % 2 == 0) ? result : -result;
+        }
+        return Math.pow(x, y);
+    }
+
+    /**
+     * sinh calculates the hyperbolic sine of a number, within 4 ulps of
+     * Math.sinh
+     *
+     * @param x : a number
+     *
+     * @return sinh x
+     */
+    public static double sinh(double x) {
+        double a = Math.abs(x);
+        if (a < 0.5) {
+            double x2 = x * x;
+            return x + x * x2 * (1.0 / 6 + x2 * (1.0 / 120 + x2 * (1.0 / 5040
+                       + x2 * (1.0 / 362880 + x2 * (1.0 / 39916800 + x2 * (1.0 / 6227020800L))))));
+        }
+        if (!(a <= 708)) {
+            return Math.sinh(x);
+        }
+        double e = exp(a);
+        return Math.copySign(0.5 * (e - 1 / e), x);
+    }
+
+    /**
+     * cosh calculates the hyperbolic cosine of a number, within 2 ulps of
+     * Math.cosh
+     *
+     * @param x : a number
+     *
+     * @return cosh x
+     */
+    public static double cosh(double x) {
+        double a = Math.abs(x);
+        if (!(a <= 708)) {
+            return Math.cosh(x);
+        }
+        double e = exp(a);
+        return 0.5 * (e + 1 / e);
+    }
+
+    /**
+     * tanh calculates the hyperbolic tangent of a number, within 3 ulps of
+     * Math.tanh
+     *
+     * @param x : a number
+     *
+     * @return tanh x
+     */
+    public static double tanh(double x) {
+        double a = Math.abs(x);
+        if (a < 0.5) {
+            double s = sinh(x);
+            return s / Math.sqrt(1 + s * s);
+        }
+        if (!(a <= 22)) {
+            return Double.isNaN(x) ? x : Math.copySign(1, x);
+        }
+        return Math.copySign(1 - 2 / (exp(2 * a) + 1), x);
+    }
+
+    /**
+     * cbrt calculates the cube root of a number with Newton's method for
+     * 1 / cbrt(x), which needs no division, within 2 ulps of Math.cbrt
+     *
+     * @param x : a number
+     *
+     * @return the cube root of x
+     */
+    public static double cbrt(double x) {
+        double a = Math.abs(x);
+        if (!(a >= Double.MIN_NORMAL && a < Double.POSITIVE_INFINITY)) {
+            return Math.cbrt(x);
+        }
+        double r = Double.longBitsToDouble(INV_CBRT_MAGIC - Double.doubleToRawLongBits(a) / 3);
+        r = r * (4 - a * r * r * r) * (1.0 / 3);
+        r = r * (4 - a * r * r * r) * (1.0 / 3);
+        r = r * (4 - a * r * r * r) * (1.0 / 3);
+        r = r * (4 - a * r * r * r) * (1.0 / 3);
+        double y = a * r * r;
+        // one last Newton step for the cube root itself
+        y = y - (y * y * y - a) * (r * r) * (1.0 / 3);
+        return Math.copySign(y, x);
+    }
+
+    // the bits of 1 / cbrt(x) are close to this minus a third of those of x
+    private static final long INV_CBRT_MAGIC = 0x553ef0ff289dd796L;
+
+    /**
+     * sinSmall is sin b for |b| up to 1 / 128
+     */
+    private static double sinSmall(double b) {
+        double b2 = b * b;
+        return b + b * b2 * (-1.0 / 6 + b2 * (1.0 / 120));
+    }
+
+    /**
+     * cosSmall is cos b for |b| up to 1 / 128
+     */
+    private static double cosSmall(double b) {
+        double b2 = b * b;
+        return 1 + b2 * (-1.0 / 2 + b2 * (1.0 / 24 + b2 * (-1.0 / 720)));
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * FastMathBenchmark compares the "fast" math mode with the calculator's
+ * usual math methods: it times each FastMath function against the
+ * Calculator method it replaces and reports the largest error found over
+ * a sample of arguments, in ulps of the Calculator result and as an
+ * absolute error.  Both are called through a DoubleUnaryOperator, as the
+ * operators of an OperatorRegistry are.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.Random;
+import java.util.function.DoubleUnaryOperator;
+
+public class FastMathBenchmark {
+
+    private static final int COUNT = 1 << 16;
+
+    public static void main(String[] args) {
+        Calculator calculator = new Calculator();
+        compare("sin", calculator::sin, FastMath::sin, -1000, 1000);
+        compare("cos", calculator::cos, FastMath::cos, -1000, 1000);
+        compare("tan", calculator::tan, FastMath::tan, -1.5, 1.5);
+        compare("sinh", calculator::sinh, FastMath::sinh, -20, 20);
+        compare("cosh", calculator::cosh, FastMath::cosh, -20, 20);
+        compare("tanh", calculator::tanh, FastMath::tanh, -5, 5);
+        compare("exponent e^x", x -> calculator.exponent(Math.E, x), x -> FastMath.pow(Math.E, x), -700, 700);
+        compare("exponent 1.5^x", x -> calculator.exponent(1.5, x), x -> FastMath.pow(1.5, x), -100, 100);
+        compare("exponent x^0.37", x -> calculator.exponent(x, 0.37), x -> FastMath.pow(x, 0.37), 0, 1e6);
+        compare("cbrt", calculator::cubicRoot, FastMath::cbrt, -1e6, 1e6);
+    }
+
+    /**
+     * compare times a Calculator method and its FastMath replacement on
+     * the same random arguments and prints the largest difference
+     */
+    private static void compare(String name, DoubleUnaryOperator precise, DoubleUnaryOperator fast,
+                                double from, double to) {
+        double[] inputs = new double[COUNT];
+        Random random = new Random(19);
+        for (int i = 0; i < COUNT; i++) {
+            inputs[i] = from + (to - from) * random.nextDouble();
+        }
+        time(name + ", Calculator", precise, inputs);
+        time(name + ", FastMath", fast, inputs);
+
+        double maxUlps = 0;
+        double maxAbsolute = 0;
+        for (double x : inputs) {
+            double expected = precise.applyAsDouble(x);
+            double error = Math.abs(fast.applyAsDouble(x) - expected);
+            maxUlps = Math.max(maxUlps, error / Math.ulp(expected));
+            maxAbsolute = Math.max(maxAbsolute, error);
+        }
+        System.out.printf("%-40s %8.1f ulps %10.1e%n", name + ", max error", maxUlps, maxAbsolute);
+    }
+
+    private static void time(String label, DoubleUnaryOperator function, double[] inputs) {
+        Benchmark.measure(label, inputs.length, () -> {
+                double sum = 0;
+                for (double x : inputs) {
+                    sum += function.applyAsDouble(x);
+                }
+                Benchmark.consume(sum);
+            });
+    }
+}
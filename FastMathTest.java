@@ -0,0 +1,96 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Random;
+
+/**
+ * The test class FastMathTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class FastMathTest {
+
+    @Test
+    public void TrigonometryTest(){
+
+        // Given
+        Random random = new Random(19);
+
+        // Then
+        for (int i = 0; i < 100000; i++) {
+            double x = 2000 * random.nextDouble() - 1000;
+            Assert.assertEquals(Math.sin(x), FastMath.sin(x), 1e-15);
+            Assert.assertEquals(Math.cos(x), FastMath.cos(x), 1e-15);
+            double tan = Math.tan(x);
+            Assert.assertEquals(tan, FastMath.tan(x), 1e-15 * (1 + tan * tan));
+        }
+        Assert.assertEquals(1e-300, FastMath.sin(1e-300), 0);
+        Assert.assertEquals(Math.sin(1e7), FastMath.sin(1e7), 0);
+        Assert.assertTrue(Double.isNaN(FastMath.cos(Double.NaN)));
+    }
+
+    @Test
+    public void ExponentTest(){
+
+        // Given
+        Random random = new Random(19);
+
+        // Then
+        for (int i = 0; i < 100000; i++) {
+            double x = 1400 * random.nextDouble() - 700;
+            Assert.assertEquals(1, FastMath.exp(x) / Math.exp(x), 5e-16);
+            double base = 1e6 * random.nextDouble();
+            double power = 20 * random.nextDouble() - 10;
+            Assert.assertEquals(Math.log(base), FastMath.log(base), 4e-16 * (1 + Math.abs(Math.log(base))));
+            Assert.assertEquals(1, FastMath.pow(base, power) / Math.pow(base, power),
+                                1e-15 * (1 + Math.abs(power * Math.log(base))));
+        }
+        Assert.assertEquals(-8, FastMath.pow(-2, 3), 1e-14);
+        Assert.assertEquals(16, FastMath.pow(-2, 4), 1e-14);
+        Assert.assertTrue(Double.isNaN(FastMath.pow(-2, 0.5)));
+        Assert.assertEquals(Double.POSITIVE_INFINITY, FastMath.exp(1000), 0);
+        Assert.assertEquals(0, FastMath.exp(-1000), 0);
+    }
+
+    @Test
+    public void HyperbolicAndRootTest(){
+
+        // Given
+        Random random = new Random(19);
+
+        // Then
+        for (int i = 0; i < 100000; i++) {
+            double x = 40 * random.nextDouble() - 20;
+            Assert.assertEquals(Math.sinh(x), FastMath.sinh(x), 4 * Math.ulp(Math.sinh(x)));
+            Assert.assertEquals(Math.cosh(x), FastMath.cosh(x), 2 * Math.ulp(Math.cosh(x)));
+            Assert.assertEquals(Math.tanh(x), FastMath.tanh(x), 3 * Math.ulp(Math.tanh(x)));
+            double y = 1e9 * x;
+            Assert.assertEquals(Math.cbrt(y), FastMath.cbrt(y), 2 * Math.ulp(Math.cbrt(y)));
+        }
+        Assert.assertEquals(-3, FastMath.cbrt(-27), 1e-15);
+        Assert.assertEquals(0, FastMath.cbrt(0), 0);
+    }
+
+    @Test
+    public void FastModeTest(){
+
+        // Given
+        CalculatorSession session = new CalculatorSession();
+        OperatorRegistry registry = new OperatorRegistry(session.getCalculator());
+
+        // When
+        String mode = session.switchMathMode();
+        Operator sin = registry.lookup("sin", "radians", session.getMathMode());
+        Operator sind = registry.lookup("sin", "degrees", session.getMathMode());
+        Operator sqrt = registry.lookup("sqrt", "radians", session.getMathMode());
+
+        // Then
+        Assert.assertEquals("fast", mode);
+        Assert.assertEquals(FastMath.sin(1), sin.apply(1, 0), 0);
+        Assert.assertEquals("sin", sin.getName());
+        Assert.assertEquals(FastMath.sin(Math.toRadians(30)), sind.apply(30, 0), 0);
+        Assert.assertSame(registry.lookup("sqrt"), sqrt);
+        Assert.assertEquals("precise", session.switchMathMode());
+        Assert.assertSame(registry.lookup("sin"), registry.lookup("sin", "radians", session.getMathMode()));
+    }
+}
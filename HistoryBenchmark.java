@@ -0,0 +1,55 @@
+/**
+ * HistoryBenchmark times recording operations on a HistoryTape, with and
+ * without a HistoryLog behind it, and applying an operator through a
+ * session with and without a tape.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class HistoryBenchmark {
+
+    private static final int OPERATIONS = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        HistoryTape tape = new HistoryTape();
+        int add = BinaryProtocol.opcode("add");
+        Benchmark.measure("tape record", OPERATIONS, () -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    tape.record(add, i, 1, i + 1);
+                }
+            });
+
+        Path path = Files.createTempFile("history", ".log");
+        try (HistoryLog log = new HistoryLog(path)) {
+            HistoryTape logged = new HistoryTape();
+            logged.setLog(log);
+            Benchmark.measure("tape record with log", OPERATIONS, 2, 3, () -> {
+                    for (int i = 0; i < OPERATIONS; i++) {
+                        logged.record(add, i, 1, i + 1);
+                    }
+                });
+        } finally {
+            Files.delete(path);
+        }
+
+        CalculatorSession plain = new CalculatorSession();
+        CalculatorSession recorded = new CalculatorSession();
+        recorded.setHistory(new HistoryTape());
+        Operator operator = new OperatorRegistry(plain.getCalculator()).lookup("+");
+        Benchmark.measure("session apply", OPERATIONS, () -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    plain.apply(operator, i, 1);
+                }
+            });
+        Benchmark.measure("session apply with tape", OPERATIONS, () -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    recorded.apply(operator, i, 1);
+                }
+            });
+    }
+}
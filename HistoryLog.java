@@ -0,0 +1,134 @@
+/**
+ * HistoryLog appends HistoryTape entries to a binary file.  Entries are
+ * collected in a direct buffer and written in batches, so most appends
+ * only copy 40 bytes; the file is written when the batch is full, on
+ * flush and on close.  Entries use the same 40 byte layout as the tape
+ * and the file has no header, so it can simply be appended to by later
+ * runs.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class HistoryLog implements Closeable {
+
+    /**
+     * The number of entries written together unless another is given
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer batch;
+
+    /**
+     * HistoryLog is a constructor for a log written in batches of
+     * DEFAULT_BATCH_SIZE entries
+     *
+     * @param path : the log file, created if it does not exist
+     * @throws IOException if the file cannot be opened
+     */
+    public HistoryLog(Path path) throws IOException {
+        this(path, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * HistoryLog is a constructor for a HistoryLog object
+     *
+     * @param path : the log file, created if it does not exist
+     * @param batchSize : how many entries are written to the file at once
+     * @throws IOException if the file cannot be opened
+     */
+    public HistoryLog(Path path, int batchSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.batch = ByteBuffer.allocateDirect(Math.max(1, batchSize) * HistoryTape.ENTRY_SIZE);
+    }
+
+    /**
+     * append adds an entry to the log
+     *
+     * @param time : milliseconds since 1970
+     * @param opcode : the operator's opcode
+     * @param x : the first operand
+     * @param y : the second operand
+     * @param result : the result
+     * @throws UncheckedIOException if a full batch cannot be written
+     */
+    public void append(long time, int opcode, double x, double y, double result) {
+        int offset = batch.position();
+        batch.putLong(offset + HistoryTape.TIME_OFFSET, time);
+        batch.putDouble(offset + HistoryTape.X_OFFSET, x);
+        batch.putDouble(offset + HistoryTape.Y_OFFSET, y);
+        batch.putDouble(offset + HistoryTape.RESULT_OFFSET, result);
+        batch.put(offset + HistoryTape.OPCODE_OFFSET, (byte) opcode);
+        batch.position(offset + HistoryTape.ENTRY_SIZE);
+        if (!batch.hasRemaining()) {
+            try {
+                flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * flush writes the entries collected so far to the file
+     */
+    public void flush() throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        batch.clear();
+    }
+
+    /**
+     * close writes the last entries and closes the file
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * read visits every entry of a log file, oldest first
+     *
+     * @param path : the log file
+     * @param visitor : called with each entry
+     *
+     * @return the number of entries read
+     * @throws IOException if the file cannot be read
+     */
+    public static long read(Path path, HistoryTape.Visitor visitor) throws IOException {
+        long count = 0;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DEFAULT_BATCH_SIZE * HistoryTape.ENTRY_SIZE);
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (in.read(buffer) >= 0 || buffer.position() >= HistoryTape.ENTRY_SIZE) {
+                buffer.flip();
+                while (buffer.remaining() >= HistoryTape.ENTRY_SIZE) {
+                    int offset = buffer.position();
+                    visitor.visit(buffer.getLong(offset + HistoryTape.TIME_OFFSET),
+                                  buffer.get(offset + HistoryTape.OPCODE_OFFSET) & 0xFF,
+                                  buffer.getDouble(offset + HistoryTape.X_OFFSET),
+                                  buffer.getDouble(offset + HistoryTape.Y_OFFSET),
+                                  buffer.getDouble(offset + HistoryTape.RESULT_OFFSET));
+                    buffer.position(offset + HistoryTape.ENTRY_SIZE);
+                    count++;
+                }
+                buffer.compact();
+            }
+        }
+        return count;
+    }
+}
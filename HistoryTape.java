@@ -0,0 +1,280 @@
+/**
+ * HistoryTape remembers the most recent operations of a session, like the
+ * paper tape of an adding machine.  Each entry holds the operator's
+ * opcode (see BinaryProtocol), the operands, the result and the time.
+ * Entries are written into a fixed-size ring in a direct ByteBuffer, so
+ * recording creates no objects and the oldest entry is overwritten once
+ * the tape is full.  A HistoryLog can be attached to also keep every
+ * entry on disk.
+ *
+ * A HistoryTape is not synchronized.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.nio.ByteBuffer;
+
+public class HistoryTape {
+
+    /**
+     * The number of entries a tape keeps unless another is given
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Entry layout: time, x, y, result, opcode, padded to 40 bytes
+     */
+    public static final int ENTRY_SIZE = 40;
+    static final int TIME_OFFSET = 0;
+    static final int X_OFFSET = 8;
+    static final int Y_OFFSET = 16;
+    static final int RESULT_OFFSET = 24;
+    static final int OPCODE_OFFSET = 32;
+
+    /**
+     * Visitor is called with each entry a query finds
+     */
+    public interface Visitor {
+        void visit(long time, int opcode, double x, double y, double result);
+    }
+
+    private final ByteBuffer entries;
+    private final int capacity;
+    private long recorded;
+    private int next;
+    private HistoryLog log;
+
+    /**
+     * HistoryTape is a constructor for a tape of DEFAULT_CAPACITY entries
+     */
+    public HistoryTape() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * HistoryTape is a constructor for a HistoryTape object
+     *
+     * @param capacity : how many of the latest entries to keep
+     */
+    public HistoryTape(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Error.  A tape needs room for at least 1 entry");
+        }
+        this.capacity = capacity;
+        this.entries = ByteBuffer.allocateDirect(capacity * ENTRY_SIZE);
+    }
+
+    /**
+     * setLog sets where entries are also written, or null for nowhere
+     *
+     * @param log : the log every new entry is appended to
+     */
+    public void setLog(HistoryLog log) {
+        this.log = log;
+    }
+
+    /**
+     * getLog is a getter for log
+     *
+     * @return the attached log, or null
+     */
+    public HistoryLog getLog() {
+        return this.log;
+    }
+
+    /**
+     * record adds an operation to the tape
+     *
+     * @param opcode : the operator's opcode
+     * @param x : the first operand
+     * @param y : the second operand
+     * @param result : the result
+     */
+    public void record(int opcode, double x, double y, double result) {
+        long time = System.currentTimeMillis();
+        int offset = next * ENTRY_SIZE;
+        entries.putLong(offset + TIME_OFFSET, time);
+        entries.putDouble(offset + X_OFFSET, x);
+        entries.putDouble(offset + Y_OFFSET, y);
+        entries.putDouble(offset + RESULT_OFFSET, result);
+        entries.put(offset + OPCODE_OFFSET, (byte) opcode);
+        recorded++;
+        next = next + 1 == capacity ? 0 : next + 1;
+        if (log != null) {
+            log.append(time, opcode, x, y, result);
+        }
+    }
+
+    /**
+     * record adds an operator's operation to the tape
+     *
+     * @param operator : the operator that was applied
+     * @param x : the first operand
+     * @param y : the second operand
+     * @param result : the result
+     */
+    public void record(Operator operator, double x, double y, double result) {
+        record(BinaryProtocol.opcodeOrZero(operator.getName()), x, y, result);
+    }
+
+    /**
+     * size gives the number of entries on the tape
+     *
+     * @return how many entries can be read, at most the capacity
+     */
+    public int size() {
+        return (int) Math.min(recorded, capacity);
+    }
+
+    /**
+     * getCapacity is a getter for capacity
+     *
+     * @return the most entries the tape keeps
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * getRecordedCount gives the number of entries ever recorded
+     *
+     * @return the count, including entries already overwritten
+     */
+    public long getRecordedCount() {
+        return this.recorded;
+    }
+
+    /**
+     * clear removes every entry
+     */
+    public void clear() {
+        recorded = 0;
+        next = 0;
+    }
+
+    /**
+     * getTime gives the time of an entry
+     *
+     * @param i : the entry, 0 being the oldest on the tape
+     *
+     * @return milliseconds since 1970, as from System.currentTimeMillis
+     */
+    public long getTime(int i) {
+        return entries.getLong(offset(i) + TIME_OFFSET);
+    }
+
+    /**
+     * getOpcode gives the opcode of an entry
+     *
+     * @param i : the entry, 0 being the oldest on the tape
+     *
+     * @return the opcode, or 0 for an operator that has none
+     */
+    public int getOpcode(int i) {
+        return entries.get(offset(i) + OPCODE_OFFSET) & 0xFF;
+    }
+
+    /**
+     * getX gives the first operand of an entry
+     *
+     * @param i : the entry, 0 being the oldest on the tape
+     *
+     * @return the first operand
+     */
+    public double getX(int i) {
+        return entries.getDouble(offset(i) + X_OFFSET);
+    }
+
+    /**
+     * getY gives the second operand of an entry
+     *
+     * @param i : the entry, 0 being the oldest on the tape
+     *
+     * @return the second operand
+     */
+    public double getY(int i) {
+        return entries.getDouble(offset(i) + Y_OFFSET);
+    }
+
+    /**
+     * getResult gives the result of an entry
+     *
+     * @param i : the entry, 0 being the oldest on the tape
+     *
+     * @return the result
+     */
+    public double getResult(int i) {
+        return entries.getDouble(offset(i) + RESULT_OFFSET);
+    }
+
+    /**
+     * forEachLast visits the latest entries, oldest first
+     *
+     * @param n : how many entries to visit
+     * @param visitor : called with each entry
+     */
+    public void forEachLast(int n, Visitor visitor) {
+        int size = size();
+        for (int i = Math.max(0, size - n); i < size; i++) {
+            visit(i, visitor);
+        }
+    }
+
+    /**
+     * forEachOperator visits every entry of one operator, oldest first
+     *
+     * @param opcode : the operator's opcode
+     * @param visitor : called with each entry
+     *
+     * @return the number of entries visited
+     */
+    public int forEachOperator(int opcode, Visitor visitor) {
+        int count = 0;
+        for (int i = 0; i < size(); i++) {
+            if (getOpcode(i) == opcode) {
+                visit(i, visitor);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * replay applies every entry's operator again, oldest first, to a
+     * session, for example a fresh one, so its display ends up showing
+     * the last result
+     *
+     * @param session : the session the operations are applied to
+     * @param registry : the operators to use
+     *
+     * @return the number of operations replayed
+     */
+    public int replay(CalculatorSession session, OperatorRegistry registry) {
+        Operator[] operators = BinaryProtocol.operators(registry);
+        int replayed = 0;
+        for (int i = 0; i < size(); i++) {
+            int opcode = getOpcode(i);
+            if (opcode > 0 && opcode < operators.length && operators[opcode] != null) {
+                session.apply(operators[opcode], getX(i), getY(i));
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    private void visit(int i, Visitor visitor) {
+        int offset = offset(i);
+        visitor.visit(entries.getLong(offset + TIME_OFFSET), entries.get(offset + OPCODE_OFFSET) & 0xFF,
+                      entries.getDouble(offset + X_OFFSET), entries.getDouble(offset + Y_OFFSET),
+                      entries.getDouble(offset + RESULT_OFFSET));
+    }
+
+    private int offset(int i) {
+        int size = size();
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Error.  There is no entry " + i);
+        }
+        return (int) ((recorded - size + i) % capacity) * ENTRY_SIZE;
+    }
+}
@@ -0,0 +1,103 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The test class HistoryTapeTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class HistoryTapeTest {
+
+    @Test
+    public void RingTest(){
+
+        // Given
+        HistoryTape tape = new HistoryTape(3);
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            tape.record(BinaryProtocol.opcode("add"), i, 1, i + 1);
+        }
+
+        // Then
+        Assert.assertEquals(3, tape.size());
+        Assert.assertEquals(5, tape.getRecordedCount());
+        Assert.assertEquals(3, tape.getX(0), 0);
+        Assert.assertEquals(6, tape.getResult(2), 0);
+        Assert.assertEquals(BinaryProtocol.opcode("add"), tape.getOpcode(1));
+        Assert.assertTrue(tape.getTime(2) > 0);
+    }
+
+    @Test
+    public void QueryTest(){
+
+        // Given
+        CalculatorSession session = new CalculatorSession();
+        OperatorRegistry registry = new OperatorRegistry(session.getCalculator());
+        session.setHistory(new HistoryTape());
+        session.apply(registry.lookup("+"), 3, 4);
+        session.apply(registry.lookup("sqrt"), 16, 0);
+        session.apply(registry.lookup("+"), 1, 2);
+        session.apply(registry.lookup("/"), 1, 0);
+        List<Double> last = new ArrayList<>();
+        List<Double> sums = new ArrayList<>();
+
+        // When
+        session.getHistory().forEachLast(2, (time, opcode, x, y, result) -> last.add(result));
+        int count = session.getHistory().forEachOperator(BinaryProtocol.opcode("add"), (time, opcode, x, y, result) -> sums.add(result));
+
+        // Then
+        Assert.assertEquals(3, session.getHistory().size());
+        Assert.assertEquals(2, count);
+        Assert.assertEquals(List.of(4.0, 3.0), last);
+        Assert.assertEquals(List.of(7.0, 3.0), sums);
+    }
+
+    @Test
+    public void ReplayTest(){
+
+        // Given
+        CalculatorSession session = new CalculatorSession();
+        OperatorRegistry registry = new OperatorRegistry(session.getCalculator());
+        session.setHistory(new HistoryTape());
+        session.apply(registry.lookup("*"), 6, 7);
+        session.apply(registry.lookup("sqrt"), 49, 0);
+        CalculatorSession fresh = new CalculatorSession();
+
+        // When
+        int replayed = session.getHistory().replay(fresh, registry);
+
+        // Then
+        Assert.assertEquals(2, replayed);
+        Assert.assertEquals("7.0", fresh.getCurrentDisplay());
+    }
+
+    @Test
+    public void LogTest() throws Exception{
+
+        // Given
+        Path path = Files.createTempFile("history", ".log");
+        HistoryTape tape = new HistoryTape(2);
+        List<Double> results = new ArrayList<>();
+
+        // When
+        try (HistoryLog log = new HistoryLog(path, 4)) {
+            tape.setLog(log);
+            for (int i = 0; i < 10; i++) {
+                tape.record(BinaryProtocol.opcode("multiply"), i, 2, 2 * i);
+            }
+        }
+        long count = HistoryLog.read(path, (time, opcode, x, y, result) -> results.add(result));
+        Files.delete(path);
+
+        // Then
+        Assert.assertEquals(10, count);
+        Assert.assertEquals(18, results.get(9), 0);
+        Assert.assertEquals(2, tape.size());
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * InputBenchmark compares reading piped numbers with Scanner.nextDouble
+ * against TokenReader.nextDouble.
+ *
+ * Run with: java InputBenchmark
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.Scanner;
+
+public class InputBenchmark {
+
+    private static final int NUMBERS = 200_000;
+
+    public static void main(String[] args) {
+        Random random = new Random(1);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < NUMBERS; i++) {
+            text.append(Math.round(random.nextDouble() * 1e6) / 100.0).append('\n');
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+
+        Benchmark.measure("Scanner.nextDouble", NUMBERS, () -> {
+                Scanner scanner = new Scanner(new ByteArrayInputStream(bytes));
+                double sum = 0;
+                for (int i = 0; i < NUMBERS; i++) {
+                    sum += scanner.nextDouble();
+                }
+                Benchmark.consume(sum);
+            });
+
+        Benchmark.measure("TokenReader.nextDouble", NUMBERS, () -> {
+                TokenReader reader = new TokenReader(new ByteArrayInputStream(bytes));
+                double sum = 0;
+                for (int i = 0; i < NUMBERS; i++) {
+                    sum += reader.nextDouble();
+                }
+                Benchmark.consume(sum);
+            });
+    }
+}
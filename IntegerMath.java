@@ -0,0 +1,401 @@
+/**
+ * IntegerMath holds the calculator's exact integer algorithms, such as
+ * factorials and powers, that the double based operations in Display
+ * build on.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+public final class IntegerMath {
+
+    /**
+     * MAX_DOUBLE_FACTORIAL is the largest n whose factorial fits in a double
+     */
+    public static final int MAX_DOUBLE_FACTORIAL = 170;
+
+    private static final double[] FACTORIALS = new double[MAX_DOUBLE_FACTORIAL + 1];
+
+    static {
+        BigInteger f = BigInteger.ONE;
+        FACTORIALS[0] = 1;
+        for (int i = 1; i <= MAX_DOUBLE_FACTORIAL; i++) {
+            f = f.multiply(BigInteger.valueOf(i));
+            FACTORIALS[i] = f.doubleValue();
+        }
+    }
+
+    // below this many factors a range is multiplied directly in a long loop
+    private static final int SPLIT_THRESHOLD = 16;
+
+    // arrays at least this long are reduced in parallel
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // below this modulus a product of two remainders always fits in a long
+    private static final long MAX_LONG_MODULUS = 3037000499L;
+
+    // a power with more bits than this overflows a double
+    private static final int MAX_DOUBLE_BITS = 1025;
+
+    private IntegerMath() {
+    }
+
+    /**
+     * factorialAsDouble looks up n! rounded to the nearest double
+     *
+     * @param n : a number from 0 to MAX_DOUBLE_FACTORIAL
+     *
+     * @return n factorial
+     */
+    public static double factorialAsDouble(int n) {
+        return FACTORIALS[n];
+    }
+
+    /**
+     * factorial calculates n! exactly.  The product is split in halves
+     * recursively so the big multiplications happen between numbers of
+     * similar size, where BigInteger's fast multiplication pays off.
+     *
+     * @param n : a number that is at least 0
+     *
+     * @return n factorial
+     * @throws ArithmeticException if n is negative
+     */
+    public static BigInteger factorial(int n) {
+        if (n < 0) {
+            throw new ArithmeticException("Error.  Factorial of a negative number");
+        }
+        if (n < 2) {
+            return BigInteger.ONE;
+        }
+        // n! = oddProduct(1..n) * 2^(n/2) * (n/2)!, so unrolling the recursion
+        // multiplies only odd numbers and the powers of two become one shift
+        int levels = 32 - Integer.numberOfLeadingZeros(n);
+        int twos = 0;
+        BigInteger odd = BigInteger.ONE;
+        BigInteger result = BigInteger.ONE;
+        for (int k = levels - 1; k >= 0; k--) {
+            int m = n >> k;
+            twos += m >> 1;
+            // odd now holds the product of the odd numbers up to m
+            odd = odd.multiply(oddProduct((m >> 1) + 1, m));
+            result = result.multiply(odd);
+        }
+        return result.shiftLeft(twos);
+    }
+
+    /**
+     * oddProduct multiplies all odd numbers in lo..hi
+     */
+    private static BigInteger oddProduct(int lo, int hi) {
+        lo |= 1;
+        if ((hi & 1) == 0) {
+            hi--;
+        }
+        if (lo > hi) {
+            return BigInteger.ONE;
+        }
+        int count = (hi - lo) / 2 + 1;
+        if (count <= SPLIT_THRESHOLD) {
+            BigInteger product = BigInteger.ONE;
+            long partial = 1;
+            for (long i = lo; i <= hi; i += 2) {
+                if (partial > Long.MAX_VALUE / i) {
+                    product = product.multiply(BigInteger.valueOf(partial));
+                    partial = 1;
+                }
+                partial *= i;
+            }
+            return product.multiply(BigInteger.valueOf(partial));
+        }
+        int mid = lo + 2 * (count / 2);
+        return oddProduct(lo, mid - 1).multiply(oddProduct(mid, hi));
+    }
+
+    /**
+     * gcd calculates the greatest common divisor of two numbers with the
+     * binary (Stein's) algorithm, which only shifts and subtracts
+     *
+     * @param a : a number
+     * @param b : a number
+     *
+     * @return the greatest common divisor of a and b, never negative
+     * @throws ArithmeticException if the result is 2^63, which does not fit in a long
+     */
+    public static long gcd(long a, long b) {
+        if (a == Long.MIN_VALUE || b == Long.MIN_VALUE) {
+            return BigInteger.valueOf(a).gcd(BigInteger.valueOf(b)).longValueExact();
+        }
+        a = Math.abs(a);
+        b = Math.abs(b);
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        do {
+            b >>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                long t = b;
+                b = a;
+                a = t;
+            }
+            b -= a;
+        } while (b != 0);
+        return a << shift;
+    }
+
+    /**
+     * lcm calculates the least common multiple of two numbers
+     *
+     * @param a : a number
+     * @param b : a number
+     *
+     * @return the least common multiple of a and b, never negative
+     * @throws ArithmeticException if the result does not fit in a long
+     */
+    public static long lcm(long a, long b) {
+        if (a == 0 || b == 0) {
+            return 0;
+        }
+        long multiple = Math.multiplyExact(a / gcd(a, b), b);
+        if (multiple == Long.MIN_VALUE) {
+            throw new ArithmeticException("long overflow");
+        }
+        return Math.abs(multiple);
+    }
+
+    /**
+     * lcm calculates the least common multiple of two numbers of any size
+     *
+     * @param a : a number
+     * @param b : a number
+     *
+     * @return the least common multiple of a and b, never negative
+     */
+    public static BigInteger lcm(BigInteger a, BigInteger b) {
+        if (a.signum() == 0 || b.signum() == 0) {
+            return BigInteger.ZERO;
+        }
+        return a.divide(a.gcd(b)).multiply(b).abs();
+    }
+
+    /**
+     * gcd calculates the greatest common divisor of many numbers.  Long
+     * arrays are split across all cores.
+     *
+     * @param values : the numbers
+     *
+     * @return the greatest common divisor of all the values, or 0 if there are none
+     */
+    public static long gcd(long... values) {
+        if (values.length >= PARALLEL_THRESHOLD) {
+            return Arrays.stream(values).parallel().reduce(0, IntegerMath::gcd);
+        }
+        long result = 0;
+        for (long value : values) {
+            result = gcd(result, value);
+            if (result == 1) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * lcm calculates the least common multiple of many numbers.  Long
+     * arrays are split across all cores.
+     *
+     * @param values : the numbers
+     *
+     * @return the least common multiple of all the values, or 1 if there are none
+     * @throws ArithmeticException if the result does not fit in a long
+     */
+    public static long lcm(long... values) {
+        if (values.length >= PARALLEL_THRESHOLD) {
+            return Arrays.stream(values).parallel().reduce(1, IntegerMath::lcm);
+        }
+        long result = 1;
+        for (long value : values) {
+            result = lcm(result, value);
+            if (result == 0) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * pow calculates base^exponent exactly by repeated squaring, so it
+     * takes one multiplication per bit of the exponent instead of one per
+     * unit
+     *
+     * @param base : a number
+     * @param exponent : a number that is at least 0
+     *
+     * @return base raised to the power exponent
+     * @throws ArithmeticException if exponent is negative or the result
+     *         does not fit in a long
+     */
+    public static long pow(long base, int exponent) {
+        if (exponent < 0) {
+            throw new ArithmeticException("Error.  Negative exponent " + exponent);
+        }
+        long result = 1;
+        while (true) {
+            if ((exponent & 1) != 0) {
+                result = Math.multiplyExact(result, base);
+            }
+            exponent >>>= 1;
+            if (exponent == 0) {
+                return result;
+            }
+            base = Math.multiplyExact(base, base);
+        }
+    }
+
+    /**
+     * exactPow calculates base^exponent exactly, in a long while it fits
+     * and with BigInteger beyond that
+     *
+     * @param base : a number
+     * @param exponent : a number that is at least 0
+     *
+     * @return base raised to the power exponent
+     * @throws ArithmeticException if exponent is negative
+     */
+    public static BigInteger exactPow(long base, int exponent) {
+        if (exponent < 0) {
+            throw new ArithmeticException("Error.  Negative exponent " + exponent);
+        }
+        if ((long) exponent * bitLength(base) <= 62) {
+            return BigInteger.valueOf(squareAndMultiply(base, exponent));
+        }
+        return BigInteger.valueOf(base).pow(exponent);
+    }
+
+    /**
+     * powAsDouble calculates base^exponent by repeated squaring and rounds
+     * it once to the nearest double.  Powers below 2^62 are calculated
+     * exactly in a long; larger ones in double-double arithmetic, which
+     * carries about 106 bits, so the result is correctly rounded unless
+     * the power lies within 2^-100 of halfway between two doubles.  A
+     * floating point power such as Math.pow can be off by an ulp.
+     *
+     * @param base : a number
+     * @param exponent : a number that is at least 0
+     *
+     * @return base raised to the power exponent, rounded to a double, or
+     *         an infinity if it is too large for a double
+     * @throws ArithmeticException if exponent is negative
+     */
+    public static double powAsDouble(long base, long exponent) {
+        if (exponent < 0) {
+            throw new ArithmeticException("Error.  Negative exponent " + exponent);
+        }
+        if (base == 0 || base == 1 || exponent == 0) {
+            return exponent == 0 ? 1 : base;
+        }
+        if (base == -1) {
+            return (exponent & 1) == 0 ? 1 : -1;
+        }
+        int bits = bitLength(base);
+        boolean negative = base < 0 && (exponent & 1) != 0;
+        // checked first, so that exponent * bits below cannot overflow
+        if (exponent > MAX_DOUBLE_BITS || (exponent - 1) * (bits - 1) > MAX_DOUBLE_BITS) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        if (exponent * bits <= 62) {
+            return squareAndMultiply(base, (int) exponent);
+        }
+        // |base| as an unevaluated sum of two doubles, exact for any long
+        long magnitude = Math.abs(base);
+        double baseHigh = (double) magnitude;
+        double baseLow = (double) (magnitude - (long) baseHigh);
+        double high = 1;
+        double low = 0;
+        while (true) {
+            if ((exponent & 1) != 0) {
+                double product = high * baseHigh;
+                double error = Math.fma(high, baseHigh, -product) + high * baseLow + low * baseHigh;
+                high = product + error;
+                low = error - (high - product);
+            }
+            exponent >>>= 1;
+            if (exponent == 0) {
+                break;
+            }
+            double square = baseHigh * baseHigh;
+            double error = Math.fma(baseHigh, baseHigh, -square) + 2 * baseHigh * baseLow;
+            baseHigh = square + error;
+            baseLow = error - (baseHigh - square);
+        }
+        // past the largest double the error terms turn into NaN
+        double result = Double.isNaN(high) ? Double.POSITIVE_INFINITY : high;
+        return negative ? -result : result;
+    }
+
+    /**
+     * squareAndMultiply calculates base^exponent by repeated squaring
+     * without checking for overflow
+     */
+    private static long squareAndMultiply(long base, int exponent) {
+        long result = 1;
+        while (exponent != 0) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            exponent >>>= 1;
+            if (exponent != 0) {
+                base *= base;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * bitLength gives the number of bits needed for |x|, so |x| < 2^bitLength
+     */
+    private static int bitLength(long x) {
+        return x == Long.MIN_VALUE ? 64 : 64 - Long.numberOfLeadingZeros(Math.abs(x));
+    }
+
+    /**
+     * modPow calculates base^exponent mod modulus by repeated squaring,
+     * reducing after every multiplication so the numbers stay small
+     *
+     * @param base : a number
+     * @param exponent : a number; if it is negative, base must have an
+     *                   inverse mod modulus
+     * @param modulus : a number greater than 0
+     *
+     * @return base raised to the power exponent mod modulus, from 0 to modulus - 1
+     * @throws ArithmeticException if modulus is not greater than 0, or the
+     *         exponent is negative and base has no inverse
+     */
+    public static long modPow(long base, long exponent, long modulus) {
+        if (modulus <= 0) {
+            throw new ArithmeticException("Error.  Modulus " + modulus + " is not positive");
+        }
+        if (exponent < 0 || modulus > MAX_LONG_MODULUS) {
+            return BigInteger.valueOf(base).modPow(BigInteger.valueOf(exponent), BigInteger.valueOf(modulus))
+                .longValue();
+        }
+        long b = Math.floorMod(base, modulus);
+        long result = 1 % modulus;
+        while (exponent != 0) {
+            if ((exponent & 1) != 0) {
+                result = result * b % modulus;
+            }
+            exponent >>>= 1;
+            b = b * b % modulus;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,148 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.math.BigInteger;
+
+/**
+ * The test class IntegerMathTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class IntegerMathTest {
+
+    @Test
+    public void GCDTest(){
+
+        // When
+        long a = IntegerMath.gcd(123, 33);
+        long b = IntegerMath.gcd(-48, 18);
+        long c = IntegerMath.gcd(0, 7);
+        long d = IntegerMath.gcd(1L << 62, 1L << 40);
+        long e = IntegerMath.gcd(Long.MIN_VALUE, 6);
+
+        // Then
+        Assert.assertEquals(3, a);
+        Assert.assertEquals(6, b);
+        Assert.assertEquals(7, c);
+        Assert.assertEquals(1L << 40, d);
+        Assert.assertEquals(2, e);
+    }
+
+    @Test
+    public void LCMTest(){
+
+        // When
+        long a = IntegerMath.lcm(43, 53);
+        long b = IntegerMath.lcm(-4, 6);
+        long c = IntegerMath.lcm(0, 6);
+        BigInteger d = IntegerMath.lcm(BigInteger.valueOf(Long.MAX_VALUE), BigInteger.valueOf(2));
+
+        // Then
+        Assert.assertEquals(2279, a);
+        Assert.assertEquals(12, b);
+        Assert.assertEquals(0, c);
+        Assert.assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1), d);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void LCMOverflowTest(){
+        IntegerMath.lcm(Long.MAX_VALUE, 2);
+    }
+
+    @Test
+    public void ManyValuesTest(){
+
+        // Given
+        long[] small = {12, 18, 30};
+        long[] large = new long[100_000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = 6L * (i + 1);
+        }
+
+        // When
+        long smallGcd = IntegerMath.gcd(small);
+        long smallLcm = IntegerMath.lcm(small);
+        long largeGcd = IntegerMath.gcd(large);
+        long empty = IntegerMath.gcd();
+
+        // Then
+        Assert.assertEquals(6, smallGcd);
+        Assert.assertEquals(180, smallLcm);
+        Assert.assertEquals(6, largeGcd);
+        Assert.assertEquals(0, empty);
+    }
+
+    @Test
+    public void FactorialTest(){
+
+        // Given
+        BigInteger expected = BigInteger.ONE;
+        for (int i = 2; i <= 500; i++) {
+            expected = expected.multiply(BigInteger.valueOf(i));
+        }
+
+        // When
+        BigInteger actual = IntegerMath.factorial(500);
+
+        // Then
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(120, IntegerMath.factorialAsDouble(5), 0);
+    }
+
+    @Test
+    public void PowTest(){
+
+        // When
+        long a = IntegerMath.pow(3, 39);
+        long b = IntegerMath.pow(-2, 63);
+        BigInteger c = IntegerMath.exactPow(3, 100);
+        double d = IntegerMath.powAsDouble(3, 100);
+        double e = IntegerMath.powAsDouble(-3, 1001);
+        double f = IntegerMath.powAsDouble(10, 22);
+
+        // Then
+        Assert.assertEquals(4052555153018976267L, a);
+        Assert.assertEquals(Long.MIN_VALUE, b);
+        Assert.assertEquals(BigInteger.valueOf(3).pow(100), c);
+        Assert.assertEquals(c.doubleValue(), d, 0);
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, e, 0);
+        Assert.assertEquals(1e22, f, 0);
+    }
+
+    @Test
+    public void HugePowTest(){
+
+        // When
+        double a = IntegerMath.powAsDouble(2, 1L << 62);
+        double b = IntegerMath.powAsDouble(-3, Long.MAX_VALUE);
+        double c = IntegerMath.powAsDouble(-2, 1L << 62);
+
+        // Then
+        Assert.assertEquals(Double.POSITIVE_INFINITY, a, 0);
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, b, 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, c, 0);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void PowOverflowTest(){
+        IntegerMath.pow(3, 40);
+    }
+
+    @Test
+    public void ModPowTest(){
+
+        // When
+        long a = IntegerMath.modPow(4, 13, 497);
+        long b = IntegerMath.modPow(-2, 3, 5);
+        long c = IntegerMath.modPow(3, -1, 7);
+        long d = IntegerMath.modPow(123456789, 987654321, 1_000_000_007);
+        long e = IntegerMath.modPow(1L << 40, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        // Then
+        Assert.assertEquals(445, a);
+        Assert.assertEquals(2, b);
+        Assert.assertEquals(5, c);
+        Assert.assertEquals(BigInteger.valueOf(123456789).modPow(BigInteger.valueOf(987654321), BigInteger.valueOf(1_000_000_007)).longValue(), d);
+        Assert.assertEquals(BigInteger.ONE.shiftLeft(40).modPow(BigInteger.valueOf(Long.MAX_VALUE), BigInteger.valueOf(Long.MAX_VALUE)).longValue(), e);
+    }
+}
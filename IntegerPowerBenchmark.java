@@ -0,0 +1,78 @@
+/**
+ * IntegerPowerBenchmark compares Math.pow with the exact integer powers:
+ * Calculator.exponent on whole numbers, which squares in a long or in
+ * double-double arithmetic, and IntegerMath.pow, for small and large
+ * exponents.
+ * It also times IntegerMath.modPow against BigInteger.modPow and counts
+ * how often Math.pow is not the correctly rounded power.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.math.BigInteger;
+
+public class IntegerPowerBenchmark {
+
+    private static final int OPERATIONS = 1_000_000;
+
+    public static void main(String[] args) {
+        Calculator calculator = new Calculator();
+        int[][] cases = {{3, 5}, {7, 20}, {3, 39}, {3, 300}};
+
+        for (int[] c : cases) {
+            double base = c[0];
+            double exponent = c[1];
+            String power = c[0] + "^" + c[1];
+            Benchmark.measure("Math.pow, " + power, OPERATIONS, () -> {
+                    double sum = 0;
+                    for (int i = 0; i < OPERATIONS; i++) {
+                        sum += Math.pow(base + (i & 1), exponent);
+                    }
+                    Benchmark.consume(sum);
+                });
+            Benchmark.measure("Calculator.exponent, " + power, OPERATIONS, () -> {
+                    double sum = 0;
+                    for (int i = 0; i < OPERATIONS; i++) {
+                        sum += calculator.exponent(base + (i & 1), exponent);
+                    }
+                    Benchmark.consume(sum);
+                });
+        }
+        Benchmark.measure("IntegerMath.pow, 3^39", OPERATIONS, () -> {
+                long sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += IntegerMath.pow(3 - (i & 1), 39);
+                }
+                Benchmark.consume(sum);
+            });
+
+        long modulus = 1_000_000_007;
+        BigInteger bigModulus = BigInteger.valueOf(modulus);
+        Benchmark.measure("IntegerMath.modPow, 64 bit exponent", OPERATIONS, () -> {
+                long sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += IntegerMath.modPow(i, Long.MAX_VALUE - i, modulus);
+                }
+                Benchmark.consume(sum);
+            });
+        Benchmark.measure("BigInteger.modPow, 64 bit exponent", OPERATIONS, () -> {
+                long sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += BigInteger.valueOf(i).modPow(BigInteger.valueOf(Long.MAX_VALUE - i), bigModulus).longValue();
+                }
+                Benchmark.consume(sum);
+            });
+
+        int wrong = 0;
+        int total = 0;
+        for (int base = 2; base <= 50; base++) {
+            for (int exponent = 2; exponent <= 200; exponent++) {
+                double exact = BigInteger.valueOf(base).pow(exponent).doubleValue();
+                wrong += Math.pow(base, exponent) == exact ? 0 : 1;
+                total++;
+            }
+        }
+        System.out.printf("%-40s %12d of %d%n", "Math.pow not correctly rounded", wrong, total);
+    }
+}
@@ -0,0 +1,275 @@
+/**
+ * LogHistogram counts a stream of numbers in buckets whose bounds grow
+ * geometrically, so every bucket is the same width relative to the
+ * numbers in it.  With a relative accuracy of 1%, bucket i holds the
+ * numbers from gamma^(i-1) to gamma^i, where gamma = 1.01 / 0.99, and any
+ * quantile is given within 1% of a number that is really at that rank,
+ * however large or small the numbers are.  Negative numbers get buckets
+ * of their own and 0 is counted on its own.  Only the buckets between the
+ * smallest and largest numbers seen are kept: numbers from 1e-9 to 1e9
+ * need about 2100 buckets at 1%.
+ *
+ * Histograms with the same accuracy are merged by adding their counts,
+ * so the numbers can be counted in parts, for example on separate
+ * threads.  A LogHistogram is not synchronized.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+public class LogHistogram {
+
+    /**
+     * The relative accuracy unless another is given
+     */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    /**
+     * The smallest relative accuracy allowed, which keeps bucket indices in an int
+     */
+    public static final double MIN_RELATIVE_ACCURACY = 1e-6;
+
+    // buckets made room for around the first number
+    private static final int INITIAL_BUCKETS = 64;
+
+    /**
+     * Visitor is called with each bucket that is not empty
+     */
+    public interface Visitor {
+        void visit(double lower, double upper, long count);
+    }
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double inverseLogGamma;
+    private final Buckets positive = new Buckets();
+    private final Buckets negative = new Buckets();
+    private long zeroCount;
+    private long count;
+
+    /**
+     * LogHistogram is a constructor for a histogram with
+     * DEFAULT_RELATIVE_ACCURACY
+     */
+    public LogHistogram() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * LogHistogram is a constructor for a LogHistogram object
+     *
+     * @param relativeAccuracy : how far, relative to the number, a quantile
+     *                           may be off, from MIN_RELATIVE_ACCURACY to 1
+     */
+    public LogHistogram(double relativeAccuracy) {
+        if (!(relativeAccuracy >= MIN_RELATIVE_ACCURACY && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Error.  The relative accuracy must be from " + MIN_RELATIVE_ACCURACY + " to 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.inverseLogGamma = 1 / Math.log(gamma);
+    }
+
+    /**
+     * add counts a number; NaN is ignored
+     *
+     * @param x : the number
+     */
+    public void add(double x) {
+        if (x > 0) {
+            positive.increment(index(x), 1);
+        } else if (x < 0) {
+            negative.increment(index(-x), 1);
+        } else if (x == 0) {
+            zeroCount++;
+        } else {
+            return;
+        }
+        count++;
+    }
+
+    /**
+     * merge adds the counts of another histogram
+     *
+     * @param other : a histogram with the same relative accuracy, which is
+     *                not changed
+     * @throws IllegalArgumentException if the accuracies differ
+     */
+    public void merge(LogHistogram other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Error.  Cannot merge histograms of different accuracies");
+        }
+        positive.add(other.positive);
+        negative.add(other.negative);
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * clear forgets every number
+     */
+    public void clear() {
+        positive.clear();
+        negative.clear();
+        zeroCount = 0;
+        count = 0;
+    }
+
+    /**
+     * getCount gives the number of numbers counted
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * getRelativeAccuracy is a getter for relativeAccuracy
+     *
+     * @return how far, relative to the number, a quantile may be off
+     */
+    public double getRelativeAccuracy() {
+        return this.relativeAccuracy;
+    }
+
+    /**
+     * getBucketCount gives the number of buckets kept, each a long
+     *
+     * @return the buckets kept, including empty ones between full ones
+     */
+    public int getBucketCount() {
+        return positive.counts.length + negative.counts.length;
+    }
+
+    /**
+     * quantile estimates the number at a rank
+     *
+     * @param q : the rank, from 0 for the smallest number to 1 for the largest
+     *
+     * @return a number within the relative accuracy of the number at rank
+     *         q, or NaN if nothing has been counted
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Error.  A quantile must be from 0 to 1");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (q * (count - 1));
+        // negative numbers from the most negative, which has the highest index
+        for (int i = negative.counts.length - 1; i >= 0; i--) {
+            rank -= negative.counts[i];
+            if (rank < 0) {
+                return -value(negative.offset + i);
+            }
+        }
+        rank -= zeroCount;
+        if (rank < 0) {
+            return 0;
+        }
+        for (int i = 0; i < positive.counts.length; i++) {
+            rank -= positive.counts[i];
+            if (rank < 0) {
+                return value(positive.offset + i);
+            }
+        }
+        return value(positive.offset + positive.counts.length - 1);
+    }
+
+    /**
+     * forEachBucket visits every bucket that is not empty, from the most
+     * negative numbers to the most positive
+     *
+     * @param visitor : called with each bucket's bounds and count
+     */
+    public void forEachBucket(Visitor visitor) {
+        for (int i = negative.counts.length - 1; i >= 0; i--) {
+            if (negative.counts[i] != 0) {
+                int index = negative.offset + i;
+                visitor.visit(-Math.pow(gamma, index), -Math.pow(gamma, index - 1), negative.counts[i]);
+            }
+        }
+        if (zeroCount != 0) {
+            visitor.visit(0, 0, zeroCount);
+        }
+        for (int i = 0; i < positive.counts.length; i++) {
+            if (positive.counts[i] != 0) {
+                int index = positive.offset + i;
+                visitor.visit(Math.pow(gamma, index - 1), Math.pow(gamma, index), positive.counts[i]);
+            }
+        }
+    }
+
+    /**
+     * index gives the bucket of a positive number, the i for which
+     * gamma^(i-1) < x <= gamma^i
+     */
+    private int index(double x) {
+        // clamped, so infinities and subnormals share the outermost buckets
+        double magnitude = Math.min(Math.max(x, Double.MIN_NORMAL), Double.MAX_VALUE);
+        return (int) Math.ceil(FastMath.log(magnitude) * inverseLogGamma);
+    }
+
+    /**
+     * value gives the number that represents a bucket, which is within the
+     * relative accuracy of every number in it
+     */
+    private double value(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    /**
+     * Buckets holds the counts of a range of bucket indices, growing it
+     * as numbers outside it arrive
+     */
+    private static final class Buckets {
+
+        private long[] counts = new long[0];
+        private int offset;
+
+        void increment(int index, long n) {
+            int i = index - offset;
+            if (i < 0 || i >= counts.length) {
+                grow(index);
+                i = index - offset;
+            }
+            counts[i] += n;
+        }
+
+        void add(Buckets other) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] != 0) {
+                    increment(other.offset + i, other.counts[i]);
+                }
+            }
+        }
+
+        void clear() {
+            counts = new long[0];
+            offset = 0;
+        }
+
+        /**
+         * grow makes room for an index, at least doubling the range so
+         * that growing one bucket at a time stays cheap
+         */
+        private void grow(int index) {
+            if (counts.length == 0) {
+                counts = new long[INITIAL_BUCKETS];
+                offset = index - INITIAL_BUCKETS / 2;
+                return;
+            }
+            int low = Math.min(offset, index);
+            int high = Math.max(offset + counts.length - 1, index);
+            int length = Math.max(high - low + 1, 2 * counts.length);
+            // keep the new room on the side that was outgrown
+            int newOffset = index < offset ? high - length + 1 : low;
+            long[] grown = new long[length];
+            System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+            counts = grown;
+            offset = newOffset;
+        }
+    }
+}
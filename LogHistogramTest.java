@@ -0,0 +1,118 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The test class LogHistogramTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class LogHistogramTest {
+
+    @Test
+    public void AccuracyTest(){
+
+        // Given
+        LogHistogram histogram = new LogHistogram();
+        int n = 100_000;
+
+        // When
+        for (int i = 1; i <= n; i++) {
+            histogram.add(i * 0.001);
+        }
+
+        // Then
+        Assert.assertEquals(n, histogram.getCount());
+        for (double q : new double[] {0, 0.01, 0.5, 0.95, 0.999, 1}) {
+            double exact = (1 + Math.floor(q * (n - 1))) * 0.001;
+            Assert.assertEquals(exact, histogram.quantile(q), exact * 0.0101);
+        }
+    }
+
+    @Test
+    public void NegativeAndZeroTest(){
+
+        // Given
+        LogHistogram histogram = new LogHistogram();
+
+        // When
+        for (double x : new double[] {-100, -1, 0, 0, 1, 100, Double.NaN}) {
+            histogram.add(x);
+        }
+
+        // Then
+        Assert.assertEquals(6, histogram.getCount());
+        Assert.assertEquals(-100, histogram.quantile(0), 1);
+        Assert.assertEquals(-1, histogram.quantile(0.2), 0.0101);
+        Assert.assertEquals(0, histogram.quantile(0.5), 0);
+        Assert.assertEquals(100, histogram.quantile(1), 1);
+    }
+
+    @Test
+    public void BucketTest(){
+
+        // Given
+        LogHistogram histogram = new LogHistogram(0.1);
+        long[] total = new long[1];
+
+        // When
+        for (int i = 1; i <= 1000; i++) {
+            histogram.add(i);
+        }
+        histogram.forEachBucket((lower, upper, n) -> {
+                Assert.assertTrue(lower < upper);
+                total[0] += n;
+            });
+
+        // Then
+        Assert.assertEquals(1000, total[0]);
+        Assert.assertTrue(histogram.getBucketCount() < 200);
+    }
+
+    @Test
+    public void MergeTest(){
+
+        // Given
+        LogHistogram all = new LogHistogram();
+        LogHistogram low = new LogHistogram();
+        LogHistogram high = new LogHistogram();
+
+        // When
+        for (int i = 1; i <= 1000; i++) {
+            low.add(i);
+            high.add(i * 1e6);
+        }
+        all.merge(low);
+        all.merge(high);
+
+        // Then
+        Assert.assertEquals(2000, all.getCount());
+        Assert.assertEquals(1000, all.quantile(0.5), 10);
+        Assert.assertEquals(5e8, all.quantile(0.75), 5e6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void MergeAccuracyTest(){
+
+        // Given
+        LogHistogram histogram = new LogHistogram(0.01);
+
+        // When
+        histogram.merge(new LogHistogram(0.02));
+    }
+
+    @Test
+    public void ClearTest(){
+
+        // Given
+        LogHistogram histogram = new LogHistogram();
+
+        // When
+        histogram.add(5);
+        histogram.clear();
+
+        // Then
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertTrue(Double.isNaN(histogram.quantile(0.5)));
+    }
+}
@@ -1,13 +1,153 @@
 /**
  * MainApplication contains the main method to run the calculator.
- * 
+ *
  * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
  * @version 2/11/2019
  */
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.file.Paths;
+
 public class MainApplication extends Display {
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            runBatch(args.length > 1 ? args[1] : "-");
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--server")) {
+            runServer(args.length > 1 ? Integer.parseInt(args[1]) : CalculatorServer.DEFAULT_PORT);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--binary-server")) {
+            runBinaryServer(args.length > 1 ? Integer.parseInt(args[1]) : BinaryCalculatorServer.DEFAULT_PORT);
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--log")) {
+            runWithHistoryLog(args[1]);
+            return;
+        }
+        if (args.length > 3 && args[0].equals("--csv")) {
+            runCsv(args[1], Integer.parseInt(args[2]), args[3], args.length > 4 ? args[4] : "-");
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--memory")) {
+            runWithMemoryFile(args[1]);
+            return;
+        }
         MainApplication Calculator = new MainApplication();
         Calculator.superCalc();
     }
+
+    /**
+     * runBatch evaluates a script of operations, one per line, and prints
+     * one result per line with no menus or prompts
+     *
+     * @param path : the script file, or "-" to read from standard input
+     */
+    private static void runBatch(String path) {
+        try (Reader reader = path.equals("-") ? new InputStreamReader(System.in) : new FileReader(path)) {
+            BatchCalculator batch = new BatchCalculator(new Display());
+            batch.run(new BufferedReader(reader), new OutputStreamWriter(System.out));
+        } catch (IOException ex) {
+            System.err.println("Error.  Cannot read " + path + ": " + ex.getMessage());
+        }
+    }
+
+    /**
+     * runCsv applies an operation to one column of a CSV file and writes
+     * one result per line
+     *
+     * @param input : the CSV file
+     * @param column : the column, counted from 1
+     * @param operation : an operator such as "sqrt" or "exponent 2", or a formula of x
+     * @param output : the result file, or "-" to write to standard output
+     */
+    private static void runCsv(String input, int column, String operation, String output) {
+        try {
+            CsvColumnCalculator calculator = CsvColumnCalculator.forOperation(new OperatorRegistry(new Display()), operation, column);
+            if (output.equals("-")) {
+                calculator.run(Paths.get(input), Channels.newChannel(System.out));
+                System.out.flush();
+            } else {
+                calculator.run(Paths.get(input), Paths.get(output));
+            }
+        } catch (IOException ex) {
+            System.err.println("Error.  Cannot calculate " + input + ": " + ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Error.  Not a proper operation " + operation + ": " + ex.getMessage());
+        }
+    }
+
+    /**
+     * runServer serves calculations to other processes on this machine
+     * until the program is stopped
+     *
+     * @param port : the loopback port to listen on
+     */
+    private static void runServer(int port) {
+        try (CalculatorServer server = new CalculatorServer(port)) {
+            System.out.println("Calculator server listening on 127.0.0.1:" + server.getPort());
+            server.await();
+        } catch (IOException ex) {
+            System.err.println("Error.  Cannot listen on port " + port + ": " + ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * runBinaryServer serves BinaryProtocol requests to other processes on
+     * this machine until the program is stopped
+     *
+     * @param port : the loopback port to listen on
+     */
+    private static void runBinaryServer(int port) {
+        try (BinaryCalculatorServer server = new BinaryCalculatorServer(port)) {
+            System.out.println("Binary calculator server listening on 127.0.0.1:" + server.getPort());
+            server.await();
+        } catch (IOException ex) {
+            System.err.println("Error.  Cannot listen on port " + port + ": " + ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * runWithMemoryFile runs the interactive calculator with its memory
+     * registers kept in a file, so they are still there next time
+     *
+     * @param path : the register file, created if it does not exist
+     */
+    private static void runWithMemoryFile(String path) {
+        try (MappedMemoryRegisters registers = new MappedMemoryRegisters(Paths.get(path))) {
+            new Display(new TokenReader(System.in), System.out, registers).superCalc();
+        } catch (IOException | IllegalArgumentException ex) {
+            System.err.println("Error.  Cannot use " + path + " for memory: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * runWithHistoryLog runs the interactive calculator, appending every
+     * operation to a binary history log
+     *
+     * @param path : the log file, created if it does not exist
+     */
+    private static void runWithHistoryLog(String path) {
+        try (HistoryLog log = new HistoryLog(Paths.get(path))) {
+            Display display = new Display();
+            HistoryTape history = new HistoryTape();
+            history.setLog(log);
+            display.getSession().setHistory(history);
+            display.superCalc();
+        } catch (IOException ex) {
+            System.err.println("Error.  Cannot write the history log " + path + ": " + ex.getMessage());
+        }
+    }
 }
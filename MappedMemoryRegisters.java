@@ -0,0 +1,243 @@
+/**
+ * MappedMemoryRegisters keeps memory registers in a small memory-mapped
+ * file, so they survive restarts and can be shared by several calculator
+ * processes on the same machine.  Storing a value is a single put into
+ * the mapped buffer; the operating system writes it to the file.
+ *
+ * Values are read and written with volatile access and m+= is an atomic
+ * compare-and-set, so processes and threads sharing the file never see
+ * half-written numbers or lose an addition.  Giving a new name a register
+ * takes a lock on the file, and names defined by other processes are
+ * picked up the next time a name is not found.
+ *
+ * The file holds a 64 byte header followed by MAX_REGISTERS slots of 64
+ * bytes: the value as a double, then the name's length and UTF-8 bytes.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedMemoryRegisters extends MemoryRegisters implements Closeable {
+
+    private static final int MAGIC = 0x43414c43;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 64;
+    private static final int MAX_NAME_BYTES = SLOT_SIZE - 9;
+    private static final long FILE_SIZE = HEADER_SIZE + (long) MAX_REGISTERS * SLOT_SIZE;
+
+    // header fields
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int NUMBERED_OFFSET = 8;
+    private static final int NAMED_COUNT_OFFSET = 12;
+
+    private static final VarHandle DOUBLES = MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.nativeOrder());
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    /**
+     * MappedMemoryRegisters is a constructor for registers M0 to M9 kept
+     * in a file, which is created if it does not exist
+     *
+     * @param path : the register file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public MappedMemoryRegisters(Path path) throws IOException {
+        this(path, DEFAULT_SIZE);
+    }
+
+    /**
+     * MappedMemoryRegisters is a constructor for a MappedMemoryRegisters
+     * object
+     *
+     * @param path : the register file, which is created if it does not exist
+     * @param numbered : how many numbered registers, M0 to M(numbered - 1)
+     * @throws IOException if the file cannot be opened or mapped
+     * @throws IllegalArgumentException if the file is not a register file
+     *         or was made with a different number of numbered registers
+     */
+    public MappedMemoryRegisters(Path path, int numbered) throws IOException {
+        super(numbered);
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.lock(0, HEADER_SIZE, false);
+            try {
+                boolean created = channel.size() == 0;
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+                if (created) {
+                    INTS.setVolatile(buffer, NUMBERED_OFFSET, numbered);
+                    INTS.setVolatile(buffer, VERSION_OFFSET, VERSION);
+                    INTS.setVolatile(buffer, MAGIC_OFFSET, MAGIC);
+                } else if ((int) INTS.getVolatile(buffer, MAGIC_OFFSET) != MAGIC
+                           || (int) INTS.getVolatile(buffer, VERSION_OFFSET) != VERSION) {
+                    throw new IllegalArgumentException("Error.  " + path + " is not a register file");
+                } else if ((int) INTS.getVolatile(buffer, NUMBERED_OFFSET) != numbered) {
+                    throw new IllegalArgumentException("Error.  " + path + " has " + INTS.getVolatile(buffer, NUMBERED_OFFSET)
+                                                       + " numbered registers, not " + numbered);
+                }
+                loadNames();
+            } finally {
+                lock.release();
+            }
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * getPath is a getter for path
+     *
+     * @return the register file
+     */
+    public Path getPath() {
+        return this.path;
+    }
+
+    @Override
+    public synchronized int index(String name) {
+        int index = super.index(name);
+        if (index < 0 && loadNames()) {
+            index = super.index(name);
+        }
+        return index;
+    }
+
+    @Override
+    public synchronized int define(String name) {
+        int index = index(name);
+        if (index >= 0) {
+            return index;
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Error.  Register name " + name + " is too long");
+        }
+        try {
+            FileLock lock = channel.lock(0, HEADER_SIZE, false);
+            try {
+                // another process may have defined it since we looked
+                loadNames();
+                index = super.index(name);
+                if (index >= 0) {
+                    return index;
+                }
+                index = super.define(name);
+                int slot = HEADER_SIZE + index * SLOT_SIZE;
+                LONGS.setVolatile(buffer, slot, 0L);
+                buffer.put(slot + 8, (byte) bytes.length);
+                buffer.put(slot + 9, bytes);
+                INTS.setVolatile(buffer, NAMED_COUNT_OFFSET, index - getNumberedCount() + 1);
+                return index;
+            } finally {
+                lock.release();
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Error.  Cannot lock " + path + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public double recall(int index) {
+        checkIndex(index);
+        return (double) DOUBLES.getVolatile(buffer, HEADER_SIZE + index * SLOT_SIZE);
+    }
+
+    @Override
+    public void store(int index, double value) {
+        checkIndex(index);
+        DOUBLES.setVolatile(buffer, HEADER_SIZE + index * SLOT_SIZE, value);
+    }
+
+    @Override
+    public double accumulate(int index, double value) {
+        checkIndex(index);
+        int offset = HEADER_SIZE + index * SLOT_SIZE;
+        while (true) {
+            long bits = (long) LONGS.getVolatile(buffer, offset);
+            double sum = Double.longBitsToDouble(bits) + value;
+            if (LONGS.compareAndSet(buffer, offset, bits, Double.doubleToRawLongBits(sum))) {
+                return sum;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        try {
+            FileLock lock = channel.lock(0, HEADER_SIZE, false);
+            try {
+                loadNames();
+                super.clear();
+                INTS.setVolatile(buffer, NAMED_COUNT_OFFSET, 0);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Error.  Cannot lock " + path + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * force writes any changed registers to the disk now instead of
+     * whenever the operating system chooses
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * close closes the register file.  The registers must not be used
+     * afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        // every slot is already in the mapped file
+    }
+
+    /**
+     * loadNames picks up names that were defined in the file, by this or
+     * another process, since they were last loaded
+     *
+     * @return true if any new names were found
+     */
+    private boolean loadNames() {
+        int count = (int) INTS.getVolatile(buffer, NAMED_COUNT_OFFSET);
+        int known = super.size() - getNumberedCount();
+        if (count < known) {
+            // the file was cleared by another process
+            forgetNames();
+            known = 0;
+        }
+        for (int i = known; i < count; i++) {
+            int slot = HEADER_SIZE + (getNumberedCount() + i) * SLOT_SIZE;
+            byte[] bytes = new byte[buffer.get(slot + 8)];
+            buffer.get(slot + 9, bytes);
+            super.define(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return count > known;
+    }
+}
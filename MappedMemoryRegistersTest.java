@@ -0,0 +1,133 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The test class MappedMemoryRegistersTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class MappedMemoryRegistersTest {
+
+    @Test
+    public void PersistTest() throws Exception{
+
+        // Given
+        Path path = Files.createTempFile("registers", ".mem");
+        Files.delete(path);
+
+        // When
+        try (MappedMemoryRegisters registers = new MappedMemoryRegisters(path)) {
+            registers.store(0, 42);
+            registers.store(registers.define("total"), 7.5);
+            registers.accumulate(registers.index("total"), 1);
+        }
+        double memory;
+        double total;
+        try (MappedMemoryRegisters registers = new MappedMemoryRegisters(path)) {
+            memory = registers.recall(0);
+            total = registers.recall(registers.index("total"));
+        }
+        Files.delete(path);
+
+        // Then
+        Assert.assertEquals(42, memory, 0);
+        Assert.assertEquals(8.5, total, 0);
+    }
+
+    @Test
+    public void SharedTest() throws Exception{
+
+        // Given
+        Path path = Files.createTempFile("registers", ".mem");
+        Files.delete(path);
+
+        try (MappedMemoryRegisters first = new MappedMemoryRegisters(path);
+             MappedMemoryRegisters second = new MappedMemoryRegisters(path)) {
+
+            // When
+            first.store(first.define("rate"), 0.25);
+            int index = second.index("rate");
+            Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                MappedMemoryRegisters registers = t % 2 == 0 ? first : second;
+                threads[t] = new Thread(() -> {
+                        for (int i = 0; i < 10000; i++) {
+                            registers.accumulate(1, 1);
+                        }
+                    });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Then
+            Assert.assertEquals(first.index("rate"), index);
+            Assert.assertEquals(0.25, second.recall(index), 0);
+            Assert.assertEquals(40000, first.recall(1), 0);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void WrongSizeTest() throws Exception{
+        Path path = Files.createTempFile("registers", ".mem");
+        Files.delete(path);
+        try {
+            new MappedMemoryRegisters(path, 10).close();
+            new MappedMemoryRegisters(path, 20).close();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void SessionMemoryTest() throws Exception{
+
+        // Given
+        Path path = Files.createTempFile("registers", ".mem");
+        Files.delete(path);
+
+        // When
+        try (MappedMemoryRegisters registers = new MappedMemoryRegisters(path)) {
+            CalculatorSession session = new CalculatorSession(new Calculator(), registers);
+            session.changeDisplay(3);
+            session.saveDisplayToMemory();
+        }
+        String memory;
+        try (MappedMemoryRegisters registers = new MappedMemoryRegisters(path)) {
+            memory = new CalculatorSession(new Calculator(), registers).getMemoryValue();
+        }
+        Files.delete(path);
+
+        // Then
+        Assert.assertEquals("3.0", memory);
+    }
+
+    @Test
+    public void SessionTypedMemoryTest() throws Exception{
+
+        // Given
+        Path path = Files.createTempFile("registers", ".mem");
+        Files.delete(path);
+
+        // When
+        try (MappedMemoryRegisters registers = new MappedMemoryRegisters(path)) {
+            CalculatorSession session = new CalculatorSession(new Calculator(), registers);
+            session.changeDisplay("5");
+            session.saveDisplayToMemory();
+        }
+        double memory;
+        try (MappedMemoryRegisters registers = new MappedMemoryRegisters(path)) {
+            memory = registers.recall(0);
+        }
+        Files.delete(path);
+
+        // Then
+        Assert.assertEquals(5, memory, 0);
+    }
+}
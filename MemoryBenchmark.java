@@ -0,0 +1,58 @@
+/**
+ * MemoryBenchmark times storing, recalling and adding to memory registers
+ * kept in a double[] and in a memory-mapped file.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class MemoryBenchmark {
+
+    private static final int OPERATIONS = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        benchmark("array", new MemoryRegisters());
+
+        Path path = Files.createTempFile("registers", ".mem");
+        Files.delete(path);
+        try (MappedMemoryRegisters registers = new MappedMemoryRegisters(path)) {
+            benchmark("mapped", registers);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+
+        CalculatorSession session = new CalculatorSession();
+        Benchmark.measure("session m+ then mrc", OPERATIONS, () -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    session.changeDisplay(i);
+                    session.saveDisplayToMemory();
+                    Benchmark.consume(session.recallMemory());
+                }
+            });
+    }
+
+    private static void benchmark(String kind, MemoryRegisters registers) {
+        int registerCount = registers.getNumberedCount();
+        Benchmark.measure(kind + " store", OPERATIONS, () -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    registers.store(i % registerCount, i);
+                }
+            });
+        Benchmark.measure(kind + " recall", OPERATIONS, () -> {
+                double sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += registers.recall(i % registerCount);
+                }
+                Benchmark.consume(sum);
+            });
+        Benchmark.measure(kind + " m+=", OPERATIONS, () -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    registers.accumulate(i % registerCount, 1);
+                }
+            });
+    }
+}
@@ -0,0 +1,254 @@
+/**
+ * MemoryRegisters is a bank of numbered and named memory registers.  The
+ * numbered registers are called M0, M1 and so on; M0 is the calculator's
+ * classic memory used by m+ and mrc.  Other names, such as "total", get
+ * a register of their own the first time something is stored in them.
+ * Values are kept in a double[], so storing and recalling by index never
+ * boxes or converts a number to text.
+ *
+ * A MemoryRegisters object is not synchronized.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MemoryRegisters {
+
+    /**
+     * The number of numbered registers, M0 to M9, unless another is given
+     */
+    public static final int DEFAULT_SIZE = 10;
+
+    /**
+     * The most registers a bank may hold, numbered and named together
+     */
+    public static final int MAX_REGISTERS = 4096;
+
+    private final int numbered;
+    private double[] values;
+    private final Map<String, Integer> names = new HashMap<>();
+    private final List<String> namesInOrder = new ArrayList<>();
+
+    /**
+     * MemoryRegisters is a constructor for a bank of M0 to M9
+     */
+    public MemoryRegisters() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * MemoryRegisters is a constructor for a MemoryRegisters object
+     *
+     * @param numbered : how many numbered registers, M0 to M(numbered - 1)
+     */
+    public MemoryRegisters(int numbered) {
+        if (numbered < 1 || numbered > MAX_REGISTERS) {
+            throw new IllegalArgumentException("Error.  A bank needs 1 to " + MAX_REGISTERS + " registers");
+        }
+        this.numbered = numbered;
+        this.values = new double[numbered];
+    }
+
+    /**
+     * size gives the number of registers, numbered and named
+     *
+     * @return the number of registers
+     */
+    public int size() {
+        return numbered + namesInOrder.size();
+    }
+
+    /**
+     * getNumberedCount gives the number of numbered registers
+     *
+     * @return n, for registers M0 to M(n - 1)
+     */
+    public int getNumberedCount() {
+        return numbered;
+    }
+
+    /**
+     * index finds the register for a name
+     *
+     * @param name : "M" or "m" and a number, like "M3", or a register name
+     *
+     * @return the register's index, or -1 if there is no such register
+     */
+    public int index(String name) {
+        return find(name);
+    }
+
+    private int find(String name) {
+        int number = parseNumbered(name);
+        if (number >= 0) {
+            return number < numbered ? number : -1;
+        }
+        Integer index = names.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * define finds the register for a name, giving a new name a register
+     * of its own
+     *
+     * @param name : "M" or "m" and a number, like "M3", or a register name
+     *
+     * @return the register's index
+     * @throws IllegalArgumentException if the name is not a valid register
+     *         name or the bank is full
+     */
+    public int define(String name) {
+        int index = find(name);
+        if (index >= 0) {
+            return index;
+        }
+        if (parseNumbered(name) >= 0) {
+            throw new IllegalArgumentException("Error.  There is no register " + name + ", only M0 to M" + (numbered - 1));
+        }
+        if (!isName(name)) {
+            throw new IllegalArgumentException("Error.  " + name + " is not a register name");
+        }
+        index = size();
+        if (index == MAX_REGISTERS) {
+            throw new IllegalArgumentException("Error.  No room for register " + name);
+        }
+        if (index == values.length) {
+            grow(Math.min(MAX_REGISTERS, 2 * values.length));
+        }
+        names.put(name, index);
+        namesInOrder.add(name);
+        return index;
+    }
+
+    /**
+     * getName gives the name of a register
+     *
+     * @param index : the register's index
+     *
+     * @return "M" and its number for numbered registers, otherwise its name
+     */
+    public String getName(int index) {
+        checkIndex(index);
+        return index < numbered ? "M" + index : namesInOrder.get(index - numbered);
+    }
+
+    /**
+     * recall gives the value of a register
+     *
+     * @param index : the register's index
+     *
+     * @return the register's value
+     */
+    public double recall(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * store sets the value of a register
+     *
+     * @param index : the register's index
+     * @param value : the new value
+     */
+    public void store(int index, double value) {
+        checkIndex(index);
+        values[index] = value;
+    }
+
+    /**
+     * accumulate adds to a register, like m+= on a pocket calculator
+     *
+     * @param index : the register's index
+     * @param value : the amount to add
+     *
+     * @return the register's new value
+     */
+    public double accumulate(int index, double value) {
+        checkIndex(index);
+        return values[index] += value;
+    }
+
+    /**
+     * clear sets every register back to zero and forgets the named ones
+     */
+    public void clear() {
+        for (int i = 0; i < size(); i++) {
+            store(i, 0);
+        }
+        forgetNames();
+    }
+
+    /**
+     * forgetNames removes the named registers without changing any values
+     */
+    protected void forgetNames() {
+        names.clear();
+        namesInOrder.clear();
+    }
+
+    /**
+     * grow makes room for more registers, keeping their values
+     *
+     * @param capacity : the number of registers to make room for
+     */
+    protected void grow(int capacity) {
+        double[] bigger = new double[capacity];
+        System.arraycopy(values, 0, bigger, 0, values.length);
+        values = bigger;
+    }
+
+    /**
+     * checkIndex makes sure a register exists
+     *
+     * @param index : the register's index
+     * @throws IndexOutOfBoundsException if there is no such register
+     */
+    protected void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Error.  There is no register " + index);
+        }
+    }
+
+    /**
+     * parseNumbered reads the number of a name like "M3"
+     *
+     * @return the number, or -1 if the name is not M followed by digits
+     */
+    private static int parseNumbered(String name) {
+        int length = name.length();
+        if (length < 2 || length > 5 || (name.charAt(0) != 'M' && name.charAt(0) != 'm')) {
+            return -1;
+        }
+        int number = 0;
+        for (int i = 1; i < length; i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = 10 * number + (c - '0');
+        }
+        return number;
+    }
+
+    /**
+     * isName checks that a register name is a letter followed by letters,
+     * digits or underscores
+     */
+    private static boolean isName(String name) {
+        if (name.isEmpty() || name.length() > 32 || !Character.isLetter(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
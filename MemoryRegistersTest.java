@@ -0,0 +1,107 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The test class MemoryRegistersTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class MemoryRegistersTest {
+
+    @Test
+    public void StoreRecallTest(){
+
+        // Given
+        MemoryRegisters registers = new MemoryRegisters();
+
+        // When
+        registers.store(3, 2.5);
+        double total = registers.accumulate(3, 4);
+
+        // Then
+        Assert.assertEquals(6.5, total, 0);
+        Assert.assertEquals(6.5, registers.recall(registers.index("M3")), 0);
+        Assert.assertEquals(3, registers.index("m3"));
+        Assert.assertEquals(-1, registers.index("M10"));
+    }
+
+    @Test
+    public void NamedRegisterTest(){
+
+        // Given
+        MemoryRegisters registers = new MemoryRegisters(2);
+
+        // When
+        int total = registers.define("total");
+        int rate = registers.define("rate");
+        int again = registers.define("total");
+        registers.store(rate, 0.07);
+
+        // Then
+        Assert.assertEquals(2, total);
+        Assert.assertEquals(3, rate);
+        Assert.assertEquals(total, again);
+        Assert.assertEquals(4, registers.size());
+        Assert.assertEquals("rate", registers.getName(rate));
+        Assert.assertEquals("M1", registers.getName(1));
+        Assert.assertEquals(0.07, registers.recall(rate), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void BadNameTest(){
+        new MemoryRegisters().define("2x");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void MissingRegisterTest(){
+        new MemoryRegisters().recall(10);
+    }
+
+    @Test
+    public void SessionRegistersTest(){
+
+        // Given
+        CalculatorSession session = new CalculatorSession();
+
+        // When
+        session.changeDisplay(12);
+        session.storeRegister("M0");
+        String memory = session.getMemoryValue();
+        session.changeDisplay(5);
+        session.storeRegister("subtotal");
+        session.accumulateRegister("subtotal");
+        session.accumulateRegister("M0");
+        String accumulated = session.getMemoryValue();
+        session.recallRegister("subtotal");
+
+        // Then
+        Assert.assertEquals("12.0", memory);
+        Assert.assertEquals("17.0", accumulated);
+        Assert.assertEquals(10, session.getCurrentValue(), 0);
+        Assert.assertEquals(17, session.getRegisters().recall(0), 0);
+    }
+
+    @Test
+    public void InterpreterRegistersTest(){
+
+        // Given
+        Calculator calculator = new Calculator();
+        OperatorRegistry registry = new OperatorRegistry(calculator);
+        SessionInterpreter interpreter = new SessionInterpreter(registry, new ExpressionCache(registry, 4), new CalculatorSession(calculator));
+
+        // When
+        interpreter.evaluate("4");
+        interpreter.evaluate("sto M2");
+        interpreter.evaluate("+ 1");
+        String total = interpreter.evaluate("m+= M2");
+        interpreter.evaluate("c");
+        String recalled = interpreter.evaluate("rcl M2");
+        String missing = interpreter.evaluate("rcl nothing");
+
+        // Then
+        Assert.assertEquals("9.0", total);
+        Assert.assertEquals("9.0", recalled);
+        Assert.assertEquals("Error.  There is no register nothing", missing);
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Operator is a single calculator operation such as "+" or "sqrt".  It
+ * knows how many operands it takes, which math method to call and how
+ * to print its result.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+public class Operator {
+
+    private final String name;
+    private final int arity;
+    private final String template;
+    private final ResultTemplate compiledTemplate;
+    private final DoubleUnaryOperator unaryFunction;
+    private final DoubleBinaryOperator binaryFunction;
+
+    /**
+     * Operator is a constructor for an Operator taking one operand
+     *
+     * @param name : the operator's name
+     * @param template : format for the result line, where %1$s is the typed
+     *                   operator, %2$s the operand and %4$s the result
+     * @param function : the math method to call
+     */
+    public Operator(String name, String template, DoubleUnaryOperator function) {
+        this.name = name;
+        this.arity = 1;
+        this.template = template;
+        this.compiledTemplate = new ResultTemplate(template);
+        this.unaryFunction = function;
+        this.binaryFunction = null;
+    }
+
+    /**
+     * Operator is a constructor for an Operator taking two operands
+     *
+     * @param name : the operator's name
+     * @param template : format for the result line, where %1$s is the typed
+     *                   operator, %2$s and %3$s the operands and %4$s the result
+     * @param function : the math method to call
+     */
+    public Operator(String name, String template, DoubleBinaryOperator function) {
+        this.name = name;
+        this.arity = 2;
+        this.template = template;
+        this.compiledTemplate = new ResultTemplate(template);
+        this.unaryFunction = null;
+        this.binaryFunction = function;
+    }
+
+    /**
+     * getName is a getter for name
+     *
+     * @return the operator's name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * getArity is a getter for arity
+     *
+     * @return the number of operands, 1 or 2
+     */
+    public int getArity() {
+        return this.arity;
+    }
+
+    /**
+     * getTemplate is a getter for template
+     *
+     * @return the format used to print a result
+     */
+    public String getTemplate() {
+        return this.template;
+    }
+
+    /**
+     * apply calculates the operator's result
+     *
+     * @param x : the first operand
+     * @param y : the second operand, ignored by operators taking one operand
+     *
+     * @return the result
+     */
+    public double apply(double x, double y) {
+        if (arity == 1) {
+            return unaryFunction.applyAsDouble(x);
+        }
+        return binaryFunction.applyAsDouble(x, y);
+    }
+
+    /**
+     * check tests whether the operands are allowed before apply is called
+     *
+     * @param x : the first operand
+     * @param y : the second operand
+     *
+     * @return an error message, or null if the operands are fine
+     */
+    public String check(double x, double y) {
+        return null;
+    }
+
+    /**
+     * format builds the result line for this operator
+     *
+     * @param token : the text the user typed for this operator
+     * @param x : the first operand
+     * @param y : the second operand
+     * @param result : the result of apply
+     *
+     * @return the formatted result line
+     */
+    public String format(String token, double x, double y, double result) {
+        return compiledTemplate.appendTo(new StringBuilder(), token, x, y, result).toString();
+    }
+
+    /**
+     * appendResult adds the result line for this operator to a StringBuilder
+     *
+     * @param line : where the text is appended
+     * @param token : the text the user typed for this operator
+     * @param x : the first operand
+     * @param y : the second operand
+     * @param result : the result of apply
+     *
+     * @return line, for chaining
+     */
+    public StringBuilder appendResult(StringBuilder line, String token, double x, double y, double result) {
+        return compiledTemplate.appendTo(line, token, x, y, result);
+    }
+}
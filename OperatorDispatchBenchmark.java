@@ -0,0 +1,97 @@
+/**
+ * OperatorDispatchBenchmark compares the cost of finding and applying an
+ * operator through the string switch superCalc used to have against a
+ * lookup in the OperatorRegistry.
+ *
+ * Run with: java OperatorDispatchBenchmark
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class OperatorDispatchBenchmark {
+
+    private static final int OPERATIONS = 1_000_000;
+
+    private static final String[] TOKENS = {
+        "+", "add", "sum", "plus", "-", "minus", "*", "times", "/", "divide",
+        "%", "mod", "^", "^2", "sin", "cos", "tan", "sinh", "cosh", "tanh",
+        "asin", "acos", "atan", "theta", "sqrt", "root", "cbrt", "inverse",
+        "invertsign", "!", "gcd", "lcm"
+    };
+
+    public static void main(String[] args) {
+        Display display = new Display();
+        OperatorRegistry registry = new OperatorRegistry(display);
+        String[] tokens = new String[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            // copy the tokens so lookups hash fresh strings like user input does
+            tokens[i] = new String(TOKENS[i % TOKENS.length]);
+        }
+
+        Benchmark.measure("legacy string switch", OPERATIONS, () -> {
+                double sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += legacySwitch(display, tokens[i], 6, 4);
+                }
+                Benchmark.consume(sum);
+            });
+
+        Benchmark.measure("operator registry", OPERATIONS, () -> {
+                double sum = 0;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sum += registry.lookup(tokens[i]).apply(6, 4);
+                }
+                Benchmark.consume(sum);
+            });
+    }
+
+    /**
+     * legacySwitch is the math part of the switch superCalc used before
+     * the operator registry, kept as the baseline for this benchmark
+     */
+    private static double legacySwitch(Display display, String s, double x, double y) {
+        switch(s){
+            case "+" :
+            case "add" :
+            case "sum" :
+            case "plus": return display.add(x, y);
+            case "-":
+            case "subtract":
+            case "minus": return display.subtract(x, y);
+            case "/":
+            case "divide":
+            case "divided by": return display.divide(x, y);
+            case "*" :
+            case "times":
+            case "multiply": return display.multiply(x, y);
+            case "%" :
+            case "mod":
+            case "remainder": return display.modulus(x, y);
+            case "^x" :
+            case "^" : return display.exponent(x, y);
+            case "^2" : return display.exponent(x, 2);
+            case "sin": return display.sin(x);
+            case "asin": return display.asin(x);
+            case "sinh": return display.sinh(x);
+            case "cos": return display.cos(x);
+            case "acos": return display.acos(x);
+            case "cosh": return display.cosh(x);
+            case "tan": return display.tan(x);
+            case "atan": return display.atan(x);
+            case "tanh": return display.tanh(x);
+            case "theta": return display.theta(y, x);
+            case "sqrt":
+            case "root":
+            case "square root": return display.squareRoot(x);
+            case "cbrt": return display.cubicRoot(x);
+            case "inverse" :
+            case "1/x" : return display.inverse(x);
+            case "invertsign" : return display.invertSign(x);
+            case "factorial" :
+            case "!" : return display.factorial(x);
+            case "gcd": return display.gcd(x, y);
+            case "lcm": return display.lcm(x, y);
+            default : return 0;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * OperatorRegistry maps every operator name and alias the calculator
+ * understands to its Operator.  It is built once and can be shared by
+ * the interactive calculator, batch mode and any other front-end.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class OperatorRegistry {
+
+    private final Map<String, Operator> operators = new HashMap<>();
+    private final Map<Operator, Operator> inDegrees = new HashMap<>();
+    private final Map<Operator, Operator> approximations = new HashMap<>();
+
+    /**
+     * OperatorRegistry is a constructor for an empty OperatorRegistry
+     */
+    public OperatorRegistry() {
+    }
+
+    /**
+     * OperatorRegistry is a constructor for an OperatorRegistry holding
+     * all of the calculator's standard operators
+     *
+     * @param calculator : the Calculator whose math methods the operators call
+     */
+    public OperatorRegistry(Calculator calculator) {
+        register(new Operator("add", "%2$s + %3$s = %4$s", calculator::add), "+", "sum", "plus");
+        register(new Operator("subtract", "%2$s - %3$s = %4$s", calculator::subtract), "-", "minus");
+        register(new Operator("multiply", "%2$s * %3$s = %4$s", calculator::multiply), "*", "times");
+        register(new Operator("divide", "%2$s / %3$s = %4$s", calculator::divide) {
+                @Override
+                public String check(double x, double y) {
+                    return y == 0 ? "Error.  Cannot divide by 0." : null;
+                }
+            }, "/", "divided by");
+        register(new Operator("mod", "%2$s %% %3$s = %4$s", calculator::modulus), "%", "remainder");
+        register(new Operator("exponent", "%2$s ^ %3$s = %4$s", calculator::exponent), "^", "^x");
+        register(new Operator("^2", "%2$s ^2 = %4$s", x -> calculator.square(x)));
+        register(new Operator("sin", "%1$s %2$s = %4$s", x -> calculator.sin(x)));
+        register(new Operator("asin", "%1$s %2$s = %4$s", x -> calculator.asin(x)));
+        register(new Operator("sinh", "%1$s %2$s = %4$s", x -> calculator.sinh(x)));
+        register(new Operator("cos", "%1$s %2$s = %4$s", x -> calculator.cos(x)));
+        register(new Operator("acos", "%1$s %2$s = %4$s", x -> calculator.acos(x)));
+        register(new Operator("cosh", "%1$s %2$s = %4$s", x -> calculator.cosh(x)));
+        register(new Operator("tan", "%1$s %2$s = %4$s", x -> calculator.tan(x)));
+        register(new Operator("atan", "%1$s %2$s = %4$s", x -> calculator.atan(x)));
+        register(new Operator("tanh", "%1$s %2$s = %4$s", x -> calculator.tanh(x)));
+        registerInDegrees("sin", new Operator("sind", "%1$s %2$s = %4$s", x -> calculator.sinDegrees(x)));
+        registerInDegrees("asin", new Operator("asind", "%1$s %2$s = %4$s", x -> calculator.asinDegrees(x)));
+        registerInDegrees("cos", new Operator("cosd", "%1$s %2$s = %4$s", x -> calculator.cosDegrees(x)));
+        registerInDegrees("acos", new Operator("acosd", "%1$s %2$s = %4$s", x -> calculator.acosDegrees(x)));
+        registerInDegrees("tan", new Operator("tand", "%1$s %2$s = %4$s", x -> calculator.tanDegrees(x)));
+        registerInDegrees("atan", new Operator("atand", "%1$s %2$s = %4$s", x -> calculator.atanDegrees(x)));
+        // the current value is the y coordinate and the operand is x
+        register(new Operator("theta", "%2$s theta %3$s = %4$s", (x, y) -> calculator.theta(y, x)));
+        register(new Operator("sqrt", "%1$s %2$s = %4$s", x -> calculator.squareRoot(x)), "root", "square root");
+        register(new Operator("cbrt", "%1$s %2$s = %4$s", x -> calculator.cubicRoot(x)));
+        register(new Operator("inverse", "1 / %2$s = %4$s", x -> calculator.inverse(x)), "1/x");
+        register(new Operator("invertsign", "%1$s %2$s = %4$s", x -> calculator.invertSign(x)));
+        register(new Operator("factorial", "%2$s! = %4$s", x -> calculator.factorial(x)), "!");
+        register(new Operator("gcd", "gcd(%2$s, %3$s) = %4$s", (x, y) -> calculator.gcd(x, y)));
+        register(new Operator("lcm", "lcm(%2$s, %3$s) = %4$s", (x, y) -> calculator.lcm(x, y)));
+        // the fast math mode's versions, which keep the same names
+        registerApproximation(new Operator("exponent", "%2$s ^ %3$s = %4$s", FastMath::pow));
+        registerApproximation(new Operator("sin", "%1$s %2$s = %4$s", FastMath::sin));
+        registerApproximation(new Operator("sinh", "%1$s %2$s = %4$s", FastMath::sinh));
+        registerApproximation(new Operator("cos", "%1$s %2$s = %4$s", FastMath::cos));
+        registerApproximation(new Operator("cosh", "%1$s %2$s = %4$s", FastMath::cosh));
+        registerApproximation(new Operator("tan", "%1$s %2$s = %4$s", FastMath::tan));
+        registerApproximation(new Operator("tanh", "%1$s %2$s = %4$s", FastMath::tanh));
+        registerApproximation(new Operator("sind", "%1$s %2$s = %4$s", x -> FastMath.sin(Math.toRadians(x))));
+        registerApproximation(new Operator("cosd", "%1$s %2$s = %4$s", x -> FastMath.cos(Math.toRadians(x))));
+        registerApproximation(new Operator("tand", "%1$s %2$s = %4$s", x -> FastMath.tan(Math.toRadians(x))));
+        registerApproximation(new Operator("cbrt", "%1$s %2$s = %4$s", FastMath::cbrt));
+    }
+
+    /**
+     * register adds an operator under its name and any aliases, replacing
+     * whatever was registered under those names before
+     *
+     * @param operator : the operator to add
+     * @param aliases : other names the operator can be typed as
+     */
+    public void register(Operator operator, String... aliases) {
+        operators.put(operator.getName(), operator);
+        for (String alias : aliases) {
+            operators.put(alias, operator);
+        }
+    }
+
+    /**
+     * registerInDegrees adds an operator that works in degrees, used in
+     * place of a radian operator when the units mode is degrees
+     *
+     * @param radianName : the name of the operator that works in radians
+     * @param operator : the operator that works in degrees
+     * @param aliases : other names for the degree operator
+     */
+    public void registerInDegrees(String radianName, Operator operator, String... aliases) {
+        register(operator, aliases);
+        inDegrees.put(lookup(radianName), operator);
+    }
+
+    /**
+     * registerApproximation adds a faster, less accurate version of the
+     * operator with the same name, used in its place when the math mode
+     * is fast
+     *
+     * @param operator : the approximate operator
+     */
+    public void registerApproximation(Operator operator) {
+        approximations.put(lookup(operator.getName()), operator);
+    }
+
+    /**
+     * lookup finds the operator for a name or alias in a units mode and a
+     * math mode, so that "sin" means the approximate sine in degrees when
+     * the modes are "degrees" and "fast"
+     *
+     * @param name : the lower case operator name
+     * @param unitsMode : "degrees" or "radians"
+     * @param mathMode : "precise" or "fast"
+     *
+     * @return the operator, or null if no operator has that name
+     */
+    public Operator lookup(String name, String unitsMode, String mathMode) {
+        Operator operator = lookup(name, unitsMode);
+        if (operator != null && "fast".equals(mathMode)) {
+            Operator approximation = approximations.get(operator);
+            if (approximation != null) {
+                return approximation;
+            }
+        }
+        return operator;
+    }
+
+    /**
+     * lookup finds the operator for a name or alias in a units mode, so
+     * that "sin" means the sine in degrees when the mode is "degrees"
+     *
+     * @param name : the lower case operator name
+     * @param unitsMode : "degrees" or "radians"
+     *
+     * @return the operator, or null if no operator has that name
+     */
+    public Operator lookup(String name, String unitsMode) {
+        Operator operator = operators.get(name);
+        if (operator != null && "degrees".equals(unitsMode)) {
+            Operator degrees = inDegrees.get(operator);
+            if (degrees != null) {
+                return degrees;
+            }
+        }
+        return operator;
+    }
+
+    /**
+     * lookup finds the operator for a name or alias
+     *
+     * @param name : the lower case operator name
+     *
+     * @return the operator, or null if no operator has that name
+     */
+    public Operator lookup(String name) {
+        return operators.get(name);
+    }
+}
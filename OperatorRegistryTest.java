@@ -0,0 +1,93 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The test class OperatorRegistryTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class OperatorRegistryTest {
+
+    @Test
+    public void AliasLookupTest(){
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+
+        // When
+        Operator plus = registry.lookup("+");
+        Operator sum = registry.lookup("sum");
+        Operator unknown = registry.lookup("frobnicate");
+
+        // Then
+        Assert.assertSame(plus, sum);
+        Assert.assertEquals("add", plus.getName());
+        Assert.assertEquals(2, plus.getArity());
+        Assert.assertNull(unknown);
+    }
+
+    @Test
+    public void ApplyTest(){
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+
+        // When
+        double sum = registry.lookup("add").apply(3, 4);
+        double root = registry.lookup("sqrt").apply(16, 0);
+        double theta = registry.lookup("theta").apply(1, 0);
+
+        // Then
+        Assert.assertEquals(7, sum, .001);
+        Assert.assertEquals(4, root, .001);
+        Assert.assertEquals(Math.atan2(1, 0), theta, .001);
+    }
+
+    @Test
+    public void FormatTest(){
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+
+        // When
+        String sum = registry.lookup("+").format("+", 3, 4, 7);
+        String sine = registry.lookup("sin").format("sin", 0, 0, 0);
+        String mod = registry.lookup("%").format("%", 7, 4, 3);
+
+        // Then
+        Assert.assertEquals("3.0 + 4.0 = 7.0", sum);
+        Assert.assertEquals("sin 0.0 = 0.0", sine);
+        Assert.assertEquals("7.0 % 4.0 = 3.0", mod);
+    }
+
+    @Test
+    public void DivideByZeroCheckTest(){
+
+        // Given
+        Operator divide = new OperatorRegistry(new Display()).lookup("/");
+
+        // When
+        String error = divide.check(1, 0);
+        String noError = divide.check(1, 2);
+
+        // Then
+        Assert.assertEquals("Error.  Cannot divide by 0.", error);
+        Assert.assertNull(noError);
+    }
+
+    @Test
+    public void RegisterTest(){
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry();
+        Operator hypot = new Operator("hypot", "hypot(%2$s, %3$s) = %4$s", Math::hypot);
+
+        // When
+        registry.register(hypot, "h");
+
+        // Then
+        Assert.assertSame(hypot, registry.lookup("h"));
+        Assert.assertEquals(5, registry.lookup("hypot").apply(3, 4), .001);
+    }
+}
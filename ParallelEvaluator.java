@@ -0,0 +1,293 @@
+/**
+ * ParallelEvaluator applies one operator or compiled formula to every
+ * value of a large data set, using all of the cores.  The values are
+ * split in half again and again into fork/join tasks until a piece is no
+ * longer than the split threshold, and each piece is then calculated in
+ * a plain loop, writing the results back in place.  The values can be a
+ * double[] or a file of doubles, which is memory-mapped a chunk at a
+ * time.  statistics summarizes the values the same way, merging the
+ * StatsAccumulator of every task.
+ *
+ * The calculator's operators keep no state, so one Operator or
+ * Expression can be shared by every task.  A smaller threshold balances
+ * the work better between cores, a larger one spends less time creating
+ * tasks; DEFAULT_THRESHOLD suits operators that take a few nanoseconds.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+public class ParallelEvaluator implements Closeable {
+
+    /**
+     * The largest number of values one task calculates unless another
+     * threshold is given
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * The number of doubles of a file mapped at once, 1 GB
+     */
+    public static final int CHUNK_SIZE = 1 << 27;
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final int threshold;
+
+    /**
+     * ParallelEvaluator is a constructor for an evaluator using the common
+     * fork/join pool and DEFAULT_THRESHOLD
+     */
+    public ParallelEvaluator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD, false);
+    }
+
+    /**
+     * ParallelEvaluator is a constructor for an evaluator with its own
+     * fork/join pool, which close shuts down
+     *
+     * @param parallelism : the number of cores to use
+     * @param threshold : the largest number of values one task calculates
+     */
+    public ParallelEvaluator(int parallelism, int threshold) {
+        this(new ForkJoinPool(parallelism), threshold, true);
+    }
+
+    private ParallelEvaluator(ForkJoinPool pool, int threshold, boolean ownsPool) {
+        if (threshold < 1) {
+            if (ownsPool) {
+                pool.shutdown();
+            }
+            throw new IllegalArgumentException("Error.  The split threshold must be at least 1");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+        this.ownsPool = ownsPool;
+    }
+
+    /**
+     * getThreshold is a getter for threshold
+     *
+     * @return the largest number of values one task calculates
+     */
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * getParallelism gives the number of cores the evaluator uses
+     *
+     * @return the parallelism of the fork/join pool
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * apply replaces every value with operator(value, y).  Values the
+     * operator does not allow, such as a division by 0, become NaN, as
+     * in the BinaryProtocol.
+     *
+     * @param operator : the operator to apply
+     * @param values : the first operands, replaced by the results
+     * @param y : the second operand, ignored by operators taking one operand
+     */
+    public void apply(Operator operator, double[] values, double y) {
+        evaluate(values, function(operator, y));
+    }
+
+    /**
+     * apply replaces every value with the value of a formula of x
+     *
+     * @param expression : a formula with at most one variable
+     * @param values : the values of the variable, replaced by the results
+     * @throws IllegalArgumentException if the formula has more than one variable
+     */
+    public void apply(Expression expression, double[] values) {
+        evaluate(values, function(expression));
+    }
+
+    /**
+     * statistics summarizes the values, each task adding its piece to its
+     * own StatsAccumulator and the accumulators then being merged
+     *
+     * @param values : the values, which are not changed
+     *
+     * @return the count, sum, mean, variance, minimum and maximum
+     */
+    public StatsAccumulator statistics(double[] values) {
+        return pool.invoke(new StatisticsTask(values, 0, values.length));
+    }
+
+    /**
+     * applyToFile replaces every double in a file with operator(value, y)
+     *
+     * @param operator : the operator to apply
+     * @param path : a file of big endian doubles
+     * @param y : the second operand, ignored by operators taking one operand
+     *
+     * @return the number of values calculated
+     * @throws IOException if the file cannot be mapped
+     */
+    public long applyToFile(Operator operator, Path path, double y) throws IOException {
+        return evaluate(path, function(operator, y));
+    }
+
+    /**
+     * applyToFile replaces every double in a file with the value of a
+     * formula of x
+     *
+     * @param expression : a formula with at most one variable
+     * @param path : a file of big endian doubles
+     *
+     * @return the number of values calculated
+     * @throws IOException if the file cannot be mapped
+     * @throws IllegalArgumentException if the formula has more than one variable
+     */
+    public long applyToFile(Expression expression, Path path) throws IOException {
+        return evaluate(path, function(expression));
+    }
+
+    /**
+     * close shuts down the evaluator's own fork/join pool; the common pool
+     * is left running
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    private void evaluate(double[] values, Supplier<DoubleUnaryOperator> function) {
+        pool.invoke(new Task(values, null, 0, values.length, function));
+    }
+
+    private long evaluate(Path path, Supplier<DoubleUnaryOperator> function) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long count = channel.size() / Double.BYTES;
+            for (long start = 0; start < count; start += CHUNK_SIZE) {
+                int length = (int) Math.min(CHUNK_SIZE, count - start);
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_WRITE, start * Double.BYTES, (long) length * Double.BYTES);
+                pool.invoke(new Task(null, chunk.asDoubleBuffer(), 0, length, function));
+                chunk.force();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * function turns an operator into a function of one value
+     */
+    private static Supplier<DoubleUnaryOperator> function(Operator operator, double y) {
+        DoubleUnaryOperator f = x -> operator.check(x, y) == null ? operator.apply(x, y) : Double.NaN;
+        return () -> f;
+    }
+
+    /**
+     * function turns a formula into a function of one value.  Each task
+     * gets its own function, with its own array for the variable.
+     */
+    private static Supplier<DoubleUnaryOperator> function(Expression expression) {
+        int variables = expression.getVariables().length;
+        if (variables > 1) {
+            throw new IllegalArgumentException("Error.  Expected a formula of x but " + expression + " has " + variables + " variables");
+        }
+        return () -> {
+            double[] value = new double[1];
+            return x -> {
+                value[0] = x;
+                return expression.evaluate(value);
+            };
+        };
+    }
+
+    /**
+     * Task calculates the values from index from up to index to, of
+     * either an array or a buffer
+     */
+    private final class Task extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] array;
+        private final DoubleBuffer buffer;
+        private final int from;
+        private final int to;
+        private final Supplier<DoubleUnaryOperator> function;
+
+        Task(double[] array, DoubleBuffer buffer, int from, int to, Supplier<DoubleUnaryOperator> function) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.function = function;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Task(array, buffer, from, middle, function),
+                          new Task(array, buffer, middle, to, function));
+                return;
+            }
+            DoubleUnaryOperator f = function.get();
+            if (array != null) {
+                for (int i = from; i < to; i++) {
+                    array[i] = f.applyAsDouble(array[i]);
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    buffer.put(i, f.applyAsDouble(buffer.get(i)));
+                }
+            }
+        }
+    }
+
+    /**
+     * StatisticsTask summarizes the values from index from up to index to
+     */
+    private final class StatisticsTask extends RecursiveTask<StatsAccumulator> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] values;
+        private final int from;
+        private final int to;
+
+        StatisticsTask(double[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected StatsAccumulator compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                StatisticsTask right = new StatisticsTask(values, middle, to);
+                right.fork();
+                StatsAccumulator left = new StatisticsTask(values, from, middle).compute();
+                left.merge(right.join());
+                return left;
+            }
+            StatsAccumulator statistics = new StatsAccumulator();
+            statistics.addAll(values, from, to);
+            return statistics;
+        }
+    }
+}
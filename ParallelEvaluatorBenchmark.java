@@ -0,0 +1,58 @@
+/**
+ * ParallelEvaluatorBenchmark times a ParallelEvaluator applying an
+ * operator and a formula to a few million values, with 1 core and then
+ * with twice as many each time up to every core of the machine, next to
+ * a plain loop.  It then tries a range of split thresholds on every
+ * core.
+ *
+ * Run with: java ParallelEvaluatorBenchmark
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class ParallelEvaluatorBenchmark {
+
+    private static final int VALUES = 1 << 22;
+    private static final String FORMULA = "sqrt(x^2 + 4^2) / 3 + sin(x)";
+
+    public static void main(String[] args) {
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        Operator sin = registry.lookup("sin");
+        Expression formula = new ExpressionParser(registry).parse(FORMULA);
+        double[] values = new double[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = i * 1e-3;
+        }
+
+        double loop = Benchmark.measure("loop, sin", VALUES, () -> {
+                for (int i = 0; i < VALUES; i++) {
+                    values[i] = sin.apply(values[i], 0);
+                }
+            });
+        Benchmark.measure("loop, formula", VALUES, () -> {
+                double[] x = new double[1];
+                for (int i = 0; i < VALUES; i++) {
+                    x[0] = values[i];
+                    values[i] = formula.evaluate(x);
+                }
+            });
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; ; parallelism = Math.min(2 * parallelism, cores)) {
+            try (ParallelEvaluator evaluator = new ParallelEvaluator(parallelism, ParallelEvaluator.DEFAULT_THRESHOLD)) {
+                double time = Benchmark.measure(parallelism + " cores, sin", VALUES, () -> evaluator.apply(sin, values, 0));
+                Benchmark.measure(parallelism + " cores, formula", VALUES, () -> evaluator.apply(formula, values));
+                System.out.printf("%d cores: %.2fx the loop%n", parallelism, loop / time);
+            }
+            if (parallelism == cores) {
+                break;
+            }
+        }
+
+        for (int threshold = 1 << 8; threshold <= 1 << 18; threshold <<= 2) {
+            try (ParallelEvaluator evaluator = new ParallelEvaluator(cores, threshold)) {
+                Benchmark.measure(cores + " cores, threshold " + threshold + ", sin", VALUES, () -> evaluator.apply(sin, values, 0));
+            }
+        }
+    }
+}
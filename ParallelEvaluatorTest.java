@@ -0,0 +1,157 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The test class ParallelEvaluatorTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class ParallelEvaluatorTest {
+
+    @Test
+    public void OperatorTest(){
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+
+        // When
+        try (ParallelEvaluator evaluator = new ParallelEvaluator(4, 16)) {
+            evaluator.apply(registry.lookup("sqrt"), values, 0);
+        }
+
+        // Then
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals(Math.sqrt(i), values[i], 0);
+        }
+    }
+
+    @Test
+    public void BinaryOperatorTest(){
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        double[] values = {1, 2, 3, 4, 5};
+
+        // When
+        try (ParallelEvaluator evaluator = new ParallelEvaluator(2, 1)) {
+            evaluator.apply(registry.lookup("^"), values, 2);
+        }
+
+        // Then
+        Assert.assertArrayEquals(new double[] {1, 4, 9, 16, 25}, values, 0);
+    }
+
+    @Test
+    public void DivideByZeroTest(){
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        double[] values = {1, 2};
+
+        // When
+        new ParallelEvaluator().apply(registry.lookup("/"), values, 0);
+
+        // Then
+        Assert.assertTrue(Double.isNaN(values[0]));
+        Assert.assertTrue(Double.isNaN(values[1]));
+    }
+
+    @Test
+    public void ExpressionTest(){
+
+        // Given
+        Expression formula = new ExpressionParser(new OperatorRegistry(new Display())).parse("sqrt(x^2 + 4^2) / 5");
+        double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 2 == 0 ? 3 : 0;
+        }
+
+        // When
+        try (ParallelEvaluator evaluator = new ParallelEvaluator(3, 100)) {
+            evaluator.apply(formula, values);
+        }
+
+        // Then
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals(i % 2 == 0 ? 1 : 0.8, values[i], 1e-15);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void TwoVariablesTest(){
+
+        // Given
+        Expression formula = new ExpressionParser(new OperatorRegistry(new Display())).parse("x + y");
+
+        // When
+        new ParallelEvaluator().apply(formula, new double[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ThresholdTest(){
+
+        // When
+        new ParallelEvaluator(2, 0);
+    }
+
+    @Test
+    public void FileTest() throws Exception{
+
+        // Given
+        OperatorRegistry registry = new OperatorRegistry(new Display());
+        Path path = Files.createTempFile("column", ".bin");
+        ByteBuffer column = ByteBuffer.allocate(100 * Double.BYTES);
+        for (int i = 0; i < 100; i++) {
+            column.putDouble(i);
+        }
+        Files.write(path, column.array());
+
+        // When
+        long count;
+        try (ParallelEvaluator evaluator = new ParallelEvaluator(2, 8)) {
+            count = evaluator.applyToFile(registry.lookup("*"), path, 3);
+        }
+        ByteBuffer results = ByteBuffer.wrap(Files.readAllBytes(path));
+        Files.delete(path);
+
+        // Then
+        Assert.assertEquals(100, count);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(3.0 * i, results.getDouble(), 0);
+        }
+    }
+
+    @Test
+    public void StatisticsTest(){
+
+        // Given
+        double[] values = new double[100000];
+        StatsAccumulator expected = new StatsAccumulator();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.sin(i) * 1000 + 1e6;
+            expected.add(values[i]);
+        }
+
+        // When
+        StatsAccumulator statistics;
+        try (ParallelEvaluator evaluator = new ParallelEvaluator(4, 1000)) {
+            statistics = evaluator.statistics(values);
+        }
+
+        // Then
+        Assert.assertEquals(expected.getCount(), statistics.getCount());
+        Assert.assertEquals(expected.getSum(), statistics.getSum(), 1e-6);
+        Assert.assertEquals(expected.getMean(), statistics.getMean(), 1e-9);
+        Assert.assertEquals(expected.getVariance(), statistics.getVariance(), 1e-6);
+        Assert.assertEquals(expected.getMin(), statistics.getMin(), 0);
+        Assert.assertEquals(expected.getMax(), statistics.getMax(), 0);
+    }
+}
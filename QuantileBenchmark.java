@@ -0,0 +1,125 @@
+/**
+ * QuantileBenchmark times adding a million values to a QuantileSketch
+ * and to a LogHistogram, next to keeping every value and sorting them,
+ * and prints how far each is from the exact quantiles of uniform,
+ * lognormal and sorted input, and of four sketches merged, with the
+ * memory each keeps.  The sketch's error is the rank it is off by, as a
+ * fraction of the count, and the histogram's is how far the number is
+ * off, relative to the number.
+ *
+ * Run with: java QuantileBenchmark
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class QuantileBenchmark {
+
+    private static final int VALUES = 1_000_000;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99, 0.999};
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        double[] uniform = new double[VALUES];
+        double[] lognormal = new double[VALUES];
+        double[] sorted = new double[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            uniform[i] = random.nextDouble();
+            lognormal[i] = Math.exp(2 * random.nextGaussian());
+            sorted[i] = i;
+        }
+
+        Benchmark.measure("QuantileSketch.add", VALUES, () -> {
+                QuantileSketch sketch = new QuantileSketch();
+                for (double x : lognormal) {
+                    sketch.add(x);
+                }
+                Benchmark.consume(sketch.quantile(0.99));
+            });
+        Benchmark.measure("LogHistogram.add", VALUES, () -> {
+                LogHistogram histogram = new LogHistogram();
+                for (double x : lognormal) {
+                    histogram.add(x);
+                }
+                Benchmark.consume(histogram.quantile(0.99));
+            });
+        Benchmark.measure("keep every value and sort", VALUES, () -> {
+                double[] copy = lognormal.clone();
+                Arrays.sort(copy);
+                Benchmark.consume(copy[(int) (0.99 * VALUES)]);
+            });
+
+        accuracy("uniform", uniform);
+        accuracy("lognormal", lognormal);
+        accuracy("sorted", sorted);
+
+        QuantileSketch merged = new QuantileSketch();
+        LogHistogram mergedHistogram = new LogHistogram();
+        for (int part = 0; part < 4; part++) {
+            QuantileSketch sketch = new QuantileSketch();
+            LogHistogram histogram = new LogHistogram();
+            for (int i = part; i < VALUES; i += 4) {
+                sketch.add(lognormal[i]);
+                histogram.add(lognormal[i]);
+            }
+            merged.merge(sketch);
+            mergedHistogram.merge(histogram);
+        }
+        report("lognormal, 4 merged", sortedCopy(lognormal), merged, mergedHistogram);
+    }
+
+    private static void accuracy(String name, double[] values) {
+        QuantileSketch sketch = new QuantileSketch();
+        LogHistogram histogram = new LogHistogram();
+        for (double x : values) {
+            sketch.add(x);
+            histogram.add(x);
+        }
+        report(name, sortedCopy(values), sketch, histogram);
+    }
+
+    private static void report(String name, double[] exact, QuantileSketch sketch, LogHistogram histogram) {
+        System.out.printf("%n%s: sketch keeps %d bytes, histogram %d bytes, for %d values%n",
+                          name, 8L * sketch.getRetainedCount(), 8L * histogram.getBucketCount(), exact.length);
+        for (double q : QUANTILES) {
+            double estimate = sketch.quantile(q);
+            // the ranks of the estimate among the exact values
+            int low = lowerBound(exact, estimate);
+            int high = upperBound(exact, estimate);
+            double target = q * exact.length;
+            double rankError = target < low ? low - target : target > high ? target - high : 0;
+            double value = exact[(int) (q * (exact.length - 1))];
+            double relativeError = Math.abs(histogram.quantile(q) - value) / Math.abs(value);
+            System.out.printf("  q %-6s sketch rank error %.5f   histogram relative error %.5f%n",
+                              q, rankError / exact.length, relativeError);
+        }
+    }
+
+    private static double[] sortedCopy(double[] values) {
+        double[] copy = values.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static int lowerBound(double[] sorted, double x) {
+        int i = Arrays.binarySearch(sorted, x);
+        if (i < 0) {
+            return -i - 1;
+        }
+        while (i > 0 && sorted[i - 1] == x) {
+            i--;
+        }
+        return i;
+    }
+
+    private static int upperBound(double[] sorted, double x) {
+        int i = lowerBound(sorted, x);
+        while (i < sorted.length && sorted[i] == x) {
+            i++;
+        }
+        return i;
+    }
+}
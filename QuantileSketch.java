@@ -0,0 +1,344 @@
+/**
+ * QuantileSketch estimates the median, p95, p99 or any other quantile of
+ * a stream of numbers while keeping only a few hundred of them, using
+ * the KLL sketch of Karnin, Lang and Liberty.  Numbers are kept in
+ * levels, where each number at level h stands for 2^h of the numbers
+ * added.  When a level is full it is sorted and every other number,
+ * starting at random from the first or the second, moves up a level,
+ * standing for twice as many.  Higher levels are kept larger, and lower
+ * ones shrink by 2/3 each, so the sketch keeps about 3 k numbers however
+ * many are added, plus a few for every doubling of the count.
+ *
+ * The rank of an estimated quantile is off by about 1.7 / k of the count
+ * (0.85% with the default k of 200), which holds for any order and
+ * distribution of the numbers.  Sketches are merged by combining their
+ * levels, so the numbers can be added in parts, for example on separate
+ * threads.  A QuantileSketch is not synchronized.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.Arrays;
+
+public class QuantileSketch {
+
+    /**
+     * The size of the highest level unless another is given
+     */
+    public static final int DEFAULT_K = 200;
+
+    // each level below the highest holds this fraction of the one above
+    private static final double SHRINK = 2.0 / 3;
+    private static final int MIN_LEVEL_CAPACITY = 2;
+
+    private final int k;
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    private int retained;
+    private int capacity;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private long random = 0x9E3779B97F4A7C15L;
+
+    // every retained number in order with its cumulative weight, built
+    // on the first query after a change
+    private double[] sortedValues;
+    private long[] cumulativeWeights;
+
+    /**
+     * QuantileSketch is a constructor for a sketch with DEFAULT_K
+     */
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * QuantileSketch is a constructor for a QuantileSketch object
+     *
+     * @param k : the size of the highest level; the error shrinks and the
+     *            memory grows in proportion to k
+     */
+    public QuantileSketch(int k) {
+        if (k < 8) {
+            throw new IllegalArgumentException("Error.  k must be at least 8");
+        }
+        this.k = k;
+        levels[0] = new double[k];
+        capacity = capacity(0);
+    }
+
+    /**
+     * add adds a number; NaN is ignored
+     *
+     * @param x : the number
+     */
+    public void add(double x) {
+        if (Double.isNaN(x)) {
+            return;
+        }
+        append(0, x);
+        count++;
+        min = Math.min(min, x);
+        max = Math.max(max, x);
+        sortedValues = null;
+        if (retained >= capacity) {
+            compress();
+        }
+    }
+
+    /**
+     * merge adds the numbers another sketch has been given
+     *
+     * @param other : the sketch to merge in, which is not changed unless
+     *                it is this sketch
+     */
+    public void merge(QuantileSketch other) {
+        while (levels.length < other.levels.length) {
+            addLevel();
+        }
+        // taken first, since merging a sketch into itself grows the levels read
+        int[] otherSizes = other.sizes.clone();
+        for (int h = 0; h < otherSizes.length; h++) {
+            for (int i = 0; i < otherSizes[h]; i++) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sortedValues = null;
+        while (retained >= capacity) {
+            compress();
+        }
+    }
+
+    /**
+     * clear forgets every number
+     */
+    public void clear() {
+        levels = new double[][] {new double[k]};
+        sizes = new int[1];
+        retained = 0;
+        capacity = capacity(0);
+        count = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+        sortedValues = null;
+    }
+
+    /**
+     * getCount gives the number of numbers added
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * getRetainedCount gives the number of numbers the sketch keeps, each
+     * a double
+     *
+     * @return the numbers kept
+     */
+    public int getRetainedCount() {
+        return this.retained;
+    }
+
+    /**
+     * quantile estimates the number at a rank
+     *
+     * @param q : the rank, from 0 for the smallest number to 1 for the largest
+     *
+     * @return a number whose rank is about q, the exact minimum for 0 and
+     *         maximum for 1, or NaN if nothing has been added
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Error.  A quantile must be from 0 to 1");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (q == 0 || q == 1) {
+            return q == 0 ? min : max;
+        }
+        sort();
+        long rank = (long) (q * count);
+        int i = Arrays.binarySearch(cumulativeWeights, rank + 1);
+        return sortedValues[i >= 0 ? i : Math.min(-i - 1, sortedValues.length - 1)];
+    }
+
+    /**
+     * rank estimates the fraction of the numbers that are at most x
+     *
+     * @param x : a number
+     *
+     * @return the fraction from 0 to 1, or NaN if nothing has been added
+     */
+    public double rank(double x) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        sort();
+        int i = upperBound(sortedValues, x);
+        return i == 0 ? 0 : (double) cumulativeWeights[i - 1] / count;
+    }
+
+    /**
+     * get gives a quantile by name
+     *
+     * @param name : "median", or "p" and a percentage such as "p95" or "p99.9"
+     *
+     * @return the estimated quantile
+     * @throws IllegalArgumentException if name is not a quantile
+     */
+    public double get(String name) {
+        if (!isQuantile(name)) {
+            throw new IllegalArgumentException("Error.  No quantile called " + name);
+        }
+        return quantile(name.equals("median") ? 0.5 : Double.parseDouble(name.substring(1)) / 100);
+    }
+
+    /**
+     * isQuantile tests whether get understands a name
+     *
+     * @param name : a statistic's name
+     *
+     * @return whether it is "median" or "p" and a percentage from 0 to 100
+     */
+    public static boolean isQuantile(String name) {
+        if (name.equals("median")) {
+            return true;
+        }
+        if (name.length() < 2 || name.charAt(0) != 'p' || !Character.isDigit(name.charAt(1))) {
+            return false;
+        }
+        try {
+            double percentage = Double.parseDouble(name.substring(1));
+            return percentage >= 0 && percentage <= 100;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * capacity gives how many numbers a level holds before it is compacted
+     */
+    private int capacity(int level) {
+        int depth = levels.length - 1 - level;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(SHRINK, depth)));
+    }
+
+    private void append(int level, double x) {
+        double[] items = levels[level];
+        if (sizes[level] == items.length) {
+            items = Arrays.copyOf(items, Math.max(2 * items.length, MIN_LEVEL_CAPACITY));
+            levels[level] = items;
+        }
+        items[sizes[level]++] = x;
+        retained++;
+    }
+
+    private void addLevel() {
+        int height = levels.length;
+        levels = Arrays.copyOf(levels, height + 1);
+        sizes = Arrays.copyOf(sizes, height + 1);
+        levels[height] = new double[k];
+        capacity = 0;
+        for (int h = 0; h <= height; h++) {
+            capacity += capacity(h);
+        }
+    }
+
+    /**
+     * compress compacts the lowest full level, moving half of its numbers
+     * up a level
+     */
+    private void compress() {
+        for (int h = 0; h < levels.length; h++) {
+            if (sizes[h] >= capacity(h)) {
+                if (h + 1 == levels.length) {
+                    addLevel();
+                }
+                compact(h);
+                return;
+            }
+        }
+    }
+
+    private void compact(int level) {
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+        // with an odd size the smallest number stays behind, at index 0
+        int kept = size & 1;
+        int start = kept + (nextRandomBit() ? 1 : 0);
+        for (int i = start; i < size; i += 2) {
+            append(level + 1, items[i]);
+        }
+        retained -= size - kept;
+        sizes[level] = kept;
+    }
+
+    private boolean nextRandomBit() {
+        // xorshift, seeded the same for every sketch so results repeat
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        return random < 0;
+    }
+
+    /**
+     * sort puts every retained number in order with its cumulative weight
+     */
+    private void sort() {
+        if (sortedValues != null) {
+            return;
+        }
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        int n = 0;
+        for (int h = 0; h < levels.length; h++) {
+            Arrays.sort(levels[h], 0, sizes[h]);
+            // merge level h, whose numbers weigh 2^h, into the first n
+            double[] mergedValues = new double[n + sizes[h]];
+            long[] mergedWeights = new long[n + sizes[h]];
+            int a = 0;
+            int b = 0;
+            for (int m = 0; m < mergedValues.length; m++) {
+                if (b == sizes[h] || (a < n && values[a] <= levels[h][b])) {
+                    mergedValues[m] = values[a];
+                    mergedWeights[m] = weights[a++];
+                } else {
+                    mergedValues[m] = levels[h][b++];
+                    mergedWeights[m] = 1L << h;
+                }
+            }
+            n = mergedValues.length;
+            System.arraycopy(mergedValues, 0, values, 0, n);
+            System.arraycopy(mergedWeights, 0, weights, 0, n);
+        }
+        for (int i = 1; i < n; i++) {
+            weights[i] += weights[i - 1];
+        }
+        sortedValues = values;
+        cumulativeWeights = weights;
+    }
+
+    private static int upperBound(double[] sorted, double x) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] <= x) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,150 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The test class QuantileSketchTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class QuantileSketchTest {
+
+    @Test
+    public void SmallTest(){
+
+        // Given
+        QuantileSketch sketch = new QuantileSketch();
+
+        // When
+        for (double x : new double[] {9, 2, 7, 4, 5, 4, 5, 4}) {
+            sketch.add(x);
+        }
+
+        // Then
+        Assert.assertEquals(8, sketch.getCount());
+        Assert.assertEquals(2, sketch.quantile(0), 0);
+        Assert.assertEquals(5, sketch.quantile(0.5), 0);
+        Assert.assertEquals(9, sketch.quantile(1), 0);
+        Assert.assertEquals(0.75, sketch.rank(5), 0);
+    }
+
+    @Test
+    public void AccuracyTest(){
+
+        // Given
+        QuantileSketch sketch = new QuantileSketch();
+        int n = 1_000_000;
+
+        // When
+        for (int i = 0; i < n; i++) {
+            // every number from 0 to n - 1 once, out of order
+            sketch.add((i * 7919L) % n);
+        }
+
+        // Then
+        Assert.assertEquals(n, sketch.getCount());
+        Assert.assertTrue(sketch.getRetainedCount() < 1000);
+        for (double q : new double[] {0.01, 0.25, 0.5, 0.9, 0.99}) {
+            Assert.assertEquals(q, sketch.quantile(q) / n, 0.01);
+        }
+    }
+
+    @Test
+    public void SortedInputTest(){
+
+        // Given
+        QuantileSketch sketch = new QuantileSketch();
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add(i);
+        }
+
+        // Then
+        Assert.assertEquals(50_000, sketch.quantile(0.5), 1000);
+        Assert.assertEquals(95_000, sketch.get("p95"), 1000);
+    }
+
+    @Test
+    public void MergeTest(){
+
+        // Given
+        QuantileSketch all = new QuantileSketch();
+        QuantileSketch[] parts = new QuantileSketch[4];
+        for (int p = 0; p < parts.length; p++) {
+            parts[p] = new QuantileSketch();
+        }
+
+        // When
+        for (int i = 0; i < 400_000; i++) {
+            parts[i % parts.length].add(i);
+        }
+        for (QuantileSketch part : parts) {
+            all.merge(part);
+        }
+
+        // Then
+        Assert.assertEquals(400_000, all.getCount());
+        Assert.assertEquals(0, all.quantile(0), 0);
+        Assert.assertEquals(399_999, all.quantile(1), 0);
+        Assert.assertEquals(200_000, all.get("median"), 4000);
+        Assert.assertEquals(396_000, all.get("p99"), 4000);
+    }
+
+    @Test
+    public void MergeIntoItselfTest(){
+
+        // Given
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add(i);
+        }
+
+        // When
+        sketch.merge(sketch);
+
+        // Then
+        Assert.assertEquals(20_000, sketch.getCount());
+        Assert.assertEquals(5_000, sketch.get("median"), 200);
+        Assert.assertEquals(9_999, sketch.quantile(1), 0);
+    }
+
+    @Test
+    public void ClearTest(){
+
+        // Given
+        QuantileSketch sketch = new QuantileSketch();
+
+        // When
+        sketch.add(3);
+        sketch.add(Double.NaN);
+        long count = sketch.getCount();
+        sketch.clear();
+
+        // Then
+        Assert.assertEquals(1, count);
+        Assert.assertEquals(0, sketch.getCount());
+        Assert.assertTrue(Double.isNaN(sketch.quantile(0.5)));
+    }
+
+    @Test
+    public void NameTest(){
+
+        // Given, When, Then
+        Assert.assertTrue(QuantileSketch.isQuantile("median"));
+        Assert.assertTrue(QuantileSketch.isQuantile("p99.9"));
+        Assert.assertFalse(QuantileSketch.isQuantile("pstddev"));
+        Assert.assertFalse(QuantileSketch.isQuantile("p101"));
+        Assert.assertFalse(QuantileSketch.isQuantile("mean"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void BadQuantileTest(){
+
+        // Given
+        QuantileSketch sketch = new QuantileSketch();
+
+        // When
+        sketch.quantile(1.5);
+    }
+}
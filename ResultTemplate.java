@@ -0,0 +1,94 @@
+/**
+ * ResultTemplate is an Operator's result format, such as
+ * "%2$s + %3$s = %4$s", split once into literal text and argument slots
+ * so a result line can be appended to a StringBuilder without going
+ * through String.format.  Only "%n$s" arguments and "%%" are supported.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResultTemplate {
+
+    /**
+     * Argument numbers used in templates
+     */
+    public static final int TOKEN = 1;
+    public static final int X = 2;
+    public static final int Y = 3;
+    public static final int RESULT = 4;
+
+    // literals[i] is printed before argument slots[i]; the last literal has no slot
+    private final String[] literals;
+    private final int[] slots;
+
+    /**
+     * ResultTemplate is a constructor for a ResultTemplate object
+     *
+     * @param template : a format using %1$s for the typed operator, %2$s and
+     *                   %3$s for the operands and %4$s for the result
+     * @throws IllegalArgumentException if the template uses anything else
+     */
+    public ResultTemplate(String template) {
+        List<String> literalList = new ArrayList<>();
+        List<Integer> slotList = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+
+        while (i < template.length()) {
+            char c = template.charAt(i++);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            if (i < template.length() && template.charAt(i) == '%') {
+                literal.append('%');
+                i++;
+                continue;
+            }
+            if (i + 3 > template.length() || template.charAt(i + 1) != '$' || template.charAt(i + 2) != 's'
+                || template.charAt(i) < '1' || template.charAt(i) > '4') {
+                throw new IllegalArgumentException("Error.  Unsupported format in template \"" + template + "\"");
+            }
+            literalList.add(literal.toString());
+            slotList.add(template.charAt(i) - '0');
+            literal.setLength(0);
+            i += 3;
+        }
+        literalList.add(literal.toString());
+
+        this.literals = literalList.toArray(new String[0]);
+        this.slots = new int[slotList.size()];
+        for (int s = 0; s < slots.length; s++) {
+            slots[s] = slotList.get(s);
+        }
+    }
+
+    /**
+     * appendTo adds a result line to a StringBuilder.  Doubles are appended
+     * directly, giving the same text as Double.toString.
+     *
+     * @param line : where the text is appended
+     * @param token : the text the user typed for the operator
+     * @param x : the first operand
+     * @param y : the second operand
+     * @param result : the result
+     *
+     * @return line, for chaining
+     */
+    public StringBuilder appendTo(StringBuilder line, String token, double x, double y, double result) {
+        for (int i = 0; i < slots.length; i++) {
+            line.append(literals[i]);
+            switch (slots[i]) {
+                case TOKEN : line.append(token); break;
+                case X : line.append(x); break;
+                case Y : line.append(y); break;
+                default : line.append(result); break;
+            }
+        }
+        return line.append(literals[slots.length]);
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * ServerLoadBenchmark measures the CalculatorServer under load.  It opens
+ * many connections at once, each sending one command at a time and
+ * waiting for its reply, and reports requests per second and the
+ * median, p99 and worst latency.
+ *
+ * Run with: java ServerLoadBenchmark [connections] [seconds] [port]
+ *
+ * By default 1000 connections run for 10 seconds, after a 2 second
+ * warmup, against a server started in the same JVM.  Give a port to load
+ * a server that is already running, e.g. java MainApplication --server.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ServerLoadBenchmark {
+
+    private static final long WARMUP_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private static final String[] COMMANDS = {"+ 1", "* 1.5", "sqrt", "sin", "/ 3", "^2", "gcd 12 18", "! 10", "c"};
+
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        CalculatorServer server = args.length > 2 ? null : new CalculatorServer(0);
+        int port = server != null ? server.getPort() : Integer.parseInt(args[2]);
+
+        try {
+            run(port, connections, TimeUnit.SECONDS.toNanos(seconds));
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private static void run(int port, int connections, long durationNanos) throws Exception {
+        ExecutorService clients = CalculatorServer.newThreadPerTaskExecutor();
+        CountDownLatch connected = new CountDownLatch(connections);
+        List<Future<long[]>> results = new ArrayList<>();
+        long[] window = new long[2];
+
+        for (int i = 0; i < connections; i++) {
+            int client = i;
+            results.add(clients.submit(() -> client(port, client, connected, window)));
+        }
+        connected.await();
+        synchronized (window) {
+            window[0] = System.nanoTime() + WARMUP_NANOS;
+            window[1] = window[0] + durationNanos;
+            window.notifyAll();
+        }
+
+        long[][] latencies = new long[connections][];
+        int total = 0;
+        for (int i = 0; i < connections; i++) {
+            latencies[i] = results.get(i).get();
+            total += latencies[i].length;
+        }
+        clients.shutdown();
+
+        long[] all = new long[total];
+        int n = 0;
+        for (long[] latency : latencies) {
+            System.arraycopy(latency, 0, all, n, latency.length);
+            n += latency.length;
+        }
+        Arrays.sort(all);
+        double seconds = durationNanos / 1e9;
+        System.out.printf("%-40s %12d%n", "connections", connections);
+        System.out.printf("%-40s %12.0f requests/s%n", "throughput", total / seconds);
+        System.out.printf("%-40s %12.1f us%n", "p50 latency", percentile(all, 0.50) / 1e3);
+        System.out.printf("%-40s %12.1f us%n", "p99 latency", percentile(all, 0.99) / 1e3);
+        System.out.printf("%-40s %12.1f us%n", "max latency", (all.length == 0 ? 0 : all[all.length - 1]) / 1e3);
+    }
+
+    /**
+     * client sends commands over one connection until the measurement
+     * window ends
+     *
+     * @return the latency of every request sent inside the window, in nanoseconds
+     */
+    private static long[] client(int port, int client, CountDownLatch connected, long[] window) throws IOException, InterruptedException {
+        Socket connection;
+        try {
+            connection = new Socket(InetAddress.getLoopbackAddress(), port);
+        } finally {
+            connected.countDown();
+        }
+        try (Socket socket = connection) {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            synchronized (window) {
+                while (window[1] == 0) {
+                    window.wait();
+                }
+            }
+            long measureFrom = window[0];
+            long measureTo = window[1];
+            long[] latencies = new long[1024];
+            int count = 0;
+            int next = client;
+
+            while (true) {
+                long start = System.nanoTime();
+                if (start >= measureTo) {
+                    break;
+                }
+                out.write(COMMANDS[next++ % COMMANDS.length]);
+                out.write('\n');
+                out.flush();
+                if (in.readLine() == null) {
+                    break;
+                }
+                if (start >= measureFrom) {
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, 2 * count);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+            }
+            out.write("quit\n");
+            out.flush();
+            return Arrays.copyOf(latencies, count);
+        }
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)];
+    }
+}
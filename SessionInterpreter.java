@@ -0,0 +1,423 @@
+/**
+ * SessionInterpreter runs one-line calculator commands against a
+ * CalculatorSession, using the same operators and commands as superCalc.
+ * Every command gives exactly one line of reply, which is the display
+ * after the command or an error message.
+ *
+ * A command is an operator followed by its operands, for example
+ * "+ 3 4" or "sqrt 16".  When one operand is left out the number on the
+ * display is used as the first operand, so "5" followed by "+ 3" and
+ * "sqrt" works like the interactive calculator.  The session commands
+ * "changebase", "binary", "octal", "hex", "changeunits", "degrees",
+ * "radians", "m+", "m-", "mrc", "clear" and "c" work on the display,
+ * "fast" and "precise" choose the math mode, "precision 50" makes
+ * operators calculate in decimal to 50 digits and "precision 0" goes back
+ * to doubles,
+ * "sto M3", "rcl M3" and "m+= M3" store, recall and add to a memory
+ * register, which may also be named, as in "sto total", "modpow 3 200 7"
+ * gives 3^200 mod 7, or the display to the 200th power mod 7 with the
+ * base left out,
+ * "stat+ 4 8" adds numbers, or the display, to the running statistics,
+ * "stat mean" puts a statistic on the display ("count", "sum", "mean",
+ * "variance", "stddev", "pvariance", "pstddev", "min", "max", "median" or
+ * a percentile such as "p99", which is estimated), "stat" shows them all
+ * and "stat clear" starts again, and
+ * "formula ..." evaluates a formula with x set to the display, its
+ * trigonometric functions in the session's units.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.math.BigDecimal;
+
+public class SessionInterpreter {
+
+    /**
+     * The most digits "precision" accepts
+     */
+    public static final int MAX_PRECISION = 100000;
+
+    private final OperatorRegistry registry;
+    private final ExpressionCache formulas;
+    private final CalculatorSession session;
+    private final String[] tokens = new String[4];
+
+    /**
+     * SessionInterpreter is a constructor for a SessionInterpreter object
+     *
+     * @param registry : the operators commands may use, which may be shared
+     * @param formulas : the formula cache, which may be shared
+     * @param session : the state this interpreter changes, not shared
+     */
+    public SessionInterpreter(OperatorRegistry registry, ExpressionCache formulas, CalculatorSession session) {
+        this.registry = registry;
+        this.formulas = formulas;
+        this.session = session;
+    }
+
+    /**
+     * getSession is a getter for session
+     *
+     * @return the session the commands change
+     */
+    public CalculatorSession getSession() {
+        return this.session;
+    }
+
+    /**
+     * evaluate runs one command
+     *
+     * @param line : the command, e.g. "+ 3 4", "sqrt" or "m+"
+     *
+     * @return the display after the command, or an error message
+     */
+    public String evaluate(String line) {
+        line = line.trim();
+        if (line.startsWith("formula ")) {
+            return formula(line.substring("formula ".length()));
+        }
+        int n = split(line);
+        if (n == 0) {
+            return session.getCurrentDisplay();
+        }
+        String command = tokens[0].toLowerCase();
+        Operator operator = registry.lookup(command, session.getUnitsMode(), session.getMathMode());
+        if (operator != null) {
+            return apply(operator, n - 1);
+        }
+        if (n == 1 && isNumber(command)) {
+            session.changeDisplay(command);
+            return session.getCurrentDisplay();
+        }
+        if (n == 2 && (command.equals("sto") || command.equals("rcl") || command.equals("m+="))) {
+            return register(command, tokens[1]);
+        }
+        if (command.equals("precision")) {
+            return precision(n == 2 ? tokens[1] : null);
+        }
+        if (command.equals("modpow")) {
+            return modPow(n - 1);
+        }
+        if (command.equals("stat+")) {
+            return addStatistics(n - 1);
+        }
+        if (command.equals("stat") && n <= 2) {
+            return statistic(n == 2 ? tokens[1].toLowerCase() : null);
+        }
+        if (n > 2) {
+            return "Error: expected at most 1 operand";
+        }
+        if (n == 2) {
+            // a number after a session command replaces the display first
+            try {
+                session.changeDisplay(Double.parseDouble(tokens[1]));
+            } catch (NumberFormatException ex) {
+                return "Error: not a numerical value";
+            }
+        }
+        return command(command);
+    }
+
+    /**
+     * apply applies an operator to the operands given, taking the first
+     * operand from the display if it was left out
+     */
+    private String apply(Operator operator, int operands) {
+        int arity = operator.getArity();
+        if (operands > arity || operands < arity - 1) {
+            return arity == 1 ? "Error: expected 1 operand" : "Error: expected " + arity + " operands";
+        }
+        if (session.getPrecision() > 0) {
+            return applyDecimal(operator, operands);
+        }
+        double x;
+        double y = 0;
+
+        try {
+            int next = 1;
+            x = operands == arity ? Double.parseDouble(tokens[next++]) : session.getCurrentValue();
+            if (arity > 1) {
+                y = Double.parseDouble(tokens[next]);
+            }
+        } catch (NumberFormatException ex) {
+            return "Error: not a numerical value";
+        }
+        String error = session.apply(operator, x, y);
+        return error != null ? error : session.getCurrentDisplay();
+    }
+
+    /**
+     * applyDecimal applies an operator in decimal to the session's
+     * precision, reading the operands with every digit
+     */
+    private String applyDecimal(Operator operator, int operands) {
+        int arity = operator.getArity();
+        BigDecimal x;
+        BigDecimal y = BigDecimal.ZERO;
+
+        try {
+            int next = 1;
+            x = operands == arity ? new BigDecimal(tokens[next++]) : session.getCurrentDecimal();
+            if (arity > 1) {
+                y = new BigDecimal(tokens[next]);
+            }
+        } catch (NumberFormatException ex) {
+            return "Error: not a numerical value";
+        }
+        String error = session.apply(operator, x, y);
+        return error != null ? error : session.getCurrentDisplay();
+    }
+
+    /**
+     * modPow raises a whole number to a whole power mod another, taking
+     * the base from the display if it was left out
+     */
+    private String modPow(int operands) {
+        if (operands < 2 || operands > 3) {
+            return "Error: expected 3 operands";
+        }
+        double base;
+        double exponent;
+        double modulus;
+
+        try {
+            int next = 1;
+            base = operands == 3 ? Double.parseDouble(tokens[next++]) : session.getCurrentValue();
+            exponent = Double.parseDouble(tokens[next++]);
+            modulus = Double.parseDouble(tokens[next]);
+        } catch (NumberFormatException ex) {
+            return "Error: not a numerical value";
+        }
+        double result = session.getCalculator().modPow(base, exponent, modulus);
+        if (Double.isNaN(result)) {
+            session.changeDisplay("Error");
+            return "Error: modpow needs whole numbers and a positive modulus";
+        }
+        session.changeDisplay(result);
+        return session.getCurrentDisplay();
+    }
+
+    /**
+     * addStatistics adds the numbers given, or the display if there are
+     * none, to the session's statistics
+     *
+     * @return the number of values added so far, or an error message
+     */
+    private String addStatistics(int operands) {
+        if (operands > tokens.length - 1) {
+            return "Error: expected at most " + (tokens.length - 1) + " operands";
+        }
+        // check them all first, so a bad number adds nothing
+        for (int i = 1; i <= operands; i++) {
+            if (!isNumber(tokens[i])) {
+                return "Error: not a numerical value";
+            }
+        }
+        if (operands == 0) {
+            try {
+                session.addToStatistics(session.getCurrentValue());
+            } catch (NumberFormatException ex) {
+                return "Error: not a numerical value";
+            }
+        }
+        for (int i = 1; i <= operands; i++) {
+            session.addToStatistics(Double.parseDouble(tokens[i]));
+        }
+        return session.getStatistics().getCount() + " values";
+    }
+
+    /**
+     * statistic puts one of the session's statistics on the display, or
+     * describes or clears them all
+     *
+     * @return the display, the statistics, or an error message
+     */
+    private String statistic(String name) {
+        if (name == null) {
+            return session.getStatistics().toString();
+        }
+        if (name.equals("clear")) {
+            session.clearStatistics();
+            return session.getStatistics().toString();
+        }
+        try {
+            session.changeDisplay(session.getStatistic(name));
+        } catch (IllegalArgumentException ex) {
+            return ex.getMessage();
+        }
+        return session.getCurrentDisplay();
+    }
+
+    /**
+     * precision sets or shows the number of digits operators calculate to
+     *
+     * @return the precision, or an error message
+     */
+    private String precision(String digits) {
+        if (digits != null) {
+            int precision;
+            try {
+                precision = Integer.parseInt(digits);
+            } catch (NumberFormatException ex) {
+                return "Error: not a numerical value";
+            }
+            if (precision > MAX_PRECISION) {
+                return "Error: at most " + MAX_PRECISION + " digits";
+            }
+            session.setPrecision(precision);
+        }
+        return session.getPrecision() > 0 ? session.getPrecision() + " digits" : "double";
+    }
+
+    /**
+     * command runs a session command that is not an operator
+     */
+    private String command(String command) {
+        switch (command) {
+            case "changebase" :
+                session.changeDisplay(displayValue());
+                session.switchDisplayMode();
+                break;
+
+            case "binary" :
+            case "octal" :
+            case "hex" :
+                session.changeDisplay(displayValue());
+                session.switchDisplayMode(command);
+                break;
+
+            case "changeunits" :
+                session.changeDisplay(displayValue());
+                session.switchUnitsMode();
+                break;
+
+            case "degrees" :
+            case "radians" :
+                session.changeDisplay(displayValue());
+                session.switchUnitsMode(command);
+                break;
+
+            case "fast" :
+            case "precise" :
+                session.setMathMode(command);
+                return command;
+
+            case "m+" :
+                if (session.getCurrentDisplay().equals("Infinity")) {
+                    session.clearDisplay();
+                    return "Error.  Memory is not infinite...";
+                }
+                session.saveDisplayToMemory();
+                return session.getMemoryValue();
+
+            case "m-" :
+                session.clearMemory();
+                return session.getMemoryValue();
+
+            case "mrc" :
+                session.recallMemoryToDisplay();
+                break;
+
+            case "clear" :
+            case "c" :
+                session.clearDisplay();
+                break;
+
+            default :
+                return "Not a proper operator";
+        }
+        return session.getCurrentDisplay();
+    }
+
+    /**
+     * register stores the display in a register, recalls a register onto
+     * the display or adds the display to a register
+     *
+     * @return the register's value, or an error message
+     */
+    private String register(String command, String register) {
+        try {
+            switch (command) {
+                case "sto" :
+                    session.storeRegister(register);
+                    return session.getCurrentDisplay();
+
+                case "rcl" :
+                    session.recallRegister(register);
+                    return session.getCurrentDisplay();
+
+                default :
+                    return Double.toString(session.accumulateRegister(register));
+            }
+        } catch (IllegalArgumentException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    /**
+     * formula evaluates a formula with x set to the number on the display
+     */
+    private String formula(String formula) {
+        try {
+            double result = formulas.getInUnits(formula, session.getUnitsMode(), "x").evaluate(session.getCurrentValue());
+            session.changeDisplay(result);
+            return session.getCurrentDisplay();
+        } catch (IllegalArgumentException ex) {
+            session.changeDisplay("Error");
+            return ex.getMessage();
+        }
+    }
+
+    /**
+     * displayValue gives the number on the display, or 0 if the display
+     * shows text such as "Error"
+     */
+    private double displayValue() {
+        try {
+            return session.getCurrentValue();
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    private static boolean isNumber(String token) {
+        try {
+            Double.parseDouble(token);
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * split breaks a line into at most four whitespace separated tokens
+     *
+     * @param line : a trimmed command line
+     *
+     * @return the number of tokens found, or 5 if there were too many
+     */
+    private int split(String line) {
+        int n = 0;
+        int i = 0;
+        int length = line.length();
+
+        while (i < length) {
+            while (i < length && Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            if (n == tokens.length) {
+                return n + 1;
+            }
+            tokens[n++] = line.substring(start, i);
+        }
+        return n;
+    }
+}
@@ -0,0 +1,214 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The test class SessionInterpreterTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class SessionInterpreterTest {
+
+    private SessionInterpreter newInterpreter(){
+        Calculator calculator = new Calculator();
+        OperatorRegistry registry = new OperatorRegistry(calculator);
+        return new SessionInterpreter(registry, new ExpressionCache(registry, 16), new CalculatorSession(calculator));
+    }
+
+    @Test
+    public void OperatorTest(){
+
+        // Given
+        SessionInterpreter interpreter = newInterpreter();
+
+        // When
+        String sum = interpreter.evaluate("+ 3 4");
+        String product = interpreter.evaluate("* 2");
+        String root = interpreter.evaluate("sqrt");
+
+        // Then
+        Assert.assertEquals("7.0", sum);
+        Assert.assertEquals("14.0", product);
+        Assert.assertEquals(Double.toString(Math.sqrt(14)), root);
+    }
+
+    @Test
+    public void MathModeTest(){
+
+        // Given
+        SessionInterpreter interpreter = newInterpreter();
+        interpreter.evaluate("radians");
+
+        // When
+        String fast = interpreter.evaluate("fast");
+        String sinh = interpreter.evaluate("sinh 2");
+        interpreter.evaluate("precise");
+        String precise = interpreter.evaluate("sinh 2");
+
+        // Then
+        Assert.assertEquals("fast", fast);
+        Assert.assertEquals(Double.toString(FastMath.sinh(2)), sinh);
+        Assert.assertEquals(Double.toString(Math.sinh(2)), precise);
+        Assert.assertEquals("precise", interpreter.getSession().getMathMode());
+    }
+
+    @Test
+    public void PrecisionTest(){
+
+        // Given
+        SessionInterpreter interpreter = newInterpreter();
+
+        // When
+        String precision = interpreter.evaluate("precision 50");
+        String sum = interpreter.evaluate("+ 0.1 0.2");
+        String quotient = interpreter.evaluate("/ 3");
+        String big = interpreter.evaluate("* 123456789012345678901234567890 10");
+        String off = interpreter.evaluate("precision 0");
+        String doubles = interpreter.evaluate("+ 0.1 0.2");
+
+        // Then
+        Assert.assertEquals("50 digits", precision);
+        Assert.assertEquals("0.3", sum);
+        Assert.assertEquals("0.1", quotient);
+        Assert.assertEquals("1234567890123456789012345678900", big);
+        Assert.assertEquals("double", off);
+        Assert.assertEquals(Double.toString(0.1 + 0.2), doubles);
+    }
+
+    @Test(timeout = 10000)
+    public void PrecisionEdgeCaseTest(){
+
+        // Given
+        SessionInterpreter interpreter = newInterpreter();
+
+        // When
+        interpreter.evaluate("precision 30");
+        String huge = interpreter.evaluate("exponent 2 1e20");
+        String half = interpreter.evaluate("exponent 2 12345678901.5");
+        String tiny = interpreter.evaluate("exponent 0.5 1e20");
+        String sin = interpreter.evaluate("sin 180");
+        String cos = interpreter.evaluate("cos 90");
+        String tan = interpreter.evaluate("tan 90");
+
+        // Then
+        Assert.assertEquals("Overflow", huge);
+        Assert.assertEquals("Overflow", half);
+        Assert.assertEquals("0", tiny);
+        Assert.assertEquals("0", sin);
+        Assert.assertEquals("0", cos);
+        Assert.assertTrue(tan.startsWith("Error"));
+    }
+
+    @Test
+    public void ModPowTest(){
+
+        // Given
+        SessionInterpreter interpreter = newInterpreter();
+
+        // When
+        String full = interpreter.evaluate("modpow 4 13 497");
+        interpreter.evaluate("3");
+        String display = interpreter.evaluate("modpow 200 7");
+        String error = interpreter.evaluate("modpow 2 3 0");
+
+        // Then
+        Assert.assertEquals("445.0", full);
+        Assert.assertEquals("2.0", display);
+        Assert.assertTrue(error.startsWith("Error"));
+    }
+
+    @Test
+    public void StatisticsTest(){
+
+        // Given
+        SessionInterpreter interpreter = newInterpreter();
+
+        // When
+        interpreter.evaluate("stat+ 2 4 4");
+        interpreter.evaluate("4");
+        interpreter.evaluate("stat+");
+        interpreter.evaluate("stat+ 5 5 7");
+        String count = interpreter.evaluate("stat+ 9");
+        String bad = interpreter.evaluate("stat+ 9 nine");
+        String tooMany = interpreter.evaluate("stat+ 1 2 3 4");
+        String mean = interpreter.evaluate("stat mean");
+        String deviation = interpreter.evaluate("stat pstddev");
+        String median = interpreter.evaluate("stat median");
+        String unknown = interpreter.evaluate("stat mode");
+        interpreter.evaluate("stat clear");
+        String cleared = interpreter.evaluate("stat count");
+
+        // Then
+        Assert.assertEquals("8 values", count);
+        Assert.assertEquals("Error: not a numerical value", bad);
+        Assert.assertEquals("Error: expected at most 3 operands", tooMany);
+        Assert.assertEquals("5.0", mean);
+        Assert.assertEquals("2.0", deviation);
+        Assert.assertEquals("5.0", median);
+        Assert.assertTrue(unknown.startsWith("Error"));
+        Assert.assertEquals("0.0", cleared);
+    }
+
+    @Test
+    public void ErrorTest(){
+
+        // Given
+        SessionInterpreter interpreter = newInterpreter();
+
+        // When
+        String unknown = interpreter.evaluate("frobnicate 3");
+        String operands = interpreter.evaluate("sqrt 1 2");
+        String number = interpreter.evaluate("+ 1 two");
+        String divide = interpreter.evaluate("/ 4 0");
+
+        // Then
+        Assert.assertEquals("Not a proper operator", unknown);
+        Assert.assertEquals("Error: expected 1 operand", operands);
+        Assert.assertEquals("Error: not a numerical value", number);
+        Assert.assertEquals("Error.  Cannot divide by 0.", divide);
+        Assert.assertEquals("Error", interpreter.getSession().getCurrentDisplay());
+    }
+
+    @Test
+    public void SessionCommandTest(){
+
+        // Given
+        SessionInterpreter interpreter = newInterpreter();
+
+        // When
+        interpreter.evaluate("12");
+        String saved = interpreter.evaluate("m+");
+        String binary = interpreter.evaluate("binary");
+        String hex = interpreter.evaluate("hex 255");
+        String cleared = interpreter.evaluate("c");
+        String recalled = interpreter.evaluate("mrc");
+
+        // Then
+        Assert.assertEquals("12", saved);
+        Assert.assertEquals("1100", binary);
+        Assert.assertEquals("ff", hex);
+        Assert.assertEquals("0", cleared);
+        Assert.assertEquals("12", recalled);
+    }
+
+    @Test
+    public void FormulaTest(){
+
+        // Given
+        SessionInterpreter interpreter = newInterpreter();
+        interpreter.evaluate("3");
+
+        // When
+        String result = interpreter.evaluate("formula x^2 + 1");
+        String degrees = interpreter.evaluate("formula sin(90)");
+        interpreter.evaluate("radians");
+        String radians = interpreter.evaluate("formula sin(90)");
+        String error = interpreter.evaluate("formula x +");
+
+        // Then
+        Assert.assertEquals("10.0", result);
+        Assert.assertTrue(error.startsWith("Error."));
+        Assert.assertEquals("1.0", degrees);
+        Assert.assertEquals(Double.toString(Math.sin(90)), radians);
+    }
+}
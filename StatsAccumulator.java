@@ -0,0 +1,275 @@
+/**
+ * StatsAccumulator keeps the count, sum, mean, variance, minimum and
+ * maximum of a stream of numbers without keeping the numbers, so any
+ * number of values takes the same memory.  The sum is compensated
+ * (Neumaier's version of Kahan summation), so adding 0.1 ten million
+ * times gives 1000000 rather than 999999.9998389754, and the mean and
+ * variance are updated with Welford's method, which does not lose
+ * precision the way sum of squares minus square of sum does.
+ *
+ * Accumulators are mergeable: values can be split into parts, each part
+ * added to its own accumulator, for example on its own thread, and the
+ * accumulators merged into the same result as adding everything to one.
+ * An accumulator is not synchronized.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+public class StatsAccumulator {
+
+    // addAll summarizes this many values at a time before merging them in
+    private static final int BLOCK_SIZE = 1024;
+
+    private long count;
+    private double sum;
+    private double compensation;
+    private double mean;
+    // the sum of squared differences from the mean
+    private double squares;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * add adds one value
+     *
+     * @param x : the value
+     */
+    public void add(double x) {
+        count++;
+        addToSum(x);
+        double delta = x - mean;
+        mean += delta / count;
+        squares += delta * (x - mean);
+        min = Math.min(min, x);
+        max = Math.max(max, x);
+    }
+
+    /**
+     * addAll adds every value of an array
+     *
+     * @param values : the values
+     */
+    public void addAll(double[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * addAll adds part of an array.  The values are summarized a block at
+     * a time, first the sum and then the squares about the block's mean,
+     * and each block is merged in, which is faster than adding them one
+     * by one since it needs no division per value.
+     *
+     * @param values : the values
+     * @param from : index of the first value to add
+     * @param to : index after the last value to add
+     */
+    public void addAll(double[] values, int from, int to) {
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(to, start + BLOCK_SIZE);
+            double blockSum = 0;
+            double blockCompensation = 0;
+            double blockMin = Double.POSITIVE_INFINITY;
+            double blockMax = Double.NEGATIVE_INFINITY;
+            for (int i = start; i < end; i++) {
+                double x = values[i];
+                double t = blockSum + x;
+                blockCompensation += Math.abs(blockSum) >= Math.abs(x) ? (blockSum - t) + x : (x - t) + blockSum;
+                blockSum = t;
+                blockMin = Math.min(blockMin, x);
+                blockMax = Math.max(blockMax, x);
+            }
+            int n = end - start;
+            double blockMean = (blockSum + blockCompensation) / n;
+            double blockSquares = 0;
+            for (int i = start; i < end; i++) {
+                double d = values[i] - blockMean;
+                blockSquares += d * d;
+            }
+            merge(n, blockSum, blockCompensation, blockMean, blockSquares, blockMin, blockMax);
+        }
+    }
+
+    /**
+     * merge adds everything another accumulator has been given
+     *
+     * @param other : the accumulator to merge in, which is not changed
+     */
+    public void merge(StatsAccumulator other) {
+        merge(other.count, other.sum, other.compensation, other.mean, other.squares, other.min, other.max);
+    }
+
+    /**
+     * clear forgets every value
+     */
+    public void clear() {
+        count = 0;
+        sum = 0;
+        compensation = 0;
+        mean = 0;
+        squares = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * getCount gives the number of values
+     *
+     * @return how many values have been added
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * getSum gives the compensated sum of the values
+     *
+     * @return the sum, or 0 if there are none
+     */
+    public double getSum() {
+        double compensated = sum + compensation;
+        // an infinite sum makes the compensation NaN
+        return Double.isNaN(compensated) && Double.isInfinite(sum) ? sum : compensated;
+    }
+
+    /**
+     * getMean gives the average of the values, from the compensated sum
+     * unless the sum is too large for a double
+     *
+     * @return the mean, or NaN if there are none
+     */
+    public double getMean() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double total = getSum();
+        return Double.isInfinite(total) && Double.isFinite(mean) ? mean : total / count;
+    }
+
+    /**
+     * getVariance gives the population variance, the mean squared
+     * difference from the mean
+     *
+     * @return the variance, or NaN if there are no values
+     */
+    public double getVariance() {
+        return count == 0 ? Double.NaN : squares / count;
+    }
+
+    /**
+     * getSampleVariance gives the sample variance, which divides by one
+     * less than the count
+     *
+     * @return the variance, or NaN if there are fewer than 2 values
+     */
+    public double getSampleVariance() {
+        return count < 2 ? Double.NaN : squares / (count - 1);
+    }
+
+    /**
+     * getStandardDeviation gives the population standard deviation
+     *
+     * @return the square root of the variance
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * getSampleStandardDeviation gives the sample standard deviation
+     *
+     * @return the square root of the sample variance
+     */
+    public double getSampleStandardDeviation() {
+        return Math.sqrt(getSampleVariance());
+    }
+
+    /**
+     * getMin gives the smallest value
+     *
+     * @return the minimum, or NaN if there are no values
+     */
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * getMax gives the largest value
+     *
+     * @return the maximum, or NaN if there are no values
+     */
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * get gives one of the statistics by name
+     *
+     * @param name : "count", "sum", "mean", "variance", "stddev" (both
+     *               from the sample), "pvariance", "pstddev" (both from
+     *               the population), "min" or "max"
+     *
+     * @return the statistic
+     * @throws IllegalArgumentException if there is no such statistic
+     */
+    public double get(String name) {
+        switch (name) {
+            case "count" : return count;
+            case "sum" : return getSum();
+            case "mean" : return getMean();
+            case "variance" : return getSampleVariance();
+            case "stddev" : return getSampleStandardDeviation();
+            case "pvariance" : return getVariance();
+            case "pstddev" : return getStandardDeviation();
+            case "min" : return getMin();
+            case "max" : return getMax();
+            default : throw new IllegalArgumentException("Error.  No statistic called " + name);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "count " + count + ", sum " + getSum() + ", mean " + getMean() + ", stddev " + getSampleStandardDeviation()
+            + ", min " + getMin() + ", max " + getMax();
+    }
+
+    /**
+     * addToSum adds a value to the compensated sum
+     */
+    private void addToSum(double x) {
+        double t = sum + x;
+        // the low bits lost from whichever of sum and x is smaller
+        compensation += Math.abs(sum) >= Math.abs(x) ? (sum - t) + x : (x - t) + sum;
+        sum = t;
+    }
+
+    /**
+     * merge combines a summary of other values with this one, using Chan's
+     * formula for the squares
+     */
+    private void merge(long n, double otherSum, double otherCompensation, double otherMean, double otherSquares,
+                       double otherMin, double otherMax) {
+        if (n == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = n;
+            sum = otherSum;
+            compensation = otherCompensation;
+            mean = otherMean;
+            squares = otherSquares;
+            min = otherMin;
+            max = otherMax;
+            return;
+        }
+        long total = count + n;
+        double delta = otherMean - mean;
+        squares += otherSquares + delta * delta * ((double) count * n / total);
+        mean += delta * ((double) n / total);
+        count = total;
+        addToSum(otherSum);
+        addToSum(otherCompensation);
+        min = Math.min(min, otherMin);
+        max = Math.max(max, otherMax);
+    }
+}
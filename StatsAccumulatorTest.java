@@ -0,0 +1,146 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The test class StatsAccumulatorTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class StatsAccumulatorTest {
+
+    @Test
+    public void AddTest(){
+
+        // Given
+        StatsAccumulator statistics = new StatsAccumulator();
+
+        // When
+        for (double x : new double[] {2, 4, 4, 4, 5, 5, 7, 9}) {
+            statistics.add(x);
+        }
+
+        // Then
+        Assert.assertEquals(8, statistics.getCount());
+        Assert.assertEquals(40, statistics.getSum(), 0);
+        Assert.assertEquals(5, statistics.getMean(), 0);
+        Assert.assertEquals(4, statistics.getVariance(), 0);
+        Assert.assertEquals(2, statistics.getStandardDeviation(), 0);
+        Assert.assertEquals(32.0 / 7, statistics.getSampleVariance(), 1e-15);
+        Assert.assertEquals(2, statistics.getMin(), 0);
+        Assert.assertEquals(9, statistics.getMax(), 0);
+    }
+
+    @Test
+    public void EmptyTest(){
+
+        // Given
+        StatsAccumulator statistics = new StatsAccumulator();
+
+        // When
+        statistics.add(3);
+        statistics.clear();
+
+        // Then
+        Assert.assertEquals(0, statistics.getCount());
+        Assert.assertEquals(0, statistics.getSum(), 0);
+        Assert.assertTrue(Double.isNaN(statistics.getMean()));
+        Assert.assertTrue(Double.isNaN(statistics.getVariance()));
+        Assert.assertTrue(Double.isNaN(statistics.getMin()));
+        Assert.assertTrue(Double.isNaN(statistics.getMax()));
+    }
+
+    @Test
+    public void CompensatedSumTest(){
+
+        // Given
+        StatsAccumulator one = new StatsAccumulator();
+        StatsAccumulator all = new StatsAccumulator();
+        double[] tenths = new double[1_000_000];
+        java.util.Arrays.fill(tenths, 0.1);
+
+        // When
+        for (double x : tenths) {
+            one.add(x);
+        }
+        all.addAll(tenths);
+        StatsAccumulator cancelling = new StatsAccumulator();
+        cancelling.addAll(new double[] {1e100, 1, -1e100});
+
+        // Then
+        Assert.assertEquals(100000, one.getSum(), 0);
+        Assert.assertEquals(100000, all.getSum(), 0);
+        Assert.assertEquals(1, cancelling.getSum(), 0);
+    }
+
+    @Test
+    public void LargeOffsetVarianceTest(){
+
+        // Given
+        StatsAccumulator statistics = new StatsAccumulator();
+
+        // When
+        for (double x : new double[] {1e9 + 4, 1e9 + 7, 1e9 + 13, 1e9 + 16}) {
+            statistics.add(x);
+        }
+
+        // Then
+        Assert.assertEquals(30, statistics.getSampleVariance(), 0);
+    }
+
+    @Test
+    public void MergeTest(){
+
+        // Given
+        double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.cos(i) * 100 + i;
+        }
+        StatsAccumulator whole = new StatsAccumulator();
+        for (double x : values) {
+            whole.add(x);
+        }
+
+        // When
+        StatsAccumulator merged = new StatsAccumulator();
+        for (int start = 0; start < values.length; start += 3000) {
+            StatsAccumulator part = new StatsAccumulator();
+            part.addAll(values, start, Math.min(values.length, start + 3000));
+            merged.merge(part);
+        }
+        merged.merge(new StatsAccumulator());
+
+        // Then
+        Assert.assertEquals(whole.getCount(), merged.getCount());
+        Assert.assertEquals(whole.getSum(), merged.getSum(), 1e-9);
+        Assert.assertEquals(whole.getMean(), merged.getMean(), 1e-12);
+        Assert.assertEquals(whole.getVariance(), merged.getVariance(), 1e-6);
+        Assert.assertEquals(whole.getMin(), merged.getMin(), 0);
+        Assert.assertEquals(whole.getMax(), merged.getMax(), 0);
+    }
+
+    @Test
+    public void GetByNameTest(){
+
+        // Given
+        StatsAccumulator statistics = new StatsAccumulator();
+        statistics.addAll(new double[] {1, 2, 3, 4});
+
+        // When
+        double count = statistics.get("count");
+        double stddev = statistics.get("stddev");
+        double pvariance = statistics.get("pvariance");
+
+        // Then
+        Assert.assertEquals(4, count, 0);
+        Assert.assertEquals(Math.sqrt(5.0 / 3), stddev, 1e-15);
+        Assert.assertEquals(1.25, pvariance, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void UnknownStatisticTest(){
+
+        // When
+        new StatsAccumulator().get("median");
+    }
+}
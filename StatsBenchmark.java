@@ -0,0 +1,71 @@
+/**
+ * StatsBenchmark times a StatsAccumulator adding values one at a time
+ * and a block at a time, next to a plain sum and sum of squares and to
+ * Java's DoubleSummaryStatistics, and summarizing on every core with
+ * ParallelEvaluator.statistics.  It also prints the error of each sum
+ * for values that are hard to add exactly.
+ *
+ * Run with: java StatsBenchmark
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.math.BigDecimal;
+import java.util.DoubleSummaryStatistics;
+
+public class StatsBenchmark {
+
+    private static final int VALUES = 1 << 22;
+
+    public static void main(String[] args) {
+        double[] values = new double[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = 1e6 + Math.sin(i) * 1000 + 0.1;
+        }
+
+        Benchmark.measure("plain sum and squares", VALUES, () -> {
+                double sum = 0;
+                double squares = 0;
+                for (double x : values) {
+                    sum += x;
+                    squares += x * x;
+                }
+                Benchmark.consume(squares / VALUES - (sum / VALUES) * (sum / VALUES));
+            });
+        Benchmark.measure("DoubleSummaryStatistics", VALUES, () -> {
+                DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+                for (double x : values) {
+                    statistics.accept(x);
+                }
+                Benchmark.consume(statistics.getAverage());
+            });
+        Benchmark.measure("StatsAccumulator.add", VALUES, () -> {
+                StatsAccumulator statistics = new StatsAccumulator();
+                for (double x : values) {
+                    statistics.add(x);
+                }
+                Benchmark.consume(statistics.getVariance());
+            });
+        Benchmark.measure("StatsAccumulator.addAll", VALUES, () -> {
+                StatsAccumulator statistics = new StatsAccumulator();
+                statistics.addAll(values);
+                Benchmark.consume(statistics.getVariance());
+            });
+        try (ParallelEvaluator evaluator = new ParallelEvaluator()) {
+            Benchmark.measure(evaluator.getParallelism() + " cores, ParallelEvaluator.statistics", VALUES,
+                              () -> Benchmark.consume(evaluator.statistics(values).getVariance()));
+        }
+
+        BigDecimal exact = BigDecimal.ZERO;
+        double plain = 0;
+        for (double x : values) {
+            exact = exact.add(new BigDecimal(x));
+            plain += x;
+        }
+        StatsAccumulator statistics = new StatsAccumulator();
+        statistics.addAll(values);
+        System.out.printf("error of the plain sum %27.3e%n", new BigDecimal(plain).subtract(exact).doubleValue());
+        System.out.printf("error of the compensated sum %21.3e%n", new BigDecimal(statistics.getSum()).subtract(exact).doubleValue());
+    }
+}
@@ -0,0 +1,322 @@
+/**
+ * TokenReader reads whitespace separated tokens and numbers from an
+ * InputStream.  It works directly on a byte buffer and parses numbers
+ * from the bytes, which is much faster than Scanner's regular
+ * expressions when numbers are piped in.  Like Scanner, a token that is
+ * not a number is left unread when nextDouble fails.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+public class TokenReader {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    // powers of ten that are exact in a double
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final InputStream in;
+    private final Charset charset = Charset.defaultCharset();
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+
+    // bounds of the token found by peek, valid until position moves
+    private int tokenStart;
+    private int tokenEnd;
+
+    /**
+     * TokenReader is a constructor for a TokenReader object
+     *
+     * @param in : the stream to read from
+     */
+    public TokenReader(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * TokenReader is a constructor for a TokenReader object
+     *
+     * @param in : the stream to read from
+     * @param bufferSize : the initial buffer size, which grows for longer tokens
+     */
+    public TokenReader(InputStream in, int bufferSize) {
+        this.in = in;
+        this.buffer = new byte[Math.max(bufferSize, 16)];
+    }
+
+    /**
+     * hasNext checks whether there is another token
+     *
+     * @return true if another token can be read
+     */
+    public boolean hasNext() {
+        return peek();
+    }
+
+    /**
+     * next reads the next token
+     *
+     * @return the token
+     * @throws NoSuchElementException if the input has no more tokens
+     */
+    public String next() {
+        if (!peek()) {
+            throw new NoSuchElementException();
+        }
+        position = tokenEnd;
+        return new String(buffer, tokenStart, tokenEnd - tokenStart, charset);
+    }
+
+    /**
+     * nextDouble reads the next token as a number.  If the token is not a
+     * number it is not consumed, so it can still be read with next.
+     *
+     * @return the number
+     * @throws InputMismatchException if the next token is not a number
+     * @throws NoSuchElementException if the input has no more tokens
+     */
+    public double nextDouble() {
+        if (!peek()) {
+            throw new NoSuchElementException();
+        }
+        double value;
+        try {
+            value = parseDouble(buffer, tokenStart, tokenEnd);
+        } catch (NumberFormatException ex) {
+            throw new InputMismatchException(ex.getMessage());
+        }
+        position = tokenEnd;
+        return value;
+    }
+
+    /**
+     * nextLine reads the rest of the current line
+     *
+     * @return the line, without its line terminator
+     * @throws NoSuchElementException if the input has ended
+     */
+    public String nextLine() {
+        int end = position;
+        boolean terminated = true;
+        while (true) {
+            while (end < limit && buffer[end] != '\n') {
+                end++;
+            }
+            if (end < limit) {
+                break;
+            }
+            int offset = end - position;
+            if (!fill()) {
+                if (position == limit) {
+                    throw new NoSuchElementException("No line found");
+                }
+                end = limit;
+                terminated = false;
+                break;
+            }
+            end = position + offset;
+        }
+        int lineEnd = end > position && buffer[end - 1] == '\r' ? end - 1 : end;
+        String line = new String(buffer, position, lineEnd - position, charset);
+        position = terminated ? end + 1 : end;
+        return line;
+    }
+
+    /**
+     * peek finds the bounds of the next token, reading more input as needed
+     *
+     * @return false if the input has no more tokens
+     */
+    private boolean peek() {
+        while (true) {
+            while (position < limit && isWhitespace(buffer[position])) {
+                position++;
+            }
+            if (position < limit) {
+                break;
+            }
+            if (!fill()) {
+                return false;
+            }
+        }
+        int end = position;
+        while (true) {
+            while (end < limit && !isWhitespace(buffer[end])) {
+                end++;
+            }
+            if (end < limit) {
+                break;
+            }
+            int offset = end - position;
+            if (!fill()) {
+                end = limit;
+                break;
+            }
+            end = position + offset;
+        }
+        tokenStart = position;
+        tokenEnd = end;
+        return true;
+    }
+
+    /**
+     * fill moves unread bytes to the front of the buffer, growing it when
+     * it is full, and reads more input after them
+     *
+     * @return false if the stream has ended and nothing more was read
+     */
+    private boolean fill() {
+        if (endOfStream) {
+            return false;
+        }
+        int unread = limit - position;
+        if (unread == buffer.length) {
+            byte[] bigger = new byte[2 * buffer.length];
+            System.arraycopy(buffer, position, bigger, 0, unread);
+            buffer = bigger;
+        } else if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, unread);
+        }
+        position = 0;
+        limit = unread;
+        try {
+            int n = in.read(buffer, limit, buffer.length - limit);
+            if (n < 0) {
+                endOfStream = true;
+                return false;
+            }
+            limit += n;
+            return true;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == '\f' || b == 0x0B;
+    }
+
+    /**
+     * parseDouble parses a decimal number from ASCII bytes, such as "42",
+     * "-3.5" or "6.02e23", rounding correctly.  Numbers with at most 15
+     * significant digits and a small exponent are converted with a single
+     * exact multiply or divide; anything else falls back to
+     * Double.parseDouble.  "NaN" and "Infinity" are also accepted.
+     *
+     * @param bytes : the bytes holding the number
+     * @param start : index of the first byte
+     * @param end : index after the last byte
+     *
+     * @return the number
+     * @throws NumberFormatException if the bytes are not a number
+     */
+    public static double parseDouble(byte[] bytes, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean anyDigits = false;
+
+        while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+            anyDigits = true;
+            if (significantDigits < 18) {
+                mantissa = 10 * mantissa + (bytes[i] - '0');
+                if (mantissa != 0) {
+                    significantDigits++;
+                }
+            } else {
+                exponent++;
+                significantDigits++;
+            }
+            i++;
+        }
+        if (i < end && bytes[i] == '.') {
+            i++;
+            while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+                anyDigits = true;
+                if (significantDigits < 18) {
+                    mantissa = 10 * mantissa + (bytes[i] - '0');
+                    if (mantissa != 0) {
+                        significantDigits++;
+                    }
+                    exponent--;
+                } else {
+                    significantDigits++;
+                }
+                i++;
+            }
+        }
+        if (!anyDigits) {
+            return parseSpecial(bytes, start, end, negative, i);
+        }
+        if (i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+                negativeExponent = bytes[i] == '-';
+                i++;
+            }
+            if (i == end) {
+                throw notANumber(bytes, start, end);
+            }
+            int written = 0;
+            while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+                if (written < 100_000) {
+                    written = 10 * written + (bytes[i] - '0');
+                }
+                i++;
+            }
+            exponent += negativeExponent ? -written : written;
+        }
+        if (i != end) {
+            throw notANumber(bytes, start, end);
+        }
+
+        double value;
+        if (mantissa == 0) {
+            value = 0;
+        } else if (significantDigits <= 15 && exponent >= -22 && exponent <= 22) {
+            // both the mantissa and the power of ten are exact doubles, so
+            // one correctly rounded operation gives the correctly rounded result
+            value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        } else {
+            return Double.parseDouble(new String(bytes, start, end - start, StandardCharsets.ISO_8859_1));
+        }
+        return negative ? -value : value;
+    }
+
+    private static double parseSpecial(byte[] bytes, int start, int end, boolean negative, int i) {
+        String word = new String(bytes, i, end - i, StandardCharsets.ISO_8859_1);
+        if (word.equals("Infinity")) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        if (word.equals("NaN") && i == start) {
+            return Double.NaN;
+        }
+        throw notANumber(bytes, start, end);
+    }
+
+    private static NumberFormatException notANumber(byte[] bytes, int start, int end) {
+        return new NumberFormatException("For input string: \"" + new String(bytes, start, end - start, StandardCharsets.ISO_8859_1) + "\"");
+    }
+}
@@ -0,0 +1,160 @@
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * The test class TokenReaderTest.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+public class TokenReaderTest {
+
+    private static TokenReader reader(String text, int bufferSize) {
+        return new TokenReader(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), bufferSize);
+    }
+
+    @Test
+    public void TokensTest(){
+
+        // Given
+        TokenReader r = reader("  add\t3.5\n\n -4e2 sqrt", 64);
+
+        // When
+        String op = r.next();
+        double x = r.nextDouble();
+        double y = r.nextDouble();
+        String last = r.next();
+
+        // Then
+        Assert.assertEquals("add", op);
+        Assert.assertEquals(3.5, x, 0);
+        Assert.assertEquals(-400, y, 0);
+        Assert.assertEquals("sqrt", last);
+        Assert.assertFalse(r.hasNext());
+    }
+
+    @Test
+    public void MismatchLeavesTokenTest(){
+
+        // Given
+        TokenReader r = reader("abc 5", 64);
+
+        // When
+        boolean mismatch = false;
+        try {
+            r.nextDouble();
+        } catch (InputMismatchException ex) {
+            mismatch = true;
+        }
+
+        // Then
+        Assert.assertTrue(mismatch);
+        Assert.assertEquals("abc", r.next());
+        Assert.assertEquals(5, r.nextDouble(), 0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void EndOfInputTest(){
+        reader("   ", 64).next();
+    }
+
+    @Test
+    public void SmallBufferTest(){
+
+        // Given
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            text.append(i * 1.25).append(i % 7 == 0 ? "\n" : " ");
+        }
+        text.append("averyveryveryverylongtokenthatdoesnotfit");
+        TokenReader r = reader(text.toString(), 16);
+
+        // When
+        double sum = 0;
+        for (int i = 0; i < 1000; i++) {
+            sum += r.nextDouble();
+        }
+        String longToken = r.next();
+
+        // Then
+        Assert.assertEquals(1.25 * 999 * 1000 / 2, sum, .001);
+        Assert.assertEquals("averyveryveryverylongtokenthatdoesnotfit", longToken);
+    }
+
+    @Test
+    public void NextLineTest(){
+
+        // Given
+        TokenReader r = reader("formula\r\nsqrt(x ^ 2)\nlast", 16);
+
+        // When
+        String token = r.next();
+        String rest = r.nextLine();
+        String line = r.nextLine();
+        String unterminated = r.nextLine();
+
+        // Then
+        Assert.assertEquals("formula", token);
+        Assert.assertEquals("", rest);
+        Assert.assertEquals("sqrt(x ^ 2)", line);
+        Assert.assertEquals("last", unterminated);
+    }
+
+    @Test
+    public void ParseDoubleMatchesJavaTest(){
+
+        // Given
+        Random random = new Random(42);
+        String[] fixed = {"0", "-0", "1", ".5", "5.", "0.1", "0.30000000000000004", "123456789012345678901234567890",
+            "1e22", "1e23", "4.9e-324", "1.7976931348623157e308", "1e400", "2.2250738585072014E-308",
+            "9007199254740993", "Infinity", "-Infinity", "NaN", "+7"};
+
+        // Then
+        for (String s : fixed) {
+            byte[] b = s.getBytes(StandardCharsets.US_ASCII);
+            Assert.assertEquals(s, Double.parseDouble(s), TokenReader.parseDouble(b, 0, b.length), 0);
+        }
+        for (int i = 0; i < 20000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            String s = i % 2 == 0 ? Double.toString(value) : String.format("%.6f", random.nextDouble() * 1000);
+            byte[] b = s.getBytes(StandardCharsets.US_ASCII);
+            Assert.assertEquals(s, Double.parseDouble(s), TokenReader.parseDouble(b, 0, b.length), 0);
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void ParseDoubleRejectsSuffixTest(){
+        byte[] b = "1.5d".getBytes(StandardCharsets.US_ASCII);
+        TokenReader.parseDouble(b, 0, b.length);
+    }
+
+    @Test
+    public void DisplayInputTest(){
+
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Display d = new Display(new ByteArrayInputStream("seven 7".getBytes(StandardCharsets.UTF_8)), out);
+
+        // When
+        Double bad = d.getDoubleInput("Enter a number");
+        String token = d.getStringInput("Enter an operator");
+        Double good = d.getDoubleInput("Enter a number");
+        d.getPrintStream().flush();
+
+        // Then
+        Assert.assertEquals(0, bad, 0);
+        Assert.assertEquals("seven", token);
+        Assert.assertEquals(7, good, 0);
+        Assert.assertTrue(out.toString().contains("Error: not a numerical value"));
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * TrigBenchmark compares the degree functions of DegreeMath with
+ * converting to radians first, as in Math.sin(Math.toRadians(x)), and
+ * counts how many angles that are multiples of 15 degrees each gets
+ * exactly right.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.util.Random;
+
+public class TrigBenchmark {
+
+    private static final int COUNT = 1 << 16;
+
+    public static void main(String[] args) {
+        double[] angles = new double[COUNT];
+        double[] table = new double[COUNT];
+        Random random = new Random(18);
+        for (int i = 0; i < COUNT; i++) {
+            angles[i] = 720 * random.nextDouble() - 360;
+            table[i] = 30 * (random.nextInt(49) - 24);
+        }
+
+        Benchmark.measure("Math.sin(Math.toRadians(x))", COUNT, () -> {
+                double sum = 0;
+                for (double x : angles) {
+                    sum += Math.sin(Math.toRadians(x));
+                }
+                Benchmark.consume(sum);
+            });
+        Benchmark.measure("DegreeMath.sin(x)", COUNT, () -> {
+                double sum = 0;
+                for (double x : angles) {
+                    sum += DegreeMath.sin(x);
+                }
+                Benchmark.consume(sum);
+            });
+        Benchmark.measure("Math.sin(Math.toRadians(x)), 30n", COUNT, () -> {
+                double sum = 0;
+                for (double x : table) {
+                    sum += Math.sin(Math.toRadians(x));
+                }
+                Benchmark.consume(sum);
+            });
+        Benchmark.measure("DegreeMath.sin(x), 30n", COUNT, () -> {
+                double sum = 0;
+                for (double x : table) {
+                    sum += DegreeMath.sin(x);
+                }
+                Benchmark.consume(sum);
+            });
+        Benchmark.measure("Math.tan(Math.toRadians(x))", COUNT, () -> {
+                double sum = 0;
+                for (double x : angles) {
+                    sum += Math.tan(Math.toRadians(x));
+                }
+                Benchmark.consume(sum);
+            });
+        Benchmark.measure("DegreeMath.tan(x)", COUNT, () -> {
+                double sum = 0;
+                for (double x : angles) {
+                    sum += DegreeMath.tan(x);
+                }
+                Benchmark.consume(sum);
+            });
+
+        int exactRadians = 0;
+        int exactDegrees = 0;
+        for (int degrees = -720; degrees <= 720; degrees += 15) {
+            double expected = exactSin(degrees);
+            exactRadians += Math.sin(Math.toRadians(degrees)) == expected ? 1 : 0;
+            exactDegrees += DegreeMath.sin(degrees) == expected ? 1 : 0;
+        }
+        System.out.printf("%-40s %12d of 97%n", "exact sin, via radians", exactRadians);
+        System.out.printf("%-40s %12d of 97%n", "exact sin, DegreeMath", exactDegrees);
+    }
+
+    /**
+     * exactSin gives the correctly rounded sine of a multiple of 15 degrees
+     */
+    private static double exactSin(int degrees) {
+        int d = Math.floorMod(degrees, 360);
+        double sign = d >= 180 ? -1 : 1;
+        d = d % 180;
+        if (d > 90) {
+            d = 180 - d;
+        }
+        switch (d) {
+            case 0 : return 0;
+            case 15 : return sign * 0.25881904510252074;
+            case 30 : return sign * 0.5;
+            case 45 : return sign * 0.7071067811865476;
+            case 60 : return sign * 0.8660254037844386;
+            case 75 : return sign * 0.9659258262890683;
+            default : return sign;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package benchmarks;
+
+/**
+ * DisplayBenchmark times every Display math method, the display and
+ * units mode switches, print and println, and whole superCalc sessions
+ * driven by a scripted InputStream.
+ *
+ * Run with: mvn -P jmh package && java -jar target/benchmarks.jar DisplayBenchmark
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DisplayBenchmark {
+
+    private static final int SESSION_OPERATIONS = 2_000;
+
+    private static final Class<?> DISPLAY = Handles.type("Display");
+    private static final Class<?> OPERATOR = Handles.type("Operator");
+    private static final Class<?> REGISTRY = Handles.type("OperatorRegistry");
+
+    private static final MethodHandle NEW_DISPLAY = Handles.constructor(DISPLAY, Scanner.class, PrintStream.class);
+    private static final MethodHandle NEW_SCRIPTED_DISPLAY = Handles.constructor(DISPLAY, InputStream.class, OutputStream.class);
+    private static final MethodHandle NEW_REGISTRY = Handles.constructor(REGISTRY, Handles.type("Calculator"));
+    private static final MethodHandle LOOKUP = Handles.method(REGISTRY, "lookup", OPERATOR, String.class);
+
+    private static final MethodHandle ADD = binary("add");
+    private static final MethodHandle SUBTRACT = binary("subtract");
+    private static final MethodHandle MULTIPLY = binary("multiply");
+    private static final MethodHandle DIVIDE = binary("divide");
+    private static final MethodHandle MODULUS = binary("modulus");
+    private static final MethodHandle EXPONENT = binary("exponent");
+    private static final MethodHandle THETA = binary("theta");
+    private static final MethodHandle GCD = binary("gcd");
+    private static final MethodHandle LCM = binary("lcm");
+    private static final MethodHandle SQUARE_ROOT = unary("squareRoot");
+    private static final MethodHandle SIN = unary("sin");
+    private static final MethodHandle ASIN = unary("asin");
+    private static final MethodHandle COS = unary("cos");
+    private static final MethodHandle COSH = unary("cosh");
+    private static final MethodHandle SINH = unary("sinh");
+    private static final MethodHandle ACOS = unary("acos");
+    private static final MethodHandle TAN = unary("tan");
+    private static final MethodHandle ATAN = unary("atan");
+    private static final MethodHandle TANH = unary("tanh");
+    private static final MethodHandle CUBIC_ROOT = unary("cubicRoot");
+    private static final MethodHandle INVERSE = unary("inverse");
+    private static final MethodHandle INVERT_SIGN = unary("invertSign");
+    private static final MethodHandle FACTORIAL = unary("factorial");
+
+    private static final MethodHandle CHANGE_DISPLAY = Handles.method(DISPLAY, "changeDisplay", void.class, double.class);
+    private static final MethodHandle SWITCH_DISPLAY_MODE = Handles.method(DISPLAY, "switchDisplayMode", void.class);
+    private static final MethodHandle SWITCH_UNITS_MODE = Handles.method(DISPLAY, "switchUnitsMode", void.class);
+    private static final MethodHandle PRINT = Handles.method(DISPLAY, "print", void.class, String.class, Object[].class);
+    private static final MethodHandle PRINTLN = Handles.method(DISPLAY, "println", void.class, String.class, Object[].class);
+    private static final MethodHandle PRINT_RESULT = Handles.method(DISPLAY, "printResult", void.class,
+            OPERATOR, String.class, double.class, double.class, double.class);
+    private static final MethodHandle SUPER_CALC = Handles.method(DISPLAY, "superCalc", void.class);
+
+    private static final Object PROMPT = "Binary: ";
+    private static final Object SAVED = "%s has been saved to memory.";
+    private static final Object PLUS = "+";
+    private static final Object NO_ARGUMENTS = new Object[0];
+    private static final Object SAVED_ARGUMENTS = new Object[] {"42.0"};
+
+    // operands live in fields so the JIT cannot fold the calls away
+    private double x = 355;
+    private double y = 113;
+    private double unit = 0.5;
+    private double small = 20;
+
+    private Object display;
+    private Object add;
+    private byte[] script;
+
+    @Setup
+    public void setUp() throws Throwable {
+        display = (Object) NEW_DISPLAY.invokeExact((Object) new Scanner(""), (Object) new PrintStream(OutputStream.nullOutputStream()));
+        add = (Object) LOOKUP.invokeExact((Object) NEW_REGISTRY.invokeExact(display), PLUS);
+        CHANGE_DISPLAY.invokeExact(display, 1.0);
+
+        String[] operations = {"+\n3", "*\n2", "sqrt", "sin", "/\n4", "^2", "gcd\n12", "!"};
+        StringBuilder text = new StringBuilder("5\n");
+        for (int i = 0; i < SESSION_OPERATIONS; i++) {
+            text.append(operations[i % operations.length]).append("\nn\n").append(i % 10 + 1).append('\n');
+        }
+        text.append("+\n1\nn\nquit\n");
+        script = text.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static MethodHandle binary(String name) {
+        return Handles.method(DISPLAY, name, double.class, double.class, double.class);
+    }
+
+    private static MethodHandle unary(String name) {
+        return Handles.method(DISPLAY, name, double.class, double.class);
+    }
+
+    @Benchmark
+    public double add() throws Throwable {
+        return (double) ADD.invokeExact(display, x, y);
+    }
+
+    @Benchmark
+    public double subtract() throws Throwable {
+        return (double) SUBTRACT.invokeExact(display, x, y);
+    }
+
+    @Benchmark
+    public double multiply() throws Throwable {
+        return (double) MULTIPLY.invokeExact(display, x, y);
+    }
+
+    @Benchmark
+    public double divide() throws Throwable {
+        return (double) DIVIDE.invokeExact(display, x, y);
+    }
+
+    @Benchmark
+    public double modulus() throws Throwable {
+        return (double) MODULUS.invokeExact(display, x, y);
+    }
+
+    @Benchmark
+    public double exponent() throws Throwable {
+        return (double) EXPONENT.invokeExact(display, x, y);
+    }
+
+    @Benchmark
+    public double theta() throws Throwable {
+        return (double) THETA.invokeExact(display, x, y);
+    }
+
+    @Benchmark
+    public double gcd() throws Throwable {
+        return (double) GCD.invokeExact(display, x, y);
+    }
+
+    @Benchmark
+    public double lcm() throws Throwable {
+        return (double) LCM.invokeExact(display, x, y);
+    }
+
+    @Benchmark
+    public double squareRoot() throws Throwable {
+        return (double) SQUARE_ROOT.invokeExact(display, x);
+    }
+
+    @Benchmark
+    public double sin() throws Throwable {
+        return (double) SIN.invokeExact(display, x);
+    }
+
+    @Benchmark
+    public double asin() throws Throwable {
+        return (double) ASIN.invokeExact(display, unit);
+    }
+
+    @Benchmark
+    public double cos() throws Throwable {
+        return (double) COS.invokeExact(display, x);
+    }
+
+    @Benchmark
+    public double cosh() throws Throwable {
+        return (double) COSH.invokeExact(display, unit);
+    }
+
+    @Benchmark
+    public double sinh() throws Throwable {
+        return (double) SINH.invokeExact(display, unit);
+    }
+
+    @Benchmark
+    public double acos() throws Throwable {
+        return (double) ACOS.invokeExact(display, unit);
+    }
+
+    @Benchmark
+    public double tan() throws Throwable {
+        return (double) TAN.invokeExact(display, x);
+    }
+
+    @Benchmark
+    public double atan() throws Throwable {
+        return (double) ATAN.invokeExact(display, x);
+    }
+
+    @Benchmark
+    public double tanh() throws Throwable {
+        return (double) TANH.invokeExact(display, unit);
+    }
+
+    @Benchmark
+    public double cubicRoot() throws Throwable {
+        return (double) CUBIC_ROOT.invokeExact(display, x);
+    }
+
+    @Benchmark
+    public double inverse() throws Throwable {
+        return (double) INVERSE.invokeExact(display, x);
+    }
+
+    @Benchmark
+    public double invertSign() throws Throwable {
+        return (double) INVERT_SIGN.invokeExact(display, x);
+    }
+
+    @Benchmark
+    public double factorial() throws Throwable {
+        return (double) FACTORIAL.invokeExact(display, small);
+    }
+
+    @Benchmark
+    public void switchDisplayMode() throws Throwable {
+        SWITCH_DISPLAY_MODE.invokeExact(display);
+    }
+
+    @Benchmark
+    public void switchUnitsMode() throws Throwable {
+        SWITCH_UNITS_MODE.invokeExact(display);
+    }
+
+    @Benchmark
+    public void print() throws Throwable {
+        PRINT.invokeExact(display, PROMPT, NO_ARGUMENTS);
+    }
+
+    @Benchmark
+    public void printlnWithArguments() throws Throwable {
+        PRINTLN.invokeExact(display, SAVED, SAVED_ARGUMENTS);
+    }
+
+    @Benchmark
+    public void printResult() throws Throwable {
+        PRINT_RESULT.invokeExact(display, add, PLUS, x, y, x + y);
+    }
+
+    /**
+     * superCalc runs a whole interactive session, answering every prompt
+     * from a script, and reports the cost per operator entered
+     */
+    @Benchmark
+    @OperationsPerInvocation(SESSION_OPERATIONS + 1)
+    public void superCalc() throws Throwable {
+        SUPER_CALC.invokeExact((Object) NEW_SCRIPTED_DISPLAY.invokeExact((Object) new ByteArrayInputStream(script), (Object) OutputStream.nullOutputStream()));
+    }
+}
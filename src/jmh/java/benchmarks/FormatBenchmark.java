@@ -0,0 +1,77 @@
+package benchmarks;
+
+/**
+ * FormatBenchmark compares printing a result line the way superCalc used
+ * to, with String.format and Display.println, against Display.printResult.
+ * Output goes to a stream that discards it, so only formatting is timed.
+ *
+ * Run with: mvn -P jmh package && java -jar target/benchmarks.jar FormatBenchmark
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FormatBenchmark {
+
+    private static final Class<?> DISPLAY = Handles.type("Display");
+    private static final Class<?> OPERATOR = Handles.type("Operator");
+    private static final Class<?> REGISTRY = Handles.type("OperatorRegistry");
+
+    private static final MethodHandle NEW_DISPLAY = Handles.constructor(DISPLAY, Scanner.class, PrintStream.class);
+    private static final MethodHandle NEW_REGISTRY = Handles.constructor(REGISTRY, Handles.type("Calculator"));
+    private static final MethodHandle LOOKUP = Handles.method(REGISTRY, "lookup", OPERATOR, String.class);
+    private static final MethodHandle PRINTLN = Handles.method(DISPLAY, "println", void.class, String.class, Object[].class);
+    private static final MethodHandle PRINT_RESULT = Handles.method(DISPLAY, "printResult", void.class,
+            OPERATOR, String.class, double.class, double.class, double.class);
+
+    private static final Object PLUS = "+";
+    private static final Object RESULT_LINE = "\n%s + %s = %s";
+
+    // operands live in fields so the JIT cannot fold the formatting away
+    private double x = 1234.5;
+    private double y = 3.25;
+
+    private Object display;
+    private Object add;
+
+    @Setup
+    public void setUp() throws Throwable {
+        display = (Object) NEW_DISPLAY.invokeExact((Object) new Scanner(""), (Object) new PrintStream(OutputStream.nullOutputStream()));
+        add = (Object) LOOKUP.invokeExact((Object) NEW_REGISTRY.invokeExact(display), PLUS);
+    }
+
+    @Benchmark
+    public void stringFormatAndPrintln() throws Throwable {
+        Double boxedX = x;
+        Double result = x + y;
+        Object arguments = new Object[] {String.format("%s", boxedX), String.format("%s", y), String.format("%s", result)};
+        PRINTLN.invokeExact(display, RESULT_LINE, arguments);
+    }
+
+    @Benchmark
+    public void printResult() throws Throwable {
+        PRINT_RESULT.invokeExact(display, add, PLUS, x, y, x + y);
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+/**
+ * Handles finds the calculator's classes and methods for the benchmarks.
+ * JMH will not generate code for benchmarks in the default package, and
+ * a named package cannot refer to the calculator's classes, so the
+ * benchmarks call them through method handles.  Kept in static final
+ * fields, the handles are constants to the JIT and are inlined like a
+ * direct call.
+ *
+ * @author Cara Eppes, Sean Rowan, Zaina King, Reese Watson
+ * @version 2/11/2019
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+final class Handles {
+
+    private Handles() {
+    }
+
+    /**
+     * type finds one of the calculator's classes
+     *
+     * @param name : the class name, such as "Display"
+     *
+     * @return the class
+     */
+    static Class<?> type(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException ex) {
+            throw new IllegalStateException("Error.  No class called " + name, ex);
+        }
+    }
+
+    /**
+     * method finds a public method, with the object it is called on as the
+     * first argument and every object type turned into Object.  Varargs
+     * are taken as an array, not collected.
+     *
+     * @param owner : the class that has the method
+     * @param name : the method name
+     * @param returnType : what the method returns
+     * @param parameterTypes : the method's parameter types
+     *
+     * @return a handle to call with invokeExact
+     */
+    static MethodHandle method(Class<?> owner, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().findVirtual(owner, name, MethodType.methodType(returnType, parameterTypes)).asFixedArity();
+            return handle.asType(handle.type().erase());
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Error.  No method called " + name, ex);
+        }
+    }
+
+    /**
+     * constructor finds a public constructor, with every object type
+     * turned into Object
+     *
+     * @param owner : the class to construct
+     * @param parameterTypes : the constructor's parameter types
+     *
+     * @return a handle to call with invokeExact
+     */
+    static MethodHandle constructor(Class<?> owner, Class<?>... parameterTypes) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().findConstructor(owner, MethodType.methodType(void.class, parameterTypes));
+            return handle.asType(handle.type().erase());
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Error.  No constructor for " + owner.getName(), ex);
+        }
+    }
+}